@@ -0,0 +1,88 @@
+package com.archiservice.code.tagmeta.domain;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 기존 tagCode 해석 방식(64비트 순회 + Integer 박싱 + 스트림)과 TagCodeDecoder 비교
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TagCodeDecoderBenchmark {
+
+    // 실제 태그 메타는 0~53 비트 사용
+    private static final int TAG_BITS = 54;
+    private static final int SAMPLE_COUNT = 1024;
+
+    private final Map<Integer, String> legacyCache = new ConcurrentHashMap<>();
+    private TagCodeDecoder decoder;
+    private long[] tagCodes;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        String[] descriptions = new String[Long.SIZE];
+        for (int position = 0; position < TAG_BITS; position++) {
+            descriptions[position] = "태그" + position;
+            legacyCache.put(position, descriptions[position]);
+        }
+        decoder = TagCodeDecoder.ofDescriptions(descriptions);
+
+        // 상품/사용자 태그 코드처럼 5~10 개 비트가 켜진 코드 샘플
+        SplittableRandom random = new SplittableRandom(42);
+        tagCodes = new long[SAMPLE_COUNT];
+        for (int i = 0; i < SAMPLE_COUNT; i++) {
+            int bits = 5 + random.nextInt(6);
+            long code = 0L;
+            for (int b = 0; b < bits; b++) {
+                code |= 1L << random.nextInt(TAG_BITS);
+            }
+            tagCodes[i] = code;
+        }
+    }
+
+    private long nextTagCode() {
+        cursor = (cursor + 1) & (SAMPLE_COUNT - 1);
+        return tagCodes[cursor];
+    }
+
+    @Benchmark
+    public List<String> legacyLoop() {
+        long tagCode = nextTagCode();
+
+        List<Integer> positions = new ArrayList<>();
+        for (int position = 0; position < 64; position++) {
+            if ((tagCode & (1L << position)) != 0) {
+                positions.add(position);
+            }
+        }
+
+        return positions.stream()
+                .map(legacyCache::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<String> chunkTableUncached() {
+        return decoder.decodeUncached(nextTagCode());
+    }
+
+    @Benchmark
+    public List<String> chunkTableCached() {
+        return decoder.decode(nextTagCode());
+    }
+}
@@ -0,0 +1,37 @@
+package com.archiservice.badword.controller;
+
+import com.archiservice.badword.dto.request.BadWordRequestDto;
+import com.archiservice.badword.service.BadWordDictionaryService;
+import com.archiservice.common.response.ApiResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/admin/bad-words")
+public class BadWordAdminController {
+
+    private final BadWordDictionaryService badWordDictionaryService;
+
+    @PostMapping
+    public ResponseEntity<ApiResponse<Long>> addBadWord(@RequestBody @Valid BadWordRequestDto requestDto) {
+        return ResponseEntity.ok(ApiResponse.success("불용어 등록 성공", badWordDictionaryService.addBadWord(requestDto.getWord())));
+    }
+
+    @PostMapping("/delete")
+    public ResponseEntity<ApiResponse<Long>> removeBadWord(@RequestBody @Valid BadWordRequestDto requestDto) {
+        return ResponseEntity.ok(ApiResponse.success("불용어 삭제 성공", badWordDictionaryService.removeBadWord(requestDto.getWord())));
+    }
+
+    @PostMapping("/allowed")
+    public ResponseEntity<ApiResponse<Long>> addAllowedWord(@RequestBody @Valid BadWordRequestDto requestDto) {
+        return ResponseEntity.ok(ApiResponse.success("허용단어 등록 성공", badWordDictionaryService.addAllowedWord(requestDto.getWord())));
+    }
+
+    @PostMapping("/allowed/delete")
+    public ResponseEntity<ApiResponse<Long>> removeAllowedWord(@RequestBody @Valid BadWordRequestDto requestDto) {
+        return ResponseEntity.ok(ApiResponse.success("허용단어 삭제 성공", badWordDictionaryService.removeAllowedWord(requestDto.getWord())));
+    }
+}
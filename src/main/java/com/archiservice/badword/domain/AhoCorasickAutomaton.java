@@ -3,92 +3,517 @@ package com.archiservice.badword.domain;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 
+/**
+ * 불용어 검색용 Aho-Corasick 오토마톤
+ * addPattern 으로 트라이를 만들고 buildFailureLinks 에서 배열 기반 구조로 컴파일
+ * - 문자 -> 문자 클래스(패턴에 등장한 문자만 1..N, 나머지 0) 매핑
+ * - 상태별 전이는 CSR(edgeStart/edgeClass/edgeTarget) 로 클래스 오름차순 저장, 루트는 클래스별 직접 조회 테이블
+ * - 출력(패턴 번호)은 실패 링크를 따라 상속된 것까지 평탄화한 int 배열
+ * 컴파일 이후에는 불변이므로 여러 스레드에서 동시에 search 가능
+ */
 public class AhoCorasickAutomaton {
 
-    private TrieNode root;
-    private List<String> patterns;
+    private static final int ROOT = 0;
+    private static final int NO_STATE = -1;
+
+    // 구축 단계 트라이 (컴파일 후 해제)
+    private List<Map<Character, Integer>> buildChildren;
+    private int[] terminalStates = new int[16];
+    private int[] terminalPatterns = new int[16];
+    private int terminalCount;
+
+    private String[] patterns = new String[16];
+    private int[] patternLengths = new int[16];
+    private int patternCount;
+    private int maxPatternLength;
+
+    // 컴파일 결과
+    private char[] charClass;
+    private int[] rootNext;
+    private int[] edgeStart;
+    private char[] edgeClass;
+    private int[] edgeTarget;
+    private int[] failure;
+    private int[] outputStart;
+    private int[] outputs;
 
     public AhoCorasickAutomaton() {
-        this.root = new TrieNode();
-        this.patterns = new ArrayList<>();
+        this.buildChildren = new ArrayList<>();
+        this.buildChildren.add(new HashMap<>());
     }
 
     public void addPattern(String pattern, int index) {
-        patterns.add(pattern);
-        TrieNode current = root;
+        if (buildChildren == null) {
+            throw new IllegalStateException("buildFailureLinks 이후에는 패턴을 추가할 수 없습니다.");
+        }
+        ensurePatternCapacity(index);
+        patterns[index] = pattern;
+        patternLengths[index] = pattern.length();
+        patternCount = Math.max(patternCount, index + 1);
+        maxPatternLength = Math.max(maxPatternLength, pattern.length());
 
-        for (char c : pattern.toCharArray()) {
-            current = current.children.computeIfAbsent(c, k -> new TrieNode());
+        if (pattern.isEmpty()) {
+            return;
         }
 
-        current.output.add(index);
+        int current = ROOT;
+        for (int i = 0; i < pattern.length(); i++) {
+            Map<Character, Integer> children = buildChildren.get(current);
+            Integer next = children.get(pattern.charAt(i));
+            if (next == null) {
+                next = buildChildren.size();
+                children.put(pattern.charAt(i), next);
+                buildChildren.add(new HashMap<>());
+            }
+            current = next;
+        }
+
+        addTerminal(current, index);
     }
 
     public void buildFailureLinks() {
-        Queue<TrieNode> queue = new ArrayDeque<>();
-
-        for (TrieNode child : root.children.values()) {
-            child.failure = root;
-            queue.offer(child);
+        if (buildChildren == null) {
+            return;
         }
 
-        while (!queue.isEmpty()) {
-            TrieNode current = queue.poll();
+        int stateCount = buildChildren.size();
+        int classCount = buildCharClasses();
+        int[] newIds = buildTransitions(stateCount, classCount);
+        buildFailures(stateCount);
+        buildOutputs(stateCount, newIds);
 
-            for (Map.Entry<Character, TrieNode> entry : current.children.entrySet()) {
-                char c = entry.getKey();
-                TrieNode child = entry.getValue();
+        buildChildren = null;
+        terminalStates = null;
+        terminalPatterns = null;
+    }
+
+    public List<MatchResult> search(String text) {
+        List<MatchResult> results = new ArrayList<>();
+        search(text, (start, end, patternIndex) -> {
+            results.add(new MatchResult(start, end, patterns[patternIndex]));
+            return true;
+        });
+        return results;
+    }
 
-                TrieNode failure = current.failure;
-                while (failure != null && !failure.children.containsKey(c)) {
-                    failure = failure.failure;
+    /**
+     * 매칭마다 결과 객체를 만들지 않는 검색
+     * @return 리스너가 false 를 반환해 중단되었으면 false
+     */
+    public boolean search(CharSequence text, MatchListener listener) {
+        ensureCompiled();
+        int state = ROOT;
+
+        for (int i = 0; i < text.length(); i++) {
+            state = nextState(state, text.charAt(i));
+
+            for (int o = outputStart[state], end = outputStart[state + 1]; o < end; o++) {
+                int patternIndex = outputs[o];
+                if (!listener.onMatch(i - patternLengths[patternIndex] + 1, i, patternIndex)) {
+                    return false;
                 }
+            }
+        }
+        return true;
+    }
+
+    public String getPattern(int patternIndex) {
+        return patterns[patternIndex];
+    }
+
+    public int getPatternLength(int patternIndex) {
+        return patternLengths[patternIndex];
+    }
+
+    /**
+     * 패턴 번호 상한 (0 ~ getPatternCount()-1, 비어 있는 번호는 getPattern 이 null)
+     */
+    public int getPatternCount() {
+        return patternCount;
+    }
+
+    public int getMaxPatternLength() {
+        return maxPatternLength;
+    }
+
+    public int getStateCount() {
+        ensureCompiled();
+        return failure.length;
+    }
+
+    /**
+     * 문자 단위 스트리밍 검색용: 시작 상태에서 nextState 로 한 글자씩 진행하고
+     * getMatchCount/getMatchPatternIndex 로 해당 위치에서 끝나는 패턴을 확인
+     */
+    public int getInitialState() {
+        ensureCompiled();
+        return ROOT;
+    }
+
+    public int getMatchCount(int state) {
+        return outputStart[state + 1] - outputStart[state];
+    }
+
+    public int getMatchPatternIndex(int state, int matchIndex) {
+        return outputs[outputStart[state] + matchIndex];
+    }
+
+    public int nextState(int state, char c) {
+        int cls = charClass[c];
+        if (cls == 0) {
+            return ROOT;
+        }
+        return step(state, cls);
+    }
 
-                if (failure == null) {
-                    child.failure = root;
-                } else {
-                    child.failure = failure.children.get(c);
-                    child.output.addAll(child.failure.output);
+    private int step(int state, int cls) {
+        while (state != ROOT) {
+            int next = findEdge(state, cls);
+            if (next != NO_STATE) {
+                return next;
+            }
+            state = failure[state];
+        }
+        return rootNext[cls];
+    }
+
+    private int findEdge(int state, int cls) {
+        int low = edgeStart[state];
+        int high = edgeStart[state + 1] - 1;
+
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int midClass = edgeClass[mid];
+            if (midClass < cls) {
+                low = mid + 1;
+            } else if (midClass > cls) {
+                high = mid - 1;
+            } else {
+                return edgeTarget[mid];
+            }
+        }
+        return NO_STATE;
+    }
+
+    private int buildCharClasses() {
+        charClass = new char[Character.MAX_VALUE + 1];
+        int classCount = 0;
+
+        for (Map<Character, Integer> children : buildChildren) {
+            for (char c : children.keySet()) {
+                if (charClass[c] == 0) {
+                    charClass[c] = (char) ++classCount;
                 }
+            }
+        }
+        return classCount;
+    }
+
+    /**
+     * BFS 순서로 상태 번호를 다시 매기며 CSR 전이 테이블 생성
+     * @return 구축 단계 상태 번호 -> 컴파일된 상태 번호
+     */
+    private int[] buildTransitions(int stateCount, int classCount) {
+        int[] order = new int[stateCount];
+        int[] newIds = new int[stateCount];
+        edgeStart = new int[stateCount + 1];
+        edgeClass = new char[stateCount - 1];
+        edgeTarget = new int[stateCount - 1];
+        rootNext = new int[classCount + 1];
+
+        int head = 0;
+        int tail = 1;
+        int edge = 0;
+        order[0] = ROOT;
+
+        while (head < tail) {
+            int state = head++;
+            newIds[order[state]] = state;
+            edgeStart[state] = edge;
 
-                queue.offer(child);
+            // (클래스 << 16 | 문자) 로 묶어 정렬하면 클래스 오름차순으로 문자를 꺼낼 수 있음
+            Map<Character, Integer> children = buildChildren.get(order[state]);
+            long[] keys = new long[children.size()];
+            int count = 0;
+            for (char c : children.keySet()) {
+                keys[count++] = ((long) charClass[c] << 16) | c;
             }
+            Arrays.sort(keys);
+
+            for (long key : keys) {
+                edgeClass[edge] = (char) (key >>> 16);
+                edgeTarget[edge] = tail;
+                order[tail++] = children.get((char) (key & 0xFFFF));
+                edge++;
+            }
+        }
+        edgeStart[stateCount] = edge;
+
+        for (int e = edgeStart[ROOT]; e < edgeStart[ROOT + 1]; e++) {
+            rootNext[edgeClass[e]] = edgeTarget[e];
         }
+        return newIds;
     }
 
-    public List<MatchResult> search(String text) {
-        List<MatchResult> results = new ArrayList<>();
-        TrieNode current = root;
+    // BFS 순서상 실패 상태는 항상 먼저 계산되어 있음
+    private void buildFailures(int stateCount) {
+        failure = new int[stateCount];
 
-        for (int i = 0; i < text.length(); i++) {
-            char c = text.charAt(i);
+        for (int state = 0; state < stateCount; state++) {
+            for (int e = edgeStart[state]; e < edgeStart[state + 1]; e++) {
+                int child = edgeTarget[e];
+                failure[child] = state == ROOT ? ROOT : step(failure[state], edgeClass[e]);
+            }
+        }
+    }
+
+    private void buildOutputs(int stateCount, int[] newIds) {
+        int[] ownCount = new int[stateCount];
+        for (int t = 0; t < terminalCount; t++) {
+            ownCount[newIds[terminalStates[t]]]++;
+        }
+
+        int[] totalCount = new int[stateCount];
+        outputStart = new int[stateCount + 1];
+        for (int state = 0; state < stateCount; state++) {
+            totalCount[state] = ownCount[state] + (state == ROOT ? 0 : totalCount[failure[state]]);
+            outputStart[state + 1] = outputStart[state] + totalCount[state];
+        }
+
+        outputs = new int[outputStart[stateCount]];
+        int[] cursor = Arrays.copyOf(outputStart, stateCount);
+        for (int t = 0; t < terminalCount; t++) {
+            int state = newIds[terminalStates[t]];
+            outputs[cursor[state]++] = terminalPatterns[t];
+        }
+
+        for (int state = 1; state < stateCount; state++) {
+            int fail = failure[state];
+            int inherited = outputStart[fail + 1] - outputStart[fail];
+            System.arraycopy(outputs, outputStart[fail], outputs, cursor[state], inherited);
+        }
+    }
 
-            while (current != null && !current.children.containsKey(c)) {
-                current = current.failure;
+    /**
+     * 컴파일된 테이블을 그대로 기록 (트라이 재구축 없이 readFrom 으로 복원)
+     * 문자 클래스 표는 0 이 아닌 항목만 (문자, 클래스) 쌍으로 기록
+     */
+    public void writeTo(DataOutputStream out) throws IOException {
+        ensureCompiled();
+
+        out.writeInt(patternCount);
+        for (int i = 0; i < patternCount; i++) {
+            if (patterns[i] == null) {
+                out.writeInt(-1);
+                continue;
             }
+            byte[] bytes = patterns[i].getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
 
-            if (current == null) {
-                current = root;
+        int mappedChars = 0;
+        for (char cls : charClass) {
+            if (cls != 0) {
+                mappedChars++;
+            }
+        }
+        out.writeInt(mappedChars);
+        for (int c = 0; c < charClass.length; c++) {
+            if (charClass[c] != 0) {
+                out.writeChar(c);
+                out.writeChar(charClass[c]);
+            }
+        }
+
+        writeInts(out, rootNext);
+        writeInts(out, edgeStart);
+        writeChars(out, edgeClass);
+        writeInts(out, edgeTarget);
+        writeInts(out, failure);
+        writeInts(out, outputStart);
+        writeInts(out, outputs);
+    }
+
+    /**
+     * writeTo 로 기록한 테이블 복원. 검색 중 범위를 벗어나거나 끝나지 않는 상태가 없도록 읽으면서 구조를 검증
+     * @throws BufferUnderflowException 길이 값이 남은 바이트보다 큰 경우
+     * @throws IllegalArgumentException 상태 번호/문자 클래스/패턴 번호가 테이블 범위를 벗어난 경우
+     */
+    public static AhoCorasickAutomaton readFrom(ByteBuffer in) {
+        AhoCorasickAutomaton automaton = new AhoCorasickAutomaton();
+        automaton.buildChildren = null;
+        automaton.terminalStates = null;
+        automaton.terminalPatterns = null;
+
+        int patternCount = checkedLength(in, Integer.BYTES);
+        automaton.patterns = new String[Math.max(1, patternCount)];
+        automaton.patternLengths = new int[Math.max(1, patternCount)];
+        automaton.patternCount = patternCount;
+        for (int i = 0; i < patternCount; i++) {
+            int length = in.getInt();
+            if (length < 0) {
                 continue;
             }
+            if (length > in.remaining()) {
+                throw new BufferUnderflowException();
+            }
+            byte[] bytes = new byte[length];
+            in.get(bytes);
+            String pattern = new String(bytes, StandardCharsets.UTF_8);
+            automaton.patterns[i] = pattern;
+            automaton.patternLengths[i] = pattern.length();
+            automaton.maxPatternLength = Math.max(automaton.maxPatternLength, pattern.length());
+        }
+
+        automaton.charClass = new char[Character.MAX_VALUE + 1];
+        int mappedChars = checkedLength(in, Character.BYTES * 2);
+        for (int i = 0; i < mappedChars; i++) {
+            char c = in.getChar();
+            automaton.charClass[c] = in.getChar();
+        }
+
+        automaton.rootNext = readInts(in);
+        automaton.edgeStart = readInts(in);
+        automaton.edgeClass = readChars(in);
+        automaton.edgeTarget = readInts(in);
+        automaton.failure = readInts(in);
+        automaton.outputStart = readInts(in);
+        automaton.outputs = readInts(in);
+        automaton.validateTables();
+        return automaton;
+    }
+
+    /**
+     * 컴파일 결과와 같은 불변식을 확인
+     * - 전이 구간과 출력 구간은 0 에서 시작해 배열 끝까지 단조 증가
+     * - 상태별 전이 클래스는 오름차순(이진 탐색), 전이 대상과 실패 상태는 BFS 순서상 각각 뒤/앞 (실패 링크 순회가 반드시 루트에서 끝남)
+     * - 출력 패턴은 존재하는 번호이고 길이가 상태 깊이 이하 (매칭 시작 위치가 음수가 되지 않음)
+     */
+    private void validateTables() {
+        int stateCount = failure.length;
+        int classCount = rootNext.length;
+        require(stateCount > 0 && classCount > 0, "상태/클래스 수");
+        require(edgeStart.length == stateCount + 1 && outputStart.length == stateCount + 1, "상태 테이블 길이");
+        require(edgeClass.length == edgeTarget.length, "전이 테이블 길이");
+        require(edgeStart[0] == 0 && edgeStart[stateCount] == edgeTarget.length, "전이 구간");
+        require(outputStart[0] == 0 && outputStart[stateCount] == outputs.length, "출력 구간");
+        for (int state = 0; state < stateCount; state++) {
+            require(edgeStart[state] <= edgeStart[state + 1], "전이 구간");
+            require(outputStart[state] <= outputStart[state + 1], "출력 구간");
+        }
 
-            current = current.children.get(c);
+        for (char cls : charClass) {
+            require(cls < classCount, "문자 클래스");
+        }
+        for (int target : rootNext) {
+            require(target >= 0 && target < stateCount, "루트 전이");
+        }
+
+        int[] depth = new int[stateCount];
+        require(failure[ROOT] == ROOT, "루트 실패 링크");
+        for (int state = 0; state < stateCount; state++) {
+            require(state == ROOT || (failure[state] >= 0 && failure[state] < state), "실패 링크");
+
+            int previousClass = 0;
+            for (int e = edgeStart[state]; e < edgeStart[state + 1]; e++) {
+                require(edgeClass[e] > previousClass && edgeClass[e] < classCount, "전이 클래스");
+                require(edgeTarget[e] > state && edgeTarget[e] < stateCount, "전이 대상");
+                previousClass = edgeClass[e];
+                depth[edgeTarget[e]] = depth[state] + 1;
+            }
 
-            for (Integer patternIndex : current.output) {
-                String pattern = patterns.get(patternIndex);
-                results.add(new MatchResult(i - pattern.length() + 1, i, pattern));
+            for (int o = outputStart[state]; o < outputStart[state + 1]; o++) {
+                int patternIndex = outputs[o];
+                require(patternIndex >= 0 && patternIndex < patternCount && patterns[patternIndex] != null, "출력 패턴");
+                require(patternLengths[patternIndex] <= depth[state], "출력 패턴 길이");
             }
         }
+    }
 
-        return results;
+    private static void require(boolean condition, String table) {
+        if (!condition) {
+            throw new IllegalArgumentException("손상된 오토마톤 테이블: " + table);
+        }
+    }
+
+    private static void writeInts(DataOutputStream out, int[] values) throws IOException {
+        out.writeInt(values.length);
+        for (int value : values) {
+            out.writeInt(value);
+        }
+    }
+
+    private static void writeChars(DataOutputStream out, char[] values) throws IOException {
+        out.writeInt(values.length);
+        for (char value : values) {
+            out.writeChar(value);
+        }
+    }
+
+    // 길이 헤더 뒤의 연속 구간을 버퍼 뷰로 한 번에 복사
+    private static int[] readInts(ByteBuffer in) {
+        int[] values = new int[checkedLength(in, Integer.BYTES)];
+        in.asIntBuffer().get(values);
+        in.position(in.position() + values.length * Integer.BYTES);
+        return values;
     }
 
-    private static class TrieNode {
-        Map<Character, TrieNode> children = new HashMap<>();
-        TrieNode failure;
-        List<Integer> output = new ArrayList<>();
+    private static char[] readChars(ByteBuffer in) {
+        char[] values = new char[checkedLength(in, Character.BYTES)];
+        in.asCharBuffer().get(values);
+        in.position(in.position() + values.length * Character.BYTES);
+        return values;
+    }
+
+    // 손상된 길이 값으로 큰 배열을 할당하지 않도록 남은 바이트 수로 검증
+    private static int checkedLength(ByteBuffer in, int elementBytes) {
+        int length = in.getInt();
+        if (length < 0 || (long) length * elementBytes > in.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        return length;
+    }
+
+    private void addTerminal(int state, int patternIndex) {
+        if (terminalCount == terminalStates.length) {
+            terminalStates = Arrays.copyOf(terminalStates, terminalCount * 2);
+            terminalPatterns = Arrays.copyOf(terminalPatterns, terminalCount * 2);
+        }
+        terminalStates[terminalCount] = state;
+        terminalPatterns[terminalCount] = patternIndex;
+        terminalCount++;
+    }
+
+    private void ensurePatternCapacity(int index) {
+        if (index >= patterns.length) {
+            int capacity = Math.max(index + 1, patterns.length * 2);
+            patterns = Arrays.copyOf(patterns, capacity);
+            patternLengths = Arrays.copyOf(patternLengths, capacity);
+        }
+    }
+
+    private void ensureCompiled() {
+        if (buildChildren != null) {
+            throw new IllegalStateException("buildFailureLinks 호출 후 검색할 수 있습니다.");
+        }
+    }
+
+    @FunctionalInterface
+    public interface MatchListener {
+        /**
+         * @param startIndex 매칭 시작 위치 (포함)
+         * @param endIndex 매칭 끝 위치 (포함)
+         * @return 계속 검색하려면 true
+         */
+        boolean onMatch(int startIndex, int endIndex, int patternIndex);
     }
 
     @Data
@@ -99,4 +524,3 @@ public class AhoCorasickAutomaton {
         private String pattern;
     }
 }
-
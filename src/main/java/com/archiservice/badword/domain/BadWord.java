@@ -7,7 +7,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "bad_words")
+@Table(name = "bad_words", indexes = @Index(name = "idx_bad_words_revision", columnList = "revision"))
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -20,5 +20,17 @@ public class BadWord {
 
     @Column(nullable = false, unique = true)
     private String word;
+
+    // 사전 변경 이력: 변경될 때마다 증가하는 리비전, 삭제는 소프트 삭제
+    @Column(nullable = false, columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    private long revision;
+
+    @Column(nullable = false, columnDefinition = "BOOLEAN NOT NULL DEFAULT FALSE")
+    private boolean deleted;
+
+    public void markChanged(long revision, boolean deleted) {
+        this.revision = revision;
+        this.deleted = deleted;
+    }
 }
 
@@ -0,0 +1,222 @@
+package com.archiservice.badword.domain;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 불용어 사전 스냅샷 (불변)
+ * 오토마톤과 허용단어를 한 객체로 묶어 한 번의 참조 교체로 함께 바뀌도록 함
+ * 자모 모드에서는 같은 패턴 번호로 자모 오토마톤을 함께 보관 (자모로 표현할 수 없는 패턴은 음절 오토마톤에만 존재)
+ */
+public final class BadWordDictionary {
+
+    // 스냅샷 포맷: MAGIC, FORMAT_VERSION, revision, 허용단어, 컴파일된 오토마톤, 자모 오토마톤 유무 + 자모 오토마톤
+    // (불용어는 오토마톤 패턴에서 복원)
+    private static final int MAGIC = 0x42574431; // "BWD1"
+    private static final int FORMAT_VERSION = 2;
+
+    // 자모 1개로 줄어드는 패턴(ㅋㅋ 등)은 오탐이 많아 자모 매칭에서 제외
+    private static final int MIN_JAMO_PATTERN_LENGTH = 2;
+
+    public static final BadWordDictionary EMPTY = of(Collections.emptySet(), Collections.emptySet(), 0L);
+
+    private final AhoCorasickAutomaton automaton;
+    private final AhoCorasickAutomaton jamoAutomaton;
+    private final boolean jamoCoversAll;
+    private final Set<String> badWords;
+    private final Set<String> allowedWords;
+    private final long revision;
+
+    private BadWordDictionary(AhoCorasickAutomaton automaton, AhoCorasickAutomaton jamoAutomaton,
+                              Set<String> badWords, Set<String> allowedWords, long revision) {
+        this.automaton = automaton;
+        this.jamoAutomaton = jamoAutomaton;
+        this.jamoCoversAll = jamoAutomaton != null && coversAll(automaton, jamoAutomaton);
+        this.badWords = badWords;
+        this.allowedWords = allowedWords;
+        this.revision = revision;
+    }
+
+    /**
+     * @param badWords 소문자로 정규화된 불용어
+     * @param allowedWords 소문자로 정규화된 허용단어
+     */
+    public static BadWordDictionary of(Set<String> badWords, Set<String> allowedWords, long revision) {
+        return of(badWords, allowedWords, revision, false);
+    }
+
+    /**
+     * @param jamoEnabled 자모 오토마톤도 함께 구축
+     */
+    public static BadWordDictionary of(Set<String> badWords, Set<String> allowedWords, long revision, boolean jamoEnabled) {
+        AhoCorasickAutomaton automaton = new AhoCorasickAutomaton();
+        AhoCorasickAutomaton jamoAutomaton = jamoEnabled ? new AhoCorasickAutomaton() : null;
+        int patternIndex = 0;
+        for (String word : badWords) {
+            if (jamoAutomaton != null && isHangulOnly(word)) {
+                String jamo = JamoNormalizer.normalizeWord(word);
+                if (jamo != null && jamo.length() >= MIN_JAMO_PATTERN_LENGTH) {
+                    jamoAutomaton.addPattern(jamo, patternIndex);
+                }
+            }
+            automaton.addPattern(word, patternIndex++);
+        }
+        automaton.buildFailureLinks();
+        if (jamoAutomaton != null) {
+            jamoAutomaton.buildFailureLinks();
+        }
+
+        return new BadWordDictionary(automaton, jamoAutomaton,
+                Collections.unmodifiableSet(new HashSet<>(badWords)),
+                Collections.unmodifiableSet(new HashSet<>(allowedWords)),
+                revision);
+    }
+
+    /**
+     * 단어 구성은 같고 리비전만 앞선 경우 오토마톤을 재사용
+     */
+    public BadWordDictionary withRevision(long revision) {
+        return new BadWordDictionary(automaton, jamoAutomaton, badWords, allowedWords, revision);
+    }
+
+    public boolean hasSameWords(Set<String> otherBadWords, Set<String> otherAllowedWords) {
+        return badWords.equals(otherBadWords) && allowedWords.equals(otherAllowedWords);
+    }
+
+    public byte[] toBytes() {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(64 * 1024);
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeLong(revision);
+
+            out.writeInt(allowedWords.size());
+            for (String word : allowedWords) {
+                byte[] bytes = word.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+
+            automaton.writeTo(out);
+            out.writeBoolean(jamoAutomaton != null);
+            if (jamoAutomaton != null) {
+                jamoAutomaton.writeTo(out);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    /**
+     * @throws IllegalArgumentException 포맷이 다르거나 손상된 스냅샷
+     */
+    public static BadWordDictionary fromBytes(byte[] snapshot) {
+        try {
+            ByteBuffer in = ByteBuffer.wrap(snapshot);
+            if (in.getInt() != MAGIC || in.getInt() != FORMAT_VERSION) {
+                throw new IllegalArgumentException("지원하지 않는 불용어 사전 스냅샷 포맷");
+            }
+            long revision = in.getLong();
+
+            int allowedCount = in.getInt();
+            if (allowedCount < 0 || (long) allowedCount * Integer.BYTES > in.remaining()) {
+                throw new BufferUnderflowException();
+            }
+            Set<String> allowedWords = new HashSet<>(allowedCount * 2);
+            for (int i = 0; i < allowedCount; i++) {
+                int length = in.getInt();
+                if (length < 0 || length > in.remaining()) {
+                    throw new BufferUnderflowException();
+                }
+                byte[] bytes = new byte[length];
+                in.get(bytes);
+                allowedWords.add(new String(bytes, StandardCharsets.UTF_8));
+            }
+
+            AhoCorasickAutomaton automaton = AhoCorasickAutomaton.readFrom(in);
+            AhoCorasickAutomaton jamoAutomaton = in.get() != 0 ? AhoCorasickAutomaton.readFrom(in) : null;
+            // 자모 매칭 결과는 음절 오토마톤의 같은 번호 패턴으로 보고하므로 번호 범위가 같아야 함
+            if (jamoAutomaton != null && jamoAutomaton.getPatternCount() > automaton.getPatternCount()) {
+                throw new IllegalArgumentException("손상된 불용어 사전 스냅샷: 자모 패턴 번호 범위");
+            }
+            Set<String> badWords = new HashSet<>(automaton.getPatternCount() * 2);
+            for (int i = 0; i < automaton.getPatternCount(); i++) {
+                String pattern = automaton.getPattern(i);
+                if (pattern != null) {
+                    badWords.add(pattern);
+                }
+            }
+
+            return new BadWordDictionary(automaton, jamoAutomaton,
+                    Collections.unmodifiableSet(badWords),
+                    Collections.unmodifiableSet(allowedWords),
+                    revision);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException e) {
+            throw new IllegalArgumentException("손상된 불용어 사전 스냅샷", e);
+        }
+    }
+
+    public AhoCorasickAutomaton getAutomaton() {
+        return automaton;
+    }
+
+    public boolean hasJamoAutomaton() {
+        return jamoAutomaton != null;
+    }
+
+    /**
+     * 패턴 번호는 음절 오토마톤과 같음 (검출 결과는 음절 오토마톤의 원래 패턴으로 보고)
+     */
+    public AhoCorasickAutomaton getJamoAutomaton() {
+        return jamoAutomaton;
+    }
+
+    /**
+     * 모든 패턴이 자모 오토마톤에 있으면 음절 단위 검사를 생략할 수 있음
+     */
+    public boolean isJamoCoversAll() {
+        return jamoCoversAll;
+    }
+
+    public Set<String> getBadWords() {
+        return badWords;
+    }
+
+    public Set<String> getAllowedWords() {
+        return allowedWords;
+    }
+
+    public long getRevision() {
+        return revision;
+    }
+
+    // 영문/숫자가 섞인 패턴은 유사 문자 접기로 뜻이 바뀔 수 있어 음절 매칭으로만 검사
+    private static boolean isHangulOnly(String word) {
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (!((c >= '가' && c <= '힣') || JamoNormalizer.isJamo(c))) {
+                return false;
+            }
+        }
+        return !word.isEmpty();
+    }
+
+    private static boolean coversAll(AhoCorasickAutomaton automaton, AhoCorasickAutomaton jamoAutomaton) {
+        for (int i = 0; i < automaton.getPatternCount(); i++) {
+            if (automaton.getPattern(i) != null
+                    && (i >= jamoAutomaton.getPatternCount() || jamoAutomaton.getPattern(i) == null)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,11 @@
+package com.archiservice.badword.domain;
+
+/**
+ * 불용어 매칭 방식
+ * - SYLLABLE: 한글 음절/영문/숫자 단위 매칭
+ * - JAMO: 자모 분해 + 유사 문자 접기 + 반복 합치기 후 매칭 (ㅅㅂ, 시1발, 씨ㅣ발 등 변형 검출)
+ */
+public enum BadWordMatchMode {
+    SYLLABLE,
+    JAMO
+}
@@ -0,0 +1,23 @@
+package com.archiservice.badword.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 불용어 사전 리비전 카운터 (단일 행, id = 1)
+ * 증가는 BadWordRevisionRepository 의 UPDATE ... LAST_INSERT_ID 로만 수행
+ */
+@Entity
+@Table(name = "bad_word_revision")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BadWordRevision {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private long revision;
+}
@@ -0,0 +1,19 @@
+package com.archiservice.badword.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 불용어 검사 결과 (포함 여부 + 검출된 불용어, 중복 제거)
+ */
+@Getter
+@AllArgsConstructor
+public class BadWordScanResult {
+
+    public static final BadWordScanResult CLEAN = new BadWordScanResult(false, List.of());
+
+    private final boolean containsBadWord;
+    private final List<String> badWords;
+}
@@ -0,0 +1,169 @@
+package com.archiservice.badword.domain;
+
+/**
+ * 자모 단위 불용어 매칭용 정규화
+ * - 한글 음절은 초성/중성/종성 호환 자모로 분해 (겹모음/겹받침은 낱자로 분리)
+ * - 된소리는 예사소리로 접음 (ㅆ -> ㅅ 등)
+ * - 한글 사이에 끼워 넣은 숫자/기호는 제거하고, 모양이 비슷한 문자(1, l, |, ! -> ㅣ / 0, o -> ㅇ)는 자모로 접음
+ * - 연속으로 반복되는 같은 자모는 하나로 합침
+ * 원문 한 글자당 최대 MAX_JAMO_PER_CHAR 개를 내보내며, 패턴과 본문에 같은 규칙을 적용
+ */
+public final class JamoNormalizer {
+
+    public static final int MAX_JAMO_PER_CHAR = 5;
+
+    private static final char SYLLABLE_FIRST = '가';
+    private static final char SYLLABLE_LAST = '힣';
+    private static final char JAMO_FIRST = 'ㄱ';
+    private static final char JAMO_LAST = 'ㅣ';
+
+    private static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String JUNGSEONG = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ";
+    private static final String JONGSEONG = "ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ";
+
+    private static final String[][] JAMO_FOLDS = {
+            {"ㄲ", "ㄱ"}, {"ㄸ", "ㄷ"}, {"ㅃ", "ㅂ"}, {"ㅆ", "ㅅ"}, {"ㅉ", "ㅈ"},
+            {"ㄳ", "ㄱㅅ"}, {"ㄵ", "ㄴㅈ"}, {"ㄶ", "ㄴㅎ"}, {"ㄺ", "ㄹㄱ"}, {"ㄻ", "ㄹㅁ"}, {"ㄼ", "ㄹㅂ"},
+            {"ㄽ", "ㄹㅅ"}, {"ㄾ", "ㄹㅌ"}, {"ㄿ", "ㄹㅍ"}, {"ㅀ", "ㄹㅎ"}, {"ㅄ", "ㅂㅅ"},
+            {"ㅘ", "ㅗㅏ"}, {"ㅙ", "ㅗㅐ"}, {"ㅚ", "ㅗㅣ"}, {"ㅝ", "ㅜㅓ"}, {"ㅞ", "ㅜㅔ"}, {"ㅟ", "ㅜㅣ"}, {"ㅢ", "ㅡㅣ"}
+    };
+
+    // 호환 자모 -> 접힌 자모열, 음절 -> 분해된 자모열 (기동 시 한 번 계산)
+    private static final char[][] JAMO_TABLE = buildJamoTable();
+    private static final char[][] SYLLABLE_TABLE = buildSyllableTable();
+
+    private JamoNormalizer() {
+    }
+
+    /**
+     * @param previous 직전에 내보낸 문자 (없으면 0), 반복 합치기와 한글 문맥 판단에 사용
+     * @param out 길이 MAX_JAMO_PER_CHAR 이상
+     * @return out 에 기록한 문자 수 (0 이면 제거된 문자)
+     */
+    public static int normalize(char c, char previous, char[] out) {
+        if (c >= SYLLABLE_FIRST && c <= SYLLABLE_LAST) {
+            return emit(SYLLABLE_TABLE[c - SYLLABLE_FIRST], previous, out);
+        }
+        if (c >= JAMO_FIRST && c <= JAMO_LAST) {
+            return emit(JAMO_TABLE[c - JAMO_FIRST], previous, out);
+        }
+
+        if (c >= 'A' && c <= 'Z') {
+            c = (char) (c + ('a' - 'A'));
+        }
+
+        if (isJamo(previous)) {
+            char folded = foldConfusable(c);
+            if (folded != 0) {
+                if (folded == previous) {
+                    return 0;
+                }
+                out[0] = folded;
+                return 1;
+            }
+            // 한글 사이에 끼워 넣은 숫자
+            if (c >= '0' && c <= '9') {
+                return 0;
+            }
+        }
+
+        if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')) {
+            out[0] = c;
+            return 1;
+        }
+        return 0;
+    }
+
+    /**
+     * 패턴 정규화. 한글 외의 글자/숫자가 제거되어 원래 의미가 바뀌는 패턴은 null
+     */
+    public static String normalizeWord(String word) {
+        StringBuilder normalized = new StringBuilder(word.length() * 3);
+        char[] buffer = new char[MAX_JAMO_PER_CHAR];
+        char previous = 0;
+
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            int count = normalize(c, previous, buffer);
+            if (count == 0) {
+                if (isDropped(c, previous)) {
+                    return null;
+                }
+                continue;
+            }
+            normalized.append(buffer, 0, count);
+            previous = buffer[count - 1];
+        }
+        return normalized.toString();
+    }
+
+    public static boolean isJamo(char c) {
+        return c >= JAMO_FIRST && c <= JAMO_LAST;
+    }
+
+    // 반복 합치기가 아니라 글자/숫자 자체가 제거된 경우
+    private static boolean isDropped(char c, char previous) {
+        if (isHangul(c) || !Character.isLetterOrDigit(c)) {
+            return false;
+        }
+        char lower = c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+        return !(isJamo(previous) && foldConfusable(lower) != 0);
+    }
+
+    private static boolean isHangul(char c) {
+        return (c >= SYLLABLE_FIRST && c <= SYLLABLE_LAST) || isJamo(c);
+    }
+
+    private static char foldConfusable(char c) {
+        switch (c) {
+            case '1': case 'l': case '|': case '!':
+                return 'ㅣ';
+            case '0': case 'o':
+                return 'ㅇ';
+            default:
+                return 0;
+        }
+    }
+
+    private static int emit(char[] jamo, char previous, char[] out) {
+        int count = 0;
+        for (char c : jamo) {
+            if (c != previous) {
+                out[count++] = c;
+                previous = c;
+            }
+        }
+        return count;
+    }
+
+    private static char[][] buildJamoTable() {
+        char[][] table = new char[JAMO_LAST - JAMO_FIRST + 1][];
+        for (char c = JAMO_FIRST; c <= JAMO_LAST; c++) {
+            table[c - JAMO_FIRST] = new char[]{c};
+        }
+        for (String[] fold : JAMO_FOLDS) {
+            table[fold[0].charAt(0) - JAMO_FIRST] = fold[1].toCharArray();
+        }
+        return table;
+    }
+
+    private static char[][] buildSyllableTable() {
+        char[][] table = new char[SYLLABLE_LAST - SYLLABLE_FIRST + 1][];
+        StringBuilder jamo = new StringBuilder(MAX_JAMO_PER_CHAR);
+
+        for (int index = 0; index < table.length; index++) {
+            int choseong = index / (JUNGSEONG.length() * (JONGSEONG.length() + 1));
+            int jungseong = (index / (JONGSEONG.length() + 1)) % JUNGSEONG.length();
+            int jongseong = index % (JONGSEONG.length() + 1);
+
+            jamo.setLength(0);
+            jamo.append(JAMO_TABLE[CHOSEONG.charAt(choseong) - JAMO_FIRST]);
+            jamo.append(JAMO_TABLE[JUNGSEONG.charAt(jungseong) - JAMO_FIRST]);
+            if (jongseong > 0) {
+                jamo.append(JAMO_TABLE[JONGSEONG.charAt(jongseong - 1) - JAMO_FIRST]);
+            }
+            table[index] = jamo.toString().toCharArray();
+        }
+        return table;
+    }
+}
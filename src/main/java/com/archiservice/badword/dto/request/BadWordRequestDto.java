@@ -0,0 +1,15 @@
+package com.archiservice.badword.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class BadWordRequestDto {
+
+    @NotBlank(message = "단어는 필수입니다")
+    @Size(max = 255, message = "단어는 255자 이하여야 합니다")
+    private String word;
+}
@@ -0,0 +1,47 @@
+package com.archiservice.badword.redis;
+
+import com.archiservice.badword.service.BadWordFilterService;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 다른 노드에서 발생한 불용어 사전 변경 알림 수신
+ * 메시지 본문은 변경 리비전, 현재 사전보다 앞선 경우에만 갱신 요청
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BadWordChangeListener implements MessageListener {
+
+    public static final String CHANNEL = "bad-words:changed";
+
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final BadWordFilterService badWordFilterService;
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            long revision = Long.parseLong(body.trim());
+            if (revision <= badWordFilterService.getRevision()) {
+                return;
+            }
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 불용어 사전 변경 알림: {}", body);
+        }
+        badWordFilterService.requestRefresh();
+    }
+}
@@ -0,0 +1,105 @@
+package com.archiservice.badword.redis;
+
+import com.archiservice.badword.domain.BadWordDictionary;
+import com.archiservice.badword.domain.BadWordMatchMode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+
+/**
+ * 컴파일된 불용어 사전 바이너리 스냅샷 저장소
+ * Redis(bad_words:snapshot:{매칭 모드}) 를 우선 사용하고, badword.snapshot.file 이 지정되면 로컬 파일에도 보관
+ * 모드마다 오토마톤이 다르므로 키를 나눠 SYLLABLE/JAMO 노드가 서로의 스냅샷을 덮어쓰지 않게 함
+ * (로컬 파일은 노드 전용이라 나누지 않음, 모드가 다른 스냅샷은 읽는 쪽에서 버림)
+ * 스냅샷을 읽은 노드는 JSON 파싱과 트라이 구축 없이 배열을 그대로 복원
+ */
+@Slf4j
+@Component
+public class BadWordSnapshotStore {
+
+    public static final String SNAPSHOT_KEY_PREFIX = "bad_words:snapshot:";
+    private static final Duration SNAPSHOT_TTL = Duration.ofHours(24);
+
+    private final RedisTemplate<String, byte[]> binaryRedisTemplate;
+
+    @Value("${badword.snapshot.file:}")
+    private String snapshotFile;
+
+    @Value("${badword.match-mode:SYLLABLE}")
+    private BadWordMatchMode matchMode = BadWordMatchMode.SYLLABLE;
+
+    public BadWordSnapshotStore(@Qualifier("binaryRedisTemplate") RedisTemplate<String, byte[]> binaryRedisTemplate) {
+        this.binaryRedisTemplate = binaryRedisTemplate;
+    }
+
+    /**
+     * @return 저장된 스냅샷, 없거나 읽을 수 없으면 null
+     */
+    public BadWordDictionary load() {
+        try {
+            byte[] snapshot = binaryRedisTemplate.opsForValue().get(snapshotKey());
+            if (snapshot != null) {
+                return BadWordDictionary.fromBytes(snapshot);
+            }
+        } catch (Exception e) {
+            log.warn("Redis 불용어 사전 스냅샷 로드 실패", e);
+        }
+
+        Path path = snapshotPath();
+        if (path == null || !Files.exists(path)) {
+            return null;
+        }
+        try {
+            return BadWordDictionary.fromBytes(Files.readAllBytes(path));
+        } catch (Exception e) {
+            log.warn("로컬 불용어 사전 스냅샷 로드 실패: {}", path, e);
+            return null;
+        }
+    }
+
+    public void save(BadWordDictionary dictionary) {
+        byte[] snapshot = dictionary.toBytes();
+
+        try {
+            binaryRedisTemplate.opsForValue().set(snapshotKey(), snapshot, SNAPSHOT_TTL);
+        } catch (Exception e) {
+            log.warn("Redis 불용어 사전 스냅샷 저장 실패", e);
+        }
+
+        Path path = snapshotPath();
+        if (path == null) {
+            return;
+        }
+        try {
+            // 임시 파일에 쓴 뒤 교체해 읽는 쪽이 중간 상태를 보지 않도록 함
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+            Files.write(temp, snapshot);
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("로컬 불용어 사전 스냅샷 저장 실패: {}", path, e);
+        }
+
+        log.info("불용어 사전 스냅샷 저장: revision={}, {} bytes", dictionary.getRevision(), snapshot.length);
+    }
+
+    private String snapshotKey() {
+        return SNAPSHOT_KEY_PREFIX + matchMode;
+    }
+
+    private Path snapshotPath() {
+        return snapshotFile == null || snapshotFile.isBlank() ? null : Paths.get(snapshotFile);
+    }
+}
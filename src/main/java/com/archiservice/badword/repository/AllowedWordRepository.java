@@ -6,11 +6,19 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface AllowedWordRepository extends JpaRepository<AllowedWord, Long> {
 
-    @Query("SELECT aw.word FROM AllowedWord aw")
+    @Query("SELECT aw.word FROM AllowedWord aw WHERE aw.deleted = false")
     List<String> findAllWords();
+
+    Optional<AllowedWord> findByWord(String word);
+
+    List<AllowedWord> findByRevisionGreaterThan(long revision);
+
+    @Query("SELECT COALESCE(MAX(aw.revision), 0) FROM AllowedWord aw")
+    long findMaxRevision();
 }
 
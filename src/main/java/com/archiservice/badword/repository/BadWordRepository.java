@@ -6,11 +6,19 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface BadWordRepository extends JpaRepository<BadWord, Long> {
 
-    @Query("SELECT bw.word FROM BadWord bw")
+    @Query("SELECT bw.word FROM BadWord bw WHERE bw.deleted = false")
     List<String> findAllWords();
+
+    Optional<BadWord> findByWord(String word);
+
+    List<BadWord> findByRevisionGreaterThan(long revision);
+
+    @Query("SELECT COALESCE(MAX(bw.revision), 0) FROM BadWord bw")
+    long findMaxRevision();
 }
 
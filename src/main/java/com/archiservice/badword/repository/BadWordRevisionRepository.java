@@ -0,0 +1,38 @@
+package com.archiservice.badword.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 불용어 사전 리비전 발급
+ * 단일 행 카운터를 UPDATE ... LAST_INSERT_ID(revision + 1) 로 올려 노드/요청 간에 같은 리비전이 나오지 않음
+ * 행 잠금은 커밋까지 유지되므로 리비전 순서와 커밋 순서도 같아짐
+ */
+@Repository
+@RequiredArgsConstructor
+public class BadWordRevisionRepository {
+
+    private static final String INCREMENT_SQL =
+            "UPDATE bad_word_revision SET revision = LAST_INSERT_ID(revision + 1) WHERE id = 1";
+
+    // 카운터 행이 없으면 기존 단어의 최대 리비전에서 시작 (동시에 만들어도 한 행만 남음)
+    private static final String INITIALIZE_SQL =
+            "INSERT INTO bad_word_revision (id, revision) SELECT 1, GREATEST(" +
+            "(SELECT COALESCE(MAX(revision), 0) FROM bad_words), " +
+            "(SELECT COALESCE(MAX(revision), 0) FROM allowed_words)) " +
+            "ON DUPLICATE KEY UPDATE id = id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 호출한 트랜잭션의 커넥션에서 실행해야 LAST_INSERT_ID 가 방금 올린 값을 반환
+     */
+    public long nextRevision() {
+        if (jdbcTemplate.update(INCREMENT_SQL) == 0) {
+            jdbcTemplate.update(INITIALIZE_SQL);
+            jdbcTemplate.update(INCREMENT_SQL);
+        }
+        return jdbcTemplate.queryForObject("SELECT LAST_INSERT_ID()", Long.class);
+    }
+}
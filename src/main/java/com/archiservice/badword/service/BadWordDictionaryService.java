@@ -0,0 +1,111 @@
+package com.archiservice.badword.service;
+
+import com.archiservice.badword.domain.AllowedWord;
+import com.archiservice.badword.domain.BadWord;
+import com.archiservice.badword.redis.BadWordChangeListener;
+import com.archiservice.badword.repository.AllowedWordRepository;
+import com.archiservice.badword.repository.BadWordRepository;
+import com.archiservice.badword.repository.BadWordRevisionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 불용어/허용단어 변경
+ * 변경마다 새 리비전을 부여하고 (삭제는 소프트 삭제) 커밋 이후 로컬 갱신 요청 + Redis 로 다른 노드에 알림
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BadWordDictionaryService {
+
+    private final BadWordRepository badWordRepository;
+    private final AllowedWordRepository allowedWordRepository;
+    private final BadWordRevisionRepository badWordRevisionRepository;
+    private final BadWordFilterService badWordFilterService;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Transactional
+    public long addBadWord(String word) {
+        return changeBadWord(word, false);
+    }
+
+    @Transactional
+    public long removeBadWord(String word) {
+        return changeBadWord(word, true);
+    }
+
+    @Transactional
+    public long addAllowedWord(String word) {
+        return changeAllowedWord(word, false);
+    }
+
+    @Transactional
+    public long removeAllowedWord(String word) {
+        return changeAllowedWord(word, true);
+    }
+
+    private long changeBadWord(String word, boolean deleted) {
+        String normalized = normalize(word);
+        long revision = nextRevision();
+
+        BadWord badWord = badWordRepository.findByWord(normalized)
+                .orElseGet(() -> BadWord.builder().word(normalized).build());
+        badWord.markChanged(revision, deleted);
+        badWordRepository.save(badWord);
+
+        publishAfterCommit(revision);
+        return revision;
+    }
+
+    private long changeAllowedWord(String word, boolean deleted) {
+        String normalized = normalize(word);
+        long revision = nextRevision();
+
+        AllowedWord allowedWord = allowedWordRepository.findByWord(normalized)
+                .orElseGet(() -> AllowedWord.builder().word(normalized).build());
+        allowedWord.markChanged(revision, deleted);
+        allowedWordRepository.save(allowedWord);
+
+        publishAfterCommit(revision);
+        return revision;
+    }
+
+    // DB 카운터에서 발급하므로 동시 변경/여러 노드에서도 리비전이 겹치지 않음
+    private long nextRevision() {
+        return badWordRevisionRepository.nextRevision();
+    }
+
+    private void publishAfterCommit(long revision) {
+        Runnable publish = () -> {
+            badWordFilterService.requestRefresh();
+            try {
+                stringRedisTemplate.convertAndSend(BadWordChangeListener.CHANNEL, String.valueOf(revision));
+            } catch (Exception e) {
+                log.warn("불용어 사전 변경 알림 실패 (다른 노드는 주기 폴링으로 반영): revision={}", revision, e);
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish.run();
+                }
+            });
+            return;
+        }
+        publish.run();
+    }
+
+    private String normalize(String word) {
+        if (word == null || word.isBlank()) {
+            throw new IllegalArgumentException("단어가 비어 있습니다.");
+        }
+        return word.trim().toLowerCase();
+    }
+}
@@ -1,127 +1,397 @@
 package com.archiservice.badword.service;
 
 import com.archiservice.badword.domain.AhoCorasickAutomaton;
+import com.archiservice.badword.domain.AllowedWord;
+import com.archiservice.badword.domain.BadWord;
+import com.archiservice.badword.domain.BadWordDictionary;
+import com.archiservice.badword.domain.BadWordMatchMode;
+import com.archiservice.badword.domain.BadWordScanResult;
+import com.archiservice.badword.domain.JamoNormalizer;
+import com.archiservice.badword.redis.BadWordSnapshotStore;
 import com.archiservice.badword.repository.AllowedWordRepository;
 import com.archiservice.badword.repository.BadWordRepository;
+import com.archiservice.exception.business.BadWordDictionaryUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.time.Duration;
-import java.util.Collections;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.concurrent.CompletableFuture;
-import java.util.stream.Collectors;
-
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 불용어 필터
+ * 사전(오토마톤 + 허용단어)은 전용 단일 스레드에서만 구축하고 volatile 참조 한 번으로 교체
+ * - 기동 시 전체 로드(리비전과 단어 목록이 같은 바이너리 스냅샷이 있으면 트라이 구축 없이 복원), 이후에는 리비전이 앞선 변경분만 DB 에서 읽어 반영
+ * - 변경 알림(Redis pub/sub) 또는 주기 폴링으로 갱신 요청, 진행 중인 요청이 있으면 합쳐서 한 번만 실행
+ * - JAMO 모드에서는 자모 오토마톤으로 분해/변형 표기(ㅅㅂ, 시1발 등)까지 검사
+ * - 사전을 아직 구축하지 못한 동안의 처리는 badword.fail-open 으로 결정 (통과시키면 badword.scan.unchecked 로 집계)
+ */
 @Service
 @Slf4j
-@RequiredArgsConstructor
 public class BadWordFilterService {
 
     private final BadWordRepository badWordRepository;
     private final AllowedWordRepository allowedWordRepository;
-    private final RedisTemplate<String, Set<String>> redisTemplate;
-
-    private volatile AhoCorasickAutomaton automaton;
-    private volatile Set<String> allowedWords;
-
-    private static final String REDIS_BAD_WORDS_KEY = "bad_words";
-    private static final String REDIS_ALLOWED_WORDS_KEY = "allowed_words";
-    private static final Duration CACHE_TTL = Duration.ofHours(24);
+    private final BadWordSnapshotStore badWordSnapshotStore;
+    private final Executor badWordExecutor;
+
+    private volatile BadWordDictionary dictionary = BadWordDictionary.EMPTY;
+    private volatile boolean loaded;
+    private final CountDownLatch initialLoad = new CountDownLatch(1);
+    private final AtomicBoolean refreshPending = new AtomicBoolean();
+    private final AtomicBoolean uncheckedWarned = new AtomicBoolean();
+    private final Counter uncheckedCounter;
+
+    private static final String[] KOREAN_PARTICLES = {"이", "가", "을", "를", "은", "는", "에", "에서", "로", "으로"};
+
+    // 리비전은 커밋 순서대로 발급되지만(카운터 행 잠금) 갱신 도중 커밋된 변경을 놓치지 않도록 직전 리비전 일부를 다시 읽음 (반영은 멱등)
+    private static final long REVISION_OVERLAP = 100;
+
+    @Value("${badword.initial-load-wait-ms:3000}")
+    private long initialLoadWaitMs;
+
+    // true: 사전 구축 전에는 검사 없이 통과, false: BadWordDictionaryUnavailableException
+    @Value("${badword.fail-open:true}")
+    private boolean failOpen = true;
+
+    @Value("${badword.match-mode:SYLLABLE}")
+    private BadWordMatchMode matchMode = BadWordMatchMode.SYLLABLE;
+
+    public BadWordFilterService(BadWordRepository badWordRepository,
+                                AllowedWordRepository allowedWordRepository,
+                                BadWordSnapshotStore badWordSnapshotStore,
+                                @Qualifier("badWordExecutor") Executor badWordExecutor,
+                                MeterRegistry meterRegistry) {
+        this.badWordRepository = badWordRepository;
+        this.allowedWordRepository = allowedWordRepository;
+        this.badWordSnapshotStore = badWordSnapshotStore;
+        this.badWordExecutor = badWordExecutor;
+        this.uncheckedCounter = meterRegistry.counter("badword.scan.unchecked");
+    }
 
     @PostConstruct
     public void initializeService() {
-        CompletableFuture.runAsync(this::buildAutomaton)
-                .thenRun(() -> log.info("Aho-Corasick 오토마톤 초기화 완료"))
-                .exceptionally(throwable -> {
-                    log.error("오토마톤 초기화 실패", throwable);
-                    return null;
-                });
+        if (!submitRebuild()) {
+            // 사전 없이 기동하고(fail-open 정책 적용) 다음 주기 폴링에서 다시 전체 로드
+            initialLoad.countDown();
+        }
     }
 
-    private void buildAutomaton() {
+    /**
+     * 변경분 반영 요청. 이미 대기 중인 요청이 있으면 무시 (대기 중인 작업이 최신 변경까지 읽음)
+     */
+    public void requestRefresh() {
+        if (!refreshPending.compareAndSet(false, true)) {
+            return;
+        }
         try {
-            Set<String> badWords = loadBadWordsFromCache();
+            badWordExecutor.execute(() -> {
+                refreshPending.set(false);
+                refreshDictionary();
+            });
+        } catch (RejectedExecutionException e) {
+            refreshPending.set(false);
+            log.warn("불용어 사전 갱신 요청 거부됨", e);
+        }
+    }
 
-            loadAllowedWordsFromCache();
+    public long getRevision() {
+        return dictionary.getRevision();
+    }
 
-            automaton = new AhoCorasickAutomaton();
-            int patternIndex = 0;
+    @Scheduled(fixedDelayString = "${badword.refresh-interval-ms:60000}",
+            initialDelayString = "${badword.refresh-interval-ms:60000}")
+    public void pollChanges() {
+        requestRefresh();
+    }
 
-            for (String word : badWords) {
-                automaton.addPattern(word.toLowerCase(), patternIndex++);
-            }
+    @Scheduled(fixedRate = 43200000, initialDelay = 43200000)
+    public void refreshAutomaton() {
+        submitRebuild();
+    }
+
+    private boolean submitRebuild() {
+        try {
+            badWordExecutor.execute(this::rebuildDictionary);
+            return true;
+        } catch (RejectedExecutionException e) {
+            log.warn("불용어 사전 전체 구축 요청 거부됨", e);
+            return false;
+        }
+    }
 
-            automaton.buildFailureLinks();
-            log.info("Aho-Corasick 오토마톤 구축 완료: {} 개 패턴, {} 개 허용단어",
-                    badWords.size(), allowedWords != null ? allowedWords.size() : 0);
+    private void rebuildDictionary() {
+        try {
+            // 리비전을 먼저 읽어야 이후 변경이 다음 증분 반영에서 누락되지 않음
+            long revision = Math.max(badWordRepository.findMaxRevision(), allowedWordRepository.findMaxRevision());
+
+            Set<String> badWords = normalizeWords(badWordRepository.findAllWords());
+            Set<String> allowedWords = normalizeWords(allowedWordRepository.findAllWords());
+
+            // 증분 갱신과 같은 기준: 리비전과 단어 목록이 모두 같은 스냅샷만 사용 (트라이 구축만 생략)
+            BadWordDictionary snapshot = badWordSnapshotStore.load();
+            if (snapshot != null && snapshot.getRevision() == revision
+                    && snapshot.hasSameWords(badWords, allowedWords) && matchesMode(snapshot)) {
+                dictionary = snapshot;
+                loaded = true;
+                log.info("스냅샷에서 불용어 사전 로드: {} 개 패턴, {} 개 허용단어, revision={}",
+                        snapshot.getBadWords().size(), snapshot.getAllowedWords().size(), revision);
+                return;
+            }
 
+            BadWordDictionary built = BadWordDictionary.of(badWords, allowedWords, revision, isJamoMode());
+            dictionary = built;
+            loaded = true;
+            log.info("Aho-Corasick 오토마톤 구축 완료: {} 개 패턴, {} 개 허용단어, revision={}",
+                    badWords.size(), allowedWords.size(), revision);
+            badWordSnapshotStore.save(built);
         } catch (Exception e) {
             log.error("오토마톤 구축 실패", e);
+        } finally {
+            initialLoad.countDown();
         }
     }
 
-    private void loadAllowedWordsFromCache() {
-        Set<String> cachedAllowedWords = redisTemplate.opsForValue().get(REDIS_ALLOWED_WORDS_KEY);
-
-        if (cachedAllowedWords != null) {
-            this.allowedWords = cachedAllowedWords;
-            log.debug("Redis에서 허용단어 {} 개 로드", allowedWords.size());
+    private void refreshDictionary() {
+        if (!loaded) {
+            rebuildDictionary();
             return;
         }
 
-        List<String> dbAllowedWords = allowedWordRepository.findAllWords();
-        this.allowedWords = new HashSet<>(dbAllowedWords);
+        try {
+            BadWordDictionary current = dictionary;
+            long since = Math.max(0, current.getRevision() - REVISION_OVERLAP);
+            List<BadWord> badWordChanges = badWordRepository.findByRevisionGreaterThan(since);
+            List<AllowedWord> allowedWordChanges = allowedWordRepository.findByRevisionGreaterThan(since);
+
+            long revision = current.getRevision();
+            Set<String> badWords = new HashSet<>(current.getBadWords());
+            for (BadWord change : badWordChanges) {
+                applyChange(badWords, change.getWord(), change.isDeleted());
+                revision = Math.max(revision, change.getRevision());
+            }
+            Set<String> allowedWords = new HashSet<>(current.getAllowedWords());
+            for (AllowedWord change : allowedWordChanges) {
+                applyChange(allowedWords, change.getWord(), change.isDeleted());
+                revision = Math.max(revision, change.getRevision());
+            }
+
+            if (current.hasSameWords(badWords, allowedWords)) {
+                if (revision != current.getRevision()) {
+                    dictionary = current.withRevision(revision);
+                }
+                return;
+            }
+
+            // 변경을 먼저 반영한 노드가 저장한 스냅샷이 있으면 트라이를 다시 만들지 않음
+            BadWordDictionary snapshot = badWordSnapshotStore.load();
+            if (snapshot != null && snapshot.getRevision() == revision
+                    && snapshot.hasSameWords(badWords, allowedWords) && matchesMode(snapshot)) {
+                dictionary = snapshot;
+                log.info("불용어 사전 갱신 (스냅샷): revision {} -> {}", current.getRevision(), revision);
+                return;
+            }
+
+            BadWordDictionary built = BadWordDictionary.of(badWords, allowedWords, revision, isJamoMode());
+            dictionary = built;
+            log.info("불용어 사전 갱신: revision {} -> {}, {} 개 패턴, {} 개 허용단어",
+                    current.getRevision(), revision, badWords.size(), allowedWords.size());
+            badWordSnapshotStore.save(built);
+        } catch (Exception e) {
+            log.error("불용어 사전 증분 갱신 실패, 기존 사전 유지", e);
+        }
+    }
+
+    private boolean isJamoMode() {
+        return matchMode == BadWordMatchMode.JAMO;
+    }
 
-        redisTemplate.opsForValue().set(REDIS_ALLOWED_WORDS_KEY, allowedWords, CACHE_TTL);
-        log.info("DB에서 허용단어 {} 개 로드 및 Redis 캐싱 완료", allowedWords.size());
+    // 다른 모드로 뜬 노드가 저장한 스냅샷은 사용하지 않음
+    private boolean matchesMode(BadWordDictionary snapshot) {
+        return snapshot.hasJamoAutomaton() == isJamoMode();
     }
 
-    public boolean containsBadWord(String content) {
-        if (content == null || content.trim().isEmpty()) {
-            return false;
+    private void applyChange(Set<String> words, String word, boolean deleted) {
+        String normalized = word.toLowerCase();
+        if (deleted) {
+            words.remove(normalized);
+        } else {
+            words.add(normalized);
+        }
+    }
+
+    private Set<String> normalizeWords(List<String> words) {
+        Set<String> normalized = new HashSet<>(words.size() * 2);
+        for (String word : words) {
+            normalized.add(word.toLowerCase());
         }
+        return normalized;
+    }
 
-        if (automaton == null || allowedWords == null) {
-            log.warn("오토마톤이 초기화되지 않음. 동기식으로 초기화 진행");
-            buildAutomaton();
+    /**
+     * 최초 구축 전에는 요청 스레드가 직접 구축하지 않고 구축 스레드를 제한 시간만큼만 기다림
+     * 그래도 사전이 없으면(대기 초과 또는 구축 실패) badword.fail-open 에 따라 통과 또는 거절
+     */
+    private BadWordDictionary currentDictionary() {
+        if (initialLoad.getCount() > 0) {
+            try {
+                if (!initialLoad.await(initialLoadWaitMs, TimeUnit.MILLISECONDS)) {
+                    log.warn("불용어 사전 초기 구축 대기 시간 초과");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (loaded) {
+            return dictionary;
         }
 
-        String normalizedContent = normalizeContent(content);
-        List<AhoCorasickAutomaton.MatchResult> matches = automaton.search(normalizedContent);
+        if (!failOpen) {
+            throw new BadWordDictionaryUnavailableException();
+        }
+        uncheckedCounter.increment();
+        if (uncheckedWarned.compareAndSet(false, true)) {
+            log.warn("불용어 사전이 준비되지 않아 검사 없이 통과시킴 (badword.fail-open=true, 이후 건수는 badword.scan.unchecked 로 집계)");
+        }
+        return BadWordDictionary.EMPTY;
+    }
 
-        return matches.stream()
-                .anyMatch(match -> !isAllowedViolation(content, match));
+    public boolean containsBadWord(String content) {
+        return scan(content, true).isContainsBadWord();
     }
 
     public List<String> findBadWords(String content) {
-        if (content == null) return Collections.emptyList();
+        return scan(content, false).getBadWords();
+    }
 
-        if (automaton == null || allowedWords == null) {
-            buildAutomaton();
+    /**
+     * 포함 여부와 검출 목록을 한 번의 검사로 반환
+     */
+    public BadWordScanResult inspect(String content) {
+        return scan(content, false);
+    }
+
+    /**
+     * 원문을 한 글자씩 정규화하며 오토마톤에 바로 흘려보내는 단일 패스 검사
+     * 정규화된 위치 -> 원문 위치는 최대 패턴 길이만큼의 링 버퍼로 추적하므로 중간 문자열을 만들지 않음
+     * JAMO 모드에서는 자모 패스를 먼저 돌리고, 자모로 표현할 수 없는 패턴이 있을 때만 음절 패스를 추가로 실행
+     * @param stopAtFirst 허용단어가 아닌 첫 매칭에서 중단
+     */
+    private BadWordScanResult scan(String content, boolean stopAtFirst) {
+        if (content == null || content.trim().isEmpty()) {
+            return BadWordScanResult.CLEAN;
         }
 
-        String normalizedContent = normalizeContent(content);
-        List<AhoCorasickAutomaton.MatchResult> matches = automaton.search(normalizedContent);
+        BadWordDictionary snapshot = currentDictionary();
+        Set<String> found = new LinkedHashSet<>();
 
-        return matches.stream()
-                .filter(match -> !isAllowedViolation(content, match))
-                .map(AhoCorasickAutomaton.MatchResult::getPattern)
-                .distinct()
-                .collect(Collectors.toList());
+        boolean completed = true;
+        if (snapshot.hasJamoAutomaton()) {
+            completed = scanJamo(content, snapshot, stopAtFirst, found);
+        }
+        if (completed && !snapshot.isJamoCoversAll()) {
+            scanSyllables(content, snapshot, stopAtFirst, found);
+        }
+
+        return found.isEmpty() ? BadWordScanResult.CLEAN : new BadWordScanResult(true, new ArrayList<>(found));
     }
 
-    private boolean isAllowedViolation(String originalContent, AhoCorasickAutomaton.MatchResult match) {
-        int start = match.getStartIndex();
-        int end = match.getEndIndex() + 1;
+    /**
+     * @return stopAtFirst 로 중단되면 false
+     */
+    private boolean scanSyllables(String content, BadWordDictionary snapshot, boolean stopAtFirst, Set<String> found) {
+        AhoCorasickAutomaton current = snapshot.getAutomaton();
+        int[] offsets = new int[Math.max(1, current.getMaxPatternLength())];
+        int state = current.getInitialState();
+        int normalizedIndex = 0;
+
+        for (int i = 0; i < content.length(); i++) {
+            char c = normalizeChar(content.charAt(i));
+            if (c == 0) {
+                continue;
+            }
+
+            offsets[normalizedIndex % offsets.length] = i;
+            state = current.nextState(state, c);
+            if (!collectMatches(content, snapshot, current, state, normalizedIndex, offsets, i + 1, stopAtFirst, found)) {
+                return false;
+            }
+            normalizedIndex++;
+        }
+        return true;
+    }
 
+    /**
+     * 원문 한 글자가 자모 여러 개로 펼쳐지므로 링 버퍼에는 자모마다 해당 원문 위치를 기록
+     */
+    private boolean scanJamo(String content, BadWordDictionary snapshot, boolean stopAtFirst, Set<String> found) {
+        AhoCorasickAutomaton jamo = snapshot.getJamoAutomaton();
+        int[] offsets = new int[Math.max(1, jamo.getMaxPatternLength())];
+        char[] buffer = new char[JamoNormalizer.MAX_JAMO_PER_CHAR];
+        int state = jamo.getInitialState();
+        int normalizedIndex = 0;
+        char previous = 0;
+
+        for (int i = 0; i < content.length(); i++) {
+            int count = JamoNormalizer.normalize(content.charAt(i), previous, buffer);
+            for (int k = 0; k < count; k++) {
+                offsets[normalizedIndex % offsets.length] = i;
+                state = jamo.nextState(state, buffer[k]);
+                if (!collectMatches(content, snapshot, jamo, state, normalizedIndex, offsets, i + 1, stopAtFirst, found)) {
+                    return false;
+                }
+                normalizedIndex++;
+            }
+            if (count > 0) {
+                previous = buffer[count - 1];
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 현재 상태의 매칭 중 허용단어가 아닌 것을 원래(음절) 패턴으로 수집
+     * @return stopAtFirst 로 중단해야 하면 false
+     */
+    private boolean collectMatches(String content, BadWordDictionary snapshot, AhoCorasickAutomaton automaton,
+                                   int state, int normalizedIndex, int[] offsets, int end,
+                                   boolean stopAtFirst, Set<String> found) {
+        for (int m = 0, count = automaton.getMatchCount(state); m < count; m++) {
+            int patternIndex = automaton.getMatchPatternIndex(state, m);
+            int startIndex = normalizedIndex - automaton.getPatternLength(patternIndex) + 1;
+            int start = offsets[startIndex % offsets.length];
+
+            if (isAllowedViolation(content, start, end, snapshot.getAllowedWords())) {
+                continue;
+            }
+
+            found.add(snapshot.getAutomaton().getPattern(patternIndex));
+            if (stopAtFirst) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isAllowedViolation(String originalContent, int start, int end, Set<String> allowed) {
+        if (allowed.isEmpty()) {
+            return false;
+        }
         String fullWord = extractWordBoundary(originalContent, start, end);
-        return allowedWords.contains(fullWord.toLowerCase());
+        return allowed.contains(fullWord.toLowerCase());
     }
 
     private String extractWordBoundary(String text, int start, int end) {
@@ -140,9 +410,8 @@ public class BadWordFilterService {
     }
 
     private boolean isKoreanParticle(String text, int position) {
-        String[] particles = {"이", "가", "을", "를", "은", "는", "에", "에서", "로", "으로"};
-        for (String particle : particles) {
-            if (text.substring(position).startsWith(particle)) {
+        for (String particle : KOREAN_PARTICLES) {
+            if (text.startsWith(particle, position)) {
                 return true;
             }
         }
@@ -155,31 +424,17 @@ public class BadWordFilterService {
                 (c >= 0xAC00 && c <= 0xD7AF);
     }
 
-    private Set<String> loadBadWordsFromCache() {
-        Set<String> cachedWords = redisTemplate.opsForValue().get(REDIS_BAD_WORDS_KEY);
-        if (cachedWords != null && !cachedWords.isEmpty()) {
-            log.debug("Redis에서 불용어 {} 개 로드", cachedWords.size());
-            return cachedWords;
+    /**
+     * 한글 음절, 영문, 숫자만 남기고 영문은 소문자로 변환. 제외 대상이면 0
+     */
+    private char normalizeChar(char c) {
+        if (c >= 'A' && c <= 'Z') {
+            return (char) (c + ('a' - 'A'));
         }
-
-        List<String> dbWords = badWordRepository.findAllWords();
-        Set<String> wordSet = new HashSet<>(dbWords);
-
-        redisTemplate.opsForValue().set(REDIS_BAD_WORDS_KEY, wordSet, CACHE_TTL);
-        log.info("DB에서 불용어 {} 개 로드 및 Redis 캐싱 완료", wordSet.size());
-
-        return wordSet;
-    }
-
-    private String normalizeContent(String content) {
-        return content.toLowerCase()
-                .replaceAll("\\s+", "")
-                .replaceAll("[^가-힣a-zA-Z0-9]", "");
-    }
-
-    @Scheduled(fixedRate = 43200000)
-    public void refreshAutomaton() {
-        buildAutomaton();
+        if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || (c >= '가' && c <= '힣')) {
+            return c;
+        }
+        return 0;
     }
 }
 
@@ -6,8 +6,6 @@ import jakarta.validation.ConstraintValidatorContext;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
-
 @Component
 @RequiredArgsConstructor
 public class BadWordValidator implements ConstraintValidator<NoBadWords, String> {
@@ -20,10 +18,10 @@ public class BadWordValidator implements ConstraintValidator<NoBadWords, String>
             return true;
         }
 
+        // 첫 불용어에서 중단하는 단일 검사
         boolean isValid = !badWordFilterService.containsBadWord(value);
 
         if (!isValid) {
-            List<String> foundBadWords = badWordFilterService.findBadWords(value);
             String customMessage = "부적절한 언어가 감지되었습니다.";
 
             context.disableDefaultConstraintViolation();
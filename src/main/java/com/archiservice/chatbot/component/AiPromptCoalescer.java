@@ -0,0 +1,187 @@
+package com.archiservice.chatbot.component;
+
+import com.archiservice.chatbot.dto.ChatMessageDto;
+import com.archiservice.chatbot.dto.request.AiPromptMessage;
+import com.archiservice.chatbot.redis.AiRequestProducer;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+/**
+ * 같은 사용자가 짧은 간격으로 연달아 보낸 메시지를 하나의 AI 프롬프트로 합침
+ * 묶음의 첫 메시지는 바로 발행하고 window 를 열어, 그 동안 이어진 후속 메시지만 모아 window 가 끝날 때 한 번에 발행
+ * (후속 메시지를 발행하면 window 를 한 번 더 열고, 모인 메시지가 없으면 닫음), 후속 메시지가 max-messages 에 이르면 바로 발행
+ * window 가 0 이면 합치지 않고 즉시 발행
+ */
+@Component
+@Slf4j
+public class AiPromptCoalescer {
+
+  private static final String MESSAGE_SEPARATOR = "\n";
+
+  private final AiRequestProducer aiRequestProducer;
+  // 별도 TaskScheduler 빈을 두면 @Scheduled 스케줄러 선택에 영향을 주므로 내부에서만 사용
+  private final ThreadPoolTaskScheduler flushScheduler;
+  private final ConcurrentHashMap<Long, PendingPrompt> pending = new ConcurrentHashMap<>();
+
+  @Value("${chat.request.coalesce-window-ms:300}")
+  private long windowMs;
+
+  @Value("${chat.request.coalesce-max-messages:5}")
+  private int maxMessages;
+
+  public AiPromptCoalescer(AiRequestProducer aiRequestProducer) {
+    this.aiRequestProducer = aiRequestProducer;
+    this.flushScheduler = new ThreadPoolTaskScheduler();
+    flushScheduler.setPoolSize(1);
+    flushScheduler.setThreadNamePrefix("ai-prompt-flush-");
+    flushScheduler.setDaemon(true);
+    flushScheduler.initialize();
+  }
+
+  public void submit(Long userId, AiPromptMessage message) {
+    if (windowMs <= 0) {
+      aiRequestProducer.sendToAI(message);
+      return;
+    }
+
+    boolean[] leading = {false};
+    PendingPrompt prompt = pending.compute(userId, (id, current) -> {
+      if (current == null) {
+        leading[0] = true;
+        PendingPrompt opened = new PendingPrompt();
+        scheduleWindowEnd(id, opened);
+        return opened;
+      }
+      current.add(message);
+      return current;
+    });
+
+    if (leading[0]) {
+      send(userId, message, 1);
+      return;
+    }
+    if (prompt.size() >= maxMessages) {
+      flush(userId, prompt);
+    }
+  }
+
+  private void scheduleWindowEnd(Long userId, PendingPrompt prompt) {
+    flushScheduler.schedule(() -> endWindow(userId, prompt), Instant.now().plus(Duration.ofMillis(windowMs)));
+  }
+
+  /**
+   * 모인 후속 메시지가 있으면 발행하고 window 를 다시 열고, 없으면 닫아 다음 메시지는 바로 발행되게 함
+   * 닫기와 후속 메시지 추가가 엇갈리지 않도록 사용자 키 잠금(computeIfPresent) 안에서 판단
+   */
+  private void endWindow(Long userId, PendingPrompt prompt) {
+    AiPromptMessage[] merged = {null};
+    int[] count = {0};
+    pending.computeIfPresent(userId, (id, current) -> {
+      if (current != prompt) {
+        return current;
+      }
+      count[0] = current.size();
+      merged[0] = current.drain();
+      if (merged[0] == null) {
+        return null;
+      }
+      scheduleWindowEnd(id, current);
+      return current;
+    });
+
+    if (merged[0] != null) {
+      send(userId, merged[0], count[0]);
+    }
+  }
+
+  // window 는 그대로 두고 지금까지 모인 후속 메시지만 발행
+  private void flush(Long userId, PendingPrompt prompt) {
+    int count = prompt.size();
+    AiPromptMessage merged = prompt.drain();
+    if (merged != null) {
+      send(userId, merged, count);
+    }
+  }
+
+  private void send(Long userId, AiPromptMessage message, int count) {
+    try {
+      aiRequestProducer.sendToAI(message);
+    } catch (Exception e) {
+      log.error("[Producer] AI 요청 발행 실패: userId={}, messages={}, {}", userId, count, e.getMessage(), e);
+    }
+  }
+
+  @PreDestroy
+  public void flushAll() {
+    flushScheduler.shutdown();
+    pending.forEach((userId, prompt) -> {
+      if (pending.remove(userId, prompt)) {
+        flush(userId, prompt);
+      }
+    });
+  }
+
+  private static class PendingPrompt {
+
+    private final List<AiPromptMessage> messages = new ArrayList<>(4);
+
+    // compute 안(사용자 키 잠금)에서만 추가되고, 병합과 비우기는 drain 한 번에 일어남
+    private synchronized void add(AiPromptMessage message) {
+      messages.add(message);
+    }
+
+    private synchronized int size() {
+      return messages.size();
+    }
+
+    /**
+     * @return 모인 메시지를 합친 프롬프트, 없으면 null (반환 후 비움)
+     */
+    private synchronized AiPromptMessage drain() {
+      if (messages.isEmpty()) {
+        return null;
+      }
+      AiPromptMessage merged = merge();
+      messages.clear();
+      return merged;
+    }
+
+    /**
+     * 내용은 줄바꿈으로 잇고, 메시지 id/시각/인증 정보는 마지막 메시지 기준
+     */
+    private AiPromptMessage merge() {
+      AiPromptMessage last = messages.get(messages.size() - 1);
+      if (messages.size() == 1) {
+        return last;
+      }
+
+      StringBuilder content = new StringBuilder();
+      for (AiPromptMessage message : messages) {
+        if (content.length() > 0) {
+          content.append(MESSAGE_SEPARATOR);
+        }
+        content.append(message.getPayload().getContent());
+      }
+
+      ChatMessageDto payload = last.getPayload();
+      ChatMessageDto merged = ChatMessageDto.builder()
+          .messageId(payload.getMessageId())
+          .userId(payload.getUserId())
+          .content(content.toString())
+          .type(payload.getType())
+          .mentionedPlans(payload.getMentionedPlans())
+          .sender(payload.getSender())
+          .timestamp(payload.getTimestamp())
+          .build();
+      return new AiPromptMessage(last.getMetadata(), merged);
+    }
+  }
+}
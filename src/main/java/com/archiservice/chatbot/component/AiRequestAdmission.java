@@ -0,0 +1,57 @@
+package com.archiservice.chatbot.component;
+
+import com.archiservice.chatbot.domain.TokenBucket;
+import com.archiservice.chatbot.redis.AiRequestProducer;
+import com.archiservice.chatbot.redis.AiStreamMonitor;
+import com.archiservice.exception.business.AiRequestRateLimitedException;
+import com.archiservice.exception.business.AiServerBusyException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * AI 요청 수락 여부 판단
+ * - AI 요청 스트림 적체가 상한을 넘으면 모든 사용자 요청 거절
+ * - 사용자별 토큰 버킷으로 짧은 시간의 연속 전송 제한 (노드 로컬)
+ * 저장/전송 전에 호출해 거절된 메시지는 남기지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class AiRequestAdmission {
+
+  private static final long IDLE_BUCKET_NANOS = TimeUnit.MINUTES.toNanos(10);
+
+  private final AiStreamMonitor aiStreamMonitor;
+  private final ConcurrentHashMap<Long, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+  @Value("${chat.request.rate-per-second:1.0}")
+  private double ratePerSecond;
+
+  @Value("${chat.request.burst:5}")
+  private int burst;
+
+  /**
+   * @throws AiServerBusyException AI 요청 스트림 적체 상한 초과
+   * @throws AiRequestRateLimitedException 사용자 허용량 소진
+   */
+  public void acquire(Long userId) {
+    if (aiStreamMonitor.isOverloaded(AiRequestProducer.STREAM_KEY)) {
+      throw new AiServerBusyException();
+    }
+
+    long now = System.nanoTime();
+    TokenBucket bucket = buckets.computeIfAbsent(userId, id -> new TokenBucket(burst, ratePerSecond, now));
+    if (!bucket.tryAcquire(now)) {
+      throw new AiRequestRateLimitedException();
+    }
+  }
+
+  @Scheduled(fixedDelay = 60000, initialDelay = 60000)
+  public void evictIdleBuckets() {
+    long now = System.nanoTime();
+    buckets.entrySet().removeIf(entry -> entry.getValue().isIdle(now, IDLE_BUCKET_NANOS));
+  }
+}
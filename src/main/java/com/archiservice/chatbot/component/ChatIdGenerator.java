@@ -0,0 +1,74 @@
+package com.archiservice.chatbot.component;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 id 발급 (DB 왕복 없이 앱에서 생성)
+ * 시각(ms, 41bit) + 노드(10bit) + 순번(12bit) 구성이라 시간순으로 증가하며,
+ * 기존 IDENTITY 값보다 항상 커서 chat_id 키셋 페이지네이션 순서가 유지됨
+ * 노드 번호가 겹치면 같은 id 가 나오므로 chat.log.node-id 를 인스턴스마다 지정하거나,
+ * 지정하지 않으면 기동 시 Redis INCR 로 노드 번호를 발급받음 (발급 실패 시 기동 중단)
+ */
+@Component
+@Slf4j
+public class ChatIdGenerator {
+
+  // 2024-01-01T00:00:00Z
+  private static final long EPOCH_MILLIS = 1704067200000L;
+  private static final int NODE_BITS = 10;
+  private static final int SEQUENCE_BITS = 12;
+  public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+  static final String NODE_SEQUENCE_KEY = "chat:id:node-seq";
+  private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+  private final long nodeId;
+  private long lastMillis = -1L;
+  private long sequence;
+
+  @Autowired
+  public ChatIdGenerator(@Value("${chat.log.node-id:-1}") int nodeId, StringRedisTemplate stringRedisTemplate) {
+    this(nodeId >= 0 ? nodeId : leaseNodeId(stringRedisTemplate));
+  }
+
+  public ChatIdGenerator(int nodeId) {
+    if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+      throw new IllegalArgumentException("chat.log.node-id 는 0 ~ " + MAX_NODE_ID + " 사이여야 함: " + nodeId);
+    }
+    this.nodeId = nodeId;
+  }
+
+  // 기동 순서대로 번호를 돌려 쓰므로 동시에 떠 있는 인스턴스가 MAX_NODE_ID + 1 개 미만이면 겹치지 않음
+  static int leaseNodeId(StringRedisTemplate stringRedisTemplate) {
+    Long sequence;
+    try {
+      sequence = stringRedisTemplate.opsForValue().increment(NODE_SEQUENCE_KEY);
+    } catch (Exception e) {
+      throw new IllegalStateException("chat.log.node-id 미지정, Redis 에서 노드 번호 발급 실패", e);
+    }
+    if (sequence == null) {
+      throw new IllegalStateException("chat.log.node-id 미지정, Redis 에서 노드 번호 발급 실패");
+    }
+    int nodeId = (int) ((sequence - 1) % (MAX_NODE_ID + 1));
+    log.info("채팅 id 노드 번호 발급: {}", nodeId);
+    return nodeId;
+  }
+
+  public synchronized long nextId() {
+    // 시계가 뒤로 가면 마지막 시각을 계속 사용해 순서를 유지
+    long now = Math.max(System.currentTimeMillis(), lastMillis);
+    if (now == lastMillis) {
+      sequence = (sequence + 1) & SEQUENCE_MASK;
+      if (sequence == 0) {
+        now = lastMillis + 1;
+      }
+    } else {
+      sequence = 0;
+    }
+    lastMillis = now;
+    return ((now - EPOCH_MILLIS) << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+  }
+}
@@ -0,0 +1,396 @@
+package com.archiservice.chatbot.component;
+
+import com.archiservice.chatbot.domain.Chat;
+import com.archiservice.chatbot.dto.type.MessageType;
+import com.archiservice.chatbot.dto.type.Sender;
+import com.archiservice.chatbot.repository.ChatJdbcRepository;
+import com.archiservice.user.domain.User;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 기록 지연 저장 (write-behind)
+ * - append: id/시각을 채우고 chat-log-stream 에 먼저 기록(WAL)한 뒤 제한된 큐에 넣고 바로 반환
+ * - 플러셔가 주기적으로 큐를 비우며 배치로 저장(chat_id 중복만 무시)하고, 저장된 항목은 WAL 에서 삭제(XDEL)
+ * - 노드가 죽거나 저장에 실패해 WAL 에 오래 남은 항목은 어느 노드에서든 replayStale 로 다시 저장 (chat_id 로 중복 무시)
+ * - 재시도해도 실패하는 항목(탈퇴 사용자 FK, 길이 초과 등)은 chat-log-stream:dlq 로 옮기고 WAL 에서 삭제
+ * - 대화 삭제 시 사용자별 삭제 기준 id(chat:deleted-before:{userId})를 남겨, 어느 노드의 큐/WAL 에 남은 이전 채팅도 저장하지 않음
+ * 큐가 가득 찼거나 WAL 기록에 실패하면 호출 스레드에서 바로 저장해 유실 없이 기존 동기 저장으로 돌아감
+ */
+@Component
+@Slf4j
+public class ChatLogWriter {
+
+  public static final String WAL_STREAM_KEY = "chat-log-stream";
+  public static final String DEAD_LETTER_STREAM_KEY = WAL_STREAM_KEY + ":dlq";
+  private static final String DELETE_WATERMARK_KEY_PREFIX = "chat:deleted-before:";
+
+  private final ChatJdbcRepository chatJdbcRepository;
+  private final ChatIdGenerator chatIdGenerator;
+  private final StringRedisTemplate stringRedisTemplate;
+  private final BlockingQueue<PendingChat> queue;
+  // 별도 TaskScheduler 빈을 두면 @Scheduled 스케줄러 선택에 영향을 주므로 내부에서만 사용
+  private final ThreadPoolTaskScheduler flushScheduler;
+
+  @Value("${chat.log.batch-size:500}")
+  private int batchSize = 500;
+
+  @Value("${chat.log.flush-interval-ms:200}")
+  private long flushIntervalMs = 200;
+
+  @Value("${chat.log.replay-min-age-ms:60000}")
+  private long replayMinAgeMs = 60000;
+
+  // WAL 에 남은 항목이 재저장될 수 있는 기간보다 길게
+  @Value("${chat.log.delete-watermark-ttl-hours:168}")
+  private long deleteWatermarkTtlHours = 168;
+
+  public ChatLogWriter(ChatJdbcRepository chatJdbcRepository,
+                       ChatIdGenerator chatIdGenerator,
+                       StringRedisTemplate stringRedisTemplate,
+                       MeterRegistry meterRegistry,
+                       @Value("${chat.log.queue-capacity:10000}") int queueCapacity) {
+    this.chatJdbcRepository = chatJdbcRepository;
+    this.chatIdGenerator = chatIdGenerator;
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+    Gauge.builder("chat.log.queue.size", queue, BlockingQueue::size)
+        .description("저장 대기 중인 채팅 수")
+        .register(meterRegistry);
+
+    this.flushScheduler = new ThreadPoolTaskScheduler();
+    flushScheduler.setPoolSize(1);
+    flushScheduler.setThreadNamePrefix("chat-log-flush-");
+    flushScheduler.setDaemon(true);
+    flushScheduler.initialize();
+  }
+
+  @PostConstruct
+  public void start() {
+    flushScheduler.scheduleWithFixedDelay(this::flushQuietly, Duration.ofMillis(flushIntervalMs));
+  }
+
+  /**
+   * chatId, createdAt 이 비어 있으면 채워서 반환 (저장은 비동기)
+   */
+  public Chat append(Chat chat) {
+    appendAll(List.of(chat));
+    return chat;
+  }
+
+  public void appendAll(List<Chat> chats) {
+    if (chats.isEmpty()) {
+      return;
+    }
+    for (Chat chat : chats) {
+      if (chat.getChatId() == null) {
+        chat.setChatId(chatIdGenerator.nextId());
+      }
+      if (chat.getCreatedAt() == null) {
+        chat.setCreatedAt(LocalDateTime.now());
+      }
+    }
+
+    List<Object> recordIds;
+    try {
+      recordIds = writeAhead(chats);
+    } catch (Exception e) {
+      log.warn("채팅 WAL 기록 실패, 바로 저장: count={}, {}", chats.size(), e.getMessage());
+      chatJdbcRepository.insertAll(chats);
+      return;
+    }
+
+    List<PendingChat> overflow = new ArrayList<>();
+    for (int i = 0; i < chats.size(); i++) {
+      PendingChat pending = new PendingChat(chats.get(i), (RecordId) recordIds.get(i));
+      if (!queue.offer(pending)) {
+        overflow.add(pending);
+      }
+    }
+    if (!overflow.isEmpty()) {
+      log.warn("채팅 저장 큐 포화, 호출 스레드에서 바로 저장: count={}", overflow.size());
+      persist(overflow);
+    }
+  }
+
+  /**
+   * 대화 삭제 직전에 호출. 지금까지 발급된 채팅 id 를 삭제 기준으로 남겨, 아직 저장되지 않은 이전 채팅은
+   * 어느 노드의 큐/WAL 에서든 저장하지 않음 (기록 실패 시 예외, 삭제를 진행하면 채팅이 되살아날 수 있음)
+   */
+  public void markDeleted(Long userId) {
+    long watermark = chatIdGenerator.nextId();
+    stringRedisTemplate.opsForValue().set(DELETE_WATERMARK_KEY_PREFIX + userId, String.valueOf(watermark),
+        Duration.ofHours(deleteWatermarkTtlHours));
+  }
+
+  /**
+   * 큐에 쌓인 채팅을 모두 저장 (종료 시 등 즉시 반영이 필요할 때)
+   */
+  public synchronized void flush() {
+    List<PendingChat> batch = new ArrayList<>(Math.min(batchSize, queue.size()));
+    while (queue.drainTo(batch, batchSize) > 0) {
+      persist(batch);
+      batch.clear();
+    }
+  }
+
+  /**
+   * WAL 에 replay-min-age 이상 남아 있는 항목(죽은 노드의 미저장분, 저장 실패분)을 다시 저장
+   */
+  @Scheduled(fixedDelayString = "${chat.log.replay-interval-ms:30000}")
+  public void replayStale() {
+    try {
+      String maxId = (System.currentTimeMillis() - replayMinAgeMs) + "-0";
+      int replayed = 0;
+      List<MapRecord<String, Object, Object>> records;
+      do {
+        records = stringRedisTemplate.opsForStream().range(WAL_STREAM_KEY,
+            Range.leftUnbounded(Range.Bound.inclusive(maxId)), Limit.limit().count(batchSize));
+        if (records == null || records.isEmpty()) {
+          break;
+        }
+
+        List<PendingChat> batch = new ArrayList<>(records.size());
+        List<RecordId> malformed = new ArrayList<>();
+        for (MapRecord<String, Object, Object> record : records) {
+          try {
+            batch.add(new PendingChat(fromFields(record.getValue()), record.getId()));
+          } catch (RuntimeException e) {
+            log.error("채팅 WAL 항목 변환 실패, 삭제: id={}, {}", record.getId(), e.getMessage());
+            malformed.add(record.getId());
+          }
+        }
+        if (!malformed.isEmpty()) {
+          stringRedisTemplate.opsForStream().delete(WAL_STREAM_KEY, malformed.toArray(new RecordId[0]));
+        }
+        if (!batch.isEmpty() && !persist(batch)) {
+          break;
+        }
+        replayed += batch.size();
+      } while (records.size() == batchSize);
+
+      if (replayed > 0) {
+        log.info("채팅 WAL 재저장 완료: count={}", replayed);
+      }
+    } catch (Exception e) {
+      log.warn("채팅 WAL 재저장 실패: {}", e.getMessage());
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    flushScheduler.shutdown();
+    flush();
+  }
+
+  private void flushQuietly() {
+    try {
+      flush();
+    } catch (Exception e) {
+      log.error("채팅 지연 저장 실패: {}", e.getMessage(), e);
+    }
+  }
+
+  /**
+   * 실패한 항목은 WAL 에 남아 replayStale 에서 다시 저장되므로 큐로 되돌리지 않음
+   * @return 배치의 모든 항목을 저장(또는 DLQ 로 이동)했으면 true
+   */
+  private boolean persist(List<PendingChat> batch) {
+    List<PendingChat> live;
+    try {
+      live = dropDeleted(batch);
+    } catch (Exception e) {
+      log.error("채팅 삭제 기준 조회 실패, WAL 재저장 대기: count={}, {}", batch.size(), e.getMessage());
+      return false;
+    }
+    if (live.isEmpty()) {
+      return true;
+    }
+    batch = live;
+
+    List<Chat> chats = new ArrayList<>(batch.size());
+    for (PendingChat pending : batch) {
+      chats.add(pending.chat);
+    }
+
+    try {
+      chatJdbcRepository.insertAll(chats);
+    } catch (DataIntegrityViolationException e) {
+      log.warn("채팅 배치 저장 중 무결성 오류, 건별 저장으로 전환: count={}, {}", chats.size(), e.getMessage());
+      return persistEach(batch);
+    } catch (Exception e) {
+      log.error("채팅 배치 저장 실패, WAL 재저장 대기: count={}, {}", chats.size(), e.getMessage());
+      return false;
+    }
+
+    deleteWal(batch);
+    return true;
+  }
+
+  /**
+   * 삭제 기준 id 이하인 채팅(대화 삭제 전에 만들어진 채팅)은 저장하지 않고 WAL 에서만 지움
+   */
+  private List<PendingChat> dropDeleted(List<PendingChat> batch) {
+    List<Long> userIds = batch.stream().map(pending -> pending.chat.getUser().getUserId()).distinct().toList();
+    List<String> watermarks = stringRedisTemplate.opsForValue().multiGet(
+        userIds.stream().map(userId -> DELETE_WATERMARK_KEY_PREFIX + userId).toList());
+    if (watermarks == null || watermarks.size() != userIds.size()) {
+      return batch;
+    }
+
+    Map<Long, Long> watermarkByUser = new HashMap<>();
+    for (int i = 0; i < userIds.size(); i++) {
+      if (watermarks.get(i) != null) {
+        watermarkByUser.put(userIds.get(i), Long.parseLong(watermarks.get(i)));
+      }
+    }
+    if (watermarkByUser.isEmpty()) {
+      return batch;
+    }
+
+    List<PendingChat> live = new ArrayList<>(batch.size());
+    List<PendingChat> deleted = new ArrayList<>();
+    for (PendingChat pending : batch) {
+      Long watermark = watermarkByUser.get(pending.chat.getUser().getUserId());
+      if (watermark != null && pending.chat.getChatId() <= watermark) {
+        deleted.add(pending);
+      } else {
+        live.add(pending);
+      }
+    }
+    if (!deleted.isEmpty()) {
+      log.info("삭제된 대화의 미저장 채팅 제외: count={}", deleted.size());
+      deleteWal(deleted);
+    }
+    return live;
+  }
+
+  // 무결성 오류 항목은 재시도해도 실패하므로 DLQ 로 옮겨 흔적을 남기고, 나머지는 저장
+  private boolean persistEach(List<PendingChat> batch) {
+    List<PendingChat> done = new ArrayList<>(batch.size());
+    for (PendingChat pending : batch) {
+      try {
+        chatJdbcRepository.insertAll(List.of(pending.chat));
+        done.add(pending);
+      } catch (DataIntegrityViolationException e) {
+        if (moveToDeadLetter(pending, e)) {
+          done.add(pending);
+        }
+      } catch (Exception e) {
+        log.error("채팅 저장 실패, WAL 재저장 대기: chatId={}, {}", pending.chat.getChatId(), e.getMessage());
+      }
+    }
+    deleteWal(done);
+    return done.size() == batch.size();
+  }
+
+  private boolean moveToDeadLetter(PendingChat pending, DataIntegrityViolationException cause) {
+    Chat chat = pending.chat;
+    log.error("채팅 저장 불가, DLQ 로 이동: chatId={}, userId={}, {}",
+        chat.getChatId(), chat.getUser().getUserId(), cause.getMostSpecificCause().getMessage());
+    try {
+      Map<String, String> fields = toFields(chat);
+      fields.put("error", String.valueOf(cause.getMostSpecificCause().getMessage()));
+      stringRedisTemplate.opsForStream().add(StreamRecords.newRecord().in(DEAD_LETTER_STREAM_KEY).ofMap(fields));
+      return true;
+    } catch (Exception e) {
+      log.warn("채팅 DLQ 기록 실패, WAL 에 남김: chatId={}, {}", chat.getChatId(), e.getMessage());
+      return false;
+    }
+  }
+
+  private void deleteWal(List<PendingChat> persisted) {
+    List<RecordId> recordIds = new ArrayList<>(persisted.size());
+    for (PendingChat pending : persisted) {
+      if (pending.recordId != null) {
+        recordIds.add(pending.recordId);
+      }
+    }
+    if (recordIds.isEmpty()) {
+      return;
+    }
+    try {
+      stringRedisTemplate.opsForStream().delete(WAL_STREAM_KEY, recordIds.toArray(new RecordId[0]));
+    } catch (Exception e) {
+      // 남은 항목은 재저장 시 chat_id 중복으로 무시됨
+      log.warn("채팅 WAL 정리 실패: count={}, {}", recordIds.size(), e.getMessage());
+    }
+  }
+
+  private List<Object> writeAhead(List<Chat> chats) {
+    return stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+      @Override
+      @SuppressWarnings("unchecked")
+      public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+        RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+        for (Chat chat : chats) {
+          ops.opsForStream().add(StreamRecords.newRecord().in(WAL_STREAM_KEY).ofMap(toFields(chat)));
+        }
+        return null;
+      }
+    });
+  }
+
+  private static Map<String, String> toFields(Chat chat) {
+    Map<String, String> fields = new HashMap<>(8);
+    fields.put("chatId", chat.getChatId().toString());
+    fields.put("userId", chat.getUser().getUserId().toString());
+    fields.put("message", chat.getMessage());
+    fields.put("messageType", chat.getMessageType().name());
+    fields.put("sender", chat.getSender().name());
+    fields.put("createdAt", chat.getCreatedAt().toString());
+    if (chat.getMentionedPlans() != null) {
+      fields.put("mentionedPlans", chat.getMentionedPlans());
+    }
+    return fields;
+  }
+
+  private static Chat fromFields(Map<Object, Object> fields) {
+    return Chat.builder()
+        .chatId(Long.parseLong((String) fields.get("chatId")))
+        .user(User.builder().userId(Long.parseLong((String) fields.get("userId"))).build())
+        .message((String) fields.get("message"))
+        .mentionedPlans((String) fields.get("mentionedPlans"))
+        .messageType(MessageType.valueOf((String) fields.get("messageType")))
+        .sender(Sender.valueOf((String) fields.get("sender")))
+        .createdAt(LocalDateTime.parse((String) fields.get("createdAt")))
+        .build();
+  }
+
+  private static class PendingChat {
+
+    private final Chat chat;
+    private final RecordId recordId;
+
+    private PendingChat(Chat chat, RecordId recordId) {
+      this.chat = chat;
+      this.recordId = recordId;
+    }
+  }
+}
@@ -0,0 +1,158 @@
+package com.archiservice.chatbot.component;
+
+import com.archiservice.chatbot.domain.ImageBlobRef;
+import com.archiservice.chatbot.domain.ImageHandoffMode;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 성향 분석 이미지 보관소
+ * 업로드 스트림을 한 번 읽으면서 SHA-256 을 계산해 내용 주소로 저장하므로 같은 이미지는 한 벌만 남음
+ * - REDIS: image-blob:{sha256} 바이너리 키 (TTL)
+ * - FILE: {upload-dir}/image-blobs/{sha256}.{ext} (임시 파일에 쓴 뒤 교체, TTL 이 지난 파일은 주기적으로 삭제)
+ */
+@Component
+@Slf4j
+public class ImageBlobStore {
+
+  public static final String REDIS_KEY_PREFIX = "image-blob:";
+  private static final String BLOB_DIRECTORY = "image-blobs";
+
+  private final RedisTemplate<String, byte[]> binaryRedisTemplate;
+
+  @Value("${chat.image.handoff:INLINE}")
+  private ImageHandoffMode mode = ImageHandoffMode.INLINE;
+
+  @Value("${chat.image.blob-ttl-seconds:600}")
+  private long blobTtlSeconds;
+
+  @Value("${app.upload-dir:uploads/}")
+  private String uploadDir;
+
+  public ImageBlobStore(@Qualifier("binaryRedisTemplate") RedisTemplate<String, byte[]> binaryRedisTemplate) {
+    this.binaryRedisTemplate = binaryRedisTemplate;
+  }
+
+  public ImageHandoffMode getMode() {
+    return mode;
+  }
+
+  /**
+   * @param extension 소문자 확장자 (검증 완료)
+   */
+  public ImageBlobRef store(MultipartFile image, String extension) throws IOException {
+    String contentType = image.getContentType() != null ? image.getContentType() : "image/" + extension;
+    return switch (mode) {
+      case REDIS -> storeInRedis(image, contentType);
+      case FILE -> storeInFile(image, extension, contentType);
+      case INLINE -> throw new IllegalStateException("INLINE 모드는 참조를 만들지 않음");
+    };
+  }
+
+  /**
+   * INLINE 모드용. 업로드 스트림을 정확한 크기의 버퍼에 바로 인코딩해 중간 byte[] 복사를 줄임
+   */
+  public String encodeBase64(MultipartFile image) throws IOException {
+    long size = image.getSize();
+    ByteArrayOutputStream encoded = new ByteArrayOutputStream((int) (4 * ((size + 2) / 3)));
+    try (InputStream in = image.getInputStream();
+         OutputStream out = Base64.getEncoder().wrap(encoded)) {
+      in.transferTo(out);
+    }
+    return encoded.toString(StandardCharsets.ISO_8859_1);
+  }
+
+  private ImageBlobRef storeInRedis(MultipartFile image, String contentType) throws IOException {
+    MessageDigest digest = sha256();
+    byte[] bytes;
+    try (InputStream in = new DigestInputStream(image.getInputStream(), digest)) {
+      bytes = in.readNBytes((int) image.getSize());
+    }
+    String sha256 = HexFormat.of().formatHex(digest.digest());
+    String key = REDIS_KEY_PREFIX + sha256;
+
+    binaryRedisTemplate.opsForValue().set(key, bytes, Duration.ofSeconds(blobTtlSeconds));
+    return new ImageBlobRef(ImageHandoffMode.REDIS, key, sha256, contentType, bytes.length);
+  }
+
+  private ImageBlobRef storeInFile(MultipartFile image, String extension, String contentType) throws IOException {
+    Path directory = blobDirectory();
+    Files.createDirectories(directory);
+
+    MessageDigest digest = sha256();
+    Path temp = Files.createTempFile(directory, "upload-", ".tmp");
+    long size;
+    try (InputStream in = new DigestInputStream(image.getInputStream(), digest)) {
+      size = Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException e) {
+      Files.deleteIfExists(temp);
+      throw e;
+    }
+
+    String sha256 = HexFormat.of().formatHex(digest.digest());
+    String fileName = sha256 + "." + extension;
+    Files.move(temp, directory.resolve(fileName), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    return new ImageBlobRef(ImageHandoffMode.FILE, fileName, sha256, contentType, size);
+  }
+
+  @Scheduled(fixedDelayString = "${chat.image.cleanup-interval-ms:300000}",
+      initialDelayString = "${chat.image.cleanup-interval-ms:300000}")
+  public void deleteExpiredFiles() {
+    if (mode != ImageHandoffMode.FILE) {
+      return;
+    }
+    Path directory = blobDirectory();
+    if (!Files.isDirectory(directory)) {
+      return;
+    }
+
+    Instant expiredBefore = Instant.now().minusSeconds(blobTtlSeconds);
+    int deleted = 0;
+    try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+      for (Path file : files) {
+        if (Files.getLastModifiedTime(file).toInstant().isBefore(expiredBefore) && Files.deleteIfExists(file)) {
+          deleted++;
+        }
+      }
+    } catch (IOException e) {
+      log.warn("만료된 성향 분석 이미지 삭제 실패: {}", directory, e);
+    }
+    if (deleted > 0) {
+      log.info("만료된 성향 분석 이미지 {} 개 삭제", deleted);
+    }
+  }
+
+  private Path blobDirectory() {
+    return Paths.get(uploadDir, BLOB_DIRECTORY);
+  }
+
+  private static MessageDigest sha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
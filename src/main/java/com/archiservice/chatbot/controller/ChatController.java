@@ -26,9 +26,12 @@ public class ChatController {
     @GetMapping("/history/{userId}")
     public ResponseEntity<ApiResponse<List<ChatMessageDto>>> getChatHistory(
             @PathVariable("userId") Long userId,
-            @RequestParam("page") int page,
-            @RequestParam("size") int size ) {
-        List<ChatMessageDto> data = chatService.loadChatHistory(userId, page, size);
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam("size") int size,
+            @RequestParam(value = "before", required = false) Long before) {
+        List<ChatMessageDto> data = before != null
+                ? chatService.loadChatHistoryBefore(userId, before, size)
+                : chatService.loadChatHistory(userId, page, size);
         return ResponseEntity.ok(ApiResponse.success("성공했습니다.", data));
     }
     
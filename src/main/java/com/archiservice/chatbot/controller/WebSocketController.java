@@ -1,11 +1,15 @@
 package com.archiservice.chatbot.controller;
 
 import com.archiservice.chatbot.domain.AuthInfo;
+import com.archiservice.chatbot.dto.ChatMessageDto;
 import com.archiservice.chatbot.dto.request.ChatMessageRequestDto;
 import com.archiservice.chatbot.service.ChatService;
+import com.archiservice.exception.BusinessException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.handler.annotation.MessageExceptionHandler;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.annotation.SendToUser;
 import org.springframework.stereotype.Controller;
 
 import java.security.Principal;
@@ -23,4 +27,11 @@ public class WebSocketController {
     ) {
             chatService.handleUserMessage(message, authInfo);
     }
+
+    // 전송 제한/적체 등으로 거절된 메시지는 보낸 사용자에게 안내 메시지로 알림
+    @MessageExceptionHandler(BusinessException.class)
+    @SendToUser(destinations = "/queue/chat", broadcast = false)
+    public ChatMessageDto handleBusinessException(BusinessException e, AuthInfo authInfo) {
+        return ChatMessageDto.infoMessage(authInfo.getUserId(), e.getMessage());
+    }
 }
\ No newline at end of file
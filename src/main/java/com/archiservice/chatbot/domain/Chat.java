@@ -8,9 +8,8 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
@@ -23,7 +22,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "chats")
+@Table(name = "chats", indexes = @Index(name = "idx_chats_user_chat", columnList = "user_id, chat_id"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -31,8 +30,8 @@ import lombok.Setter;
 @Builder
 public class Chat {
 
+  // ChatIdGenerator 로 발급 (시간순 증가)
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
   @Column(name = "chat_id")
   private Long chatId;
 
@@ -59,6 +58,8 @@ public class Chat {
 
   @PrePersist
   public void prePersist() {
-    this.createdAt = LocalDateTime.now();
+    if (this.createdAt == null) {
+      this.createdAt = LocalDateTime.now();
+    }
   }
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.archiservice.chatbot.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 스트림 밖에 저장한 이미지의 참조 (내용 주소: sha256)
+ */
+@Getter
+@AllArgsConstructor
+public class ImageBlobRef {
+  private final ImageHandoffMode store;
+  private final String key;
+  private final String sha256;
+  private final String contentType;
+  private final long size;
+}
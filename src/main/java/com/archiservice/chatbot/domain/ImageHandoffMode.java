@@ -0,0 +1,13 @@
+package com.archiservice.chatbot.domain;
+
+/**
+ * 성향 분석 이미지를 AI 서버로 넘기는 방식
+ * - INLINE: Base64 문자열을 스트림 메시지에 그대로 포함
+ * - REDIS: Redis 바이너리 키(image-blob:{sha256}, TTL)에 저장하고 참조만 발행
+ * - FILE: 공유 디렉터리에 {sha256}.{ext} 로 저장하고 참조만 발행
+ */
+public enum ImageHandoffMode {
+  INLINE,
+  REDIS,
+  FILE
+}
@@ -0,0 +1,51 @@
+package com.archiservice.chatbot.domain;
+
+/**
+ * 사용자별 AI 요청 허용량 (토큰 버킷)
+ * 초당 ratePerSecond 개씩 최대 capacity 개까지 채워지며, 요청마다 한 개씩 소모
+ * 시각은 호출자가 넘겨 주므로 테스트에서 시간을 조절할 수 있음
+ */
+public class TokenBucket {
+
+  private final double capacity;
+  private final double refillPerNano;
+
+  private double tokens;
+  private long lastRefillNanos;
+  private long lastAcquireNanos;
+
+  public TokenBucket(double capacity, double ratePerSecond, long nowNanos) {
+    this.capacity = capacity;
+    this.refillPerNano = ratePerSecond / 1_000_000_000d;
+    this.tokens = capacity;
+    this.lastRefillNanos = nowNanos;
+    this.lastAcquireNanos = nowNanos;
+  }
+
+  public synchronized boolean tryAcquire(long nowNanos) {
+    refill(nowNanos);
+    if (tokens < 1) {
+      return false;
+    }
+    tokens -= 1;
+    lastAcquireNanos = nowNanos;
+    return true;
+  }
+
+  /**
+   * idleNanos 동안 요청이 없고 다시 가득 찬 버킷은 새로 만든 것과 같으므로 정리 대상
+   */
+  public synchronized boolean isIdle(long nowNanos, long idleNanos) {
+    refill(nowNanos);
+    return tokens >= capacity && nowNanos - lastAcquireNanos >= idleNanos;
+  }
+
+  private void refill(long nowNanos) {
+    long elapsed = nowNanos - lastRefillNanos;
+    if (elapsed <= 0) {
+      return;
+    }
+    tokens = Math.min(capacity, tokens + elapsed * refillPerNano);
+    lastRefillNanos = nowNanos;
+  }
+}
@@ -1,6 +1,7 @@
 package com.archiservice.chatbot.dto.request;
 
 
+import com.archiservice.chatbot.domain.ImageBlobRef;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -28,6 +29,25 @@ public class TendencyImageRequestDto {
             )
     );
   }
+
+  /**
+   * 이미지 본문 대신 저장소 참조만 담음 (AI 서버가 imageStore/imageKey 로 읽고 imageSha256 으로 검증)
+   */
+  public static TendencyImageRequestDto ofReference(String userId, ImageBlobRef ref) {
+    return new TendencyImageRequestDto(
+            Map.of(
+                    "userId", userId,
+                    "imageStore", ref.getStore().name(),
+                    "imageKey", ref.getKey(),
+                    "imageSha256", ref.getSha256(),
+                    "imageContentType", ref.getContentType(),
+                    "imageSize", ref.getSize()
+            ),
+            Map.of(
+                    "timestamp", Instant.now().toString()
+            )
+    );
+  }
 }
 
 
@@ -2,6 +2,7 @@ package com.archiservice.chatbot.dto.response;
 
 import com.archiservice.chatbot.dto.ChatMessageDto;
 import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import lombok.Data;
 
@@ -15,6 +16,14 @@ public class ChatResponseDto extends ChatMessageDto {
 
   // TODO: 추후 UserPreference 객체로 변경
   private String updatedPreference; // PREFERENCE_UPDATE용
+
+  // 저장에 쓸 채팅 id (스트림 레코드별로 AiResponseLedger 에 기록, 재전달/건별 재처리해도 같은 id 로 저장되어 중복 무시)
+  @JsonIgnore
+  private Long chatId;
+
+  // 응답을 읽어 온 스트림 레코드 id (재전달 판별용)
+  @JsonIgnore
+  private String streamRecordId;
   //필드 1: private String summary
   //필드 2: private String tags
 }
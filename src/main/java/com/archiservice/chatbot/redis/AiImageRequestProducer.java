@@ -2,42 +2,38 @@ package com.archiservice.chatbot.redis;
 
 import com.archiservice.chatbot.dto.request.TendencyImageRequestDto;
 import com.archiservice.exception.business.AiMessageSendFailedException;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
 import org.springframework.data.redis.core.StreamOperations;
 import org.springframework.stereotype.Service;
 
 /**
  * 외부로부터 받은 입력을 Redis Stream에 발행만
+ * 메시지는 스트림 직렬화기로 한 번만 직렬화하며, 이미지 본문(Base64)은 로그에 남기지 않음
  */
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class AiImageRequestProducer {
-  private final RedisTemplate<String, Object> redisTemplate;
-  private static final String STREAM_KEY = "image-request-stream";
-  private final ObjectMapper objectMapper;
+  public static final String STREAM_KEY = "image-request-stream";
   private final StreamOperations<String, Object, Object> streamOperations;
+  private final StreamTrimPolicy streamTrimPolicy;
 
   public void sendToAI(TendencyImageRequestDto dto) {
-    try {
-      String payloadJson = objectMapper.writeValueAsString(dto.getPayload());
-      String metadataJson = objectMapper.writeValueAsString(dto.getMetadata());
-
-      Map<String, Object> message = Map.of(
-              "payload", dto.getPayload(),
-              "metadata", dto.getMetadata()
-      );
-
-      streamOperations.add(STREAM_KEY, message);
+    Map<String, Object> message = Map.of(
+            "payload", dto.getPayload(),
+            "metadata", dto.getMetadata()
+    );
 
-      System.out.println("[Producer] ✅ Stream push: " + message);
-
-    } catch (JsonProcessingException e) {
-      throw new AiMessageSendFailedException("AI 이미지 요청 직렬화 실패");
+    try {
+      RecordId recordId = streamOperations.add(StreamRecords.newRecord().in(STREAM_KEY).ofMap(message), streamTrimPolicy.addOptions());
+      log.debug("[Producer] 이미지 분석 요청 발행: id={}, userId={}, fields={}",
+              recordId, dto.getPayload().get("userId"), dto.getPayload().keySet());
+    } catch (Exception e) {
+      throw new AiMessageSendFailedException("AI 이미지 요청 발행 실패");
     }
   }
 }
-
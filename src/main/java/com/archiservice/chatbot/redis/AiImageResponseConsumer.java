@@ -6,12 +6,16 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 import jakarta.annotation.PostConstruct;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.connection.stream.Consumer;
 import org.springframework.data.redis.connection.stream.MapRecord;
 import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
 import org.springframework.data.redis.connection.stream.StreamOffset;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.stream.StreamMessageListenerContainer;
@@ -19,22 +23,51 @@ import org.springframework.stereotype.Component;
 
 /**
  * Redis Stream에서 메시지를 수신하여 처리.
+ * 배치 모드에서는 여러 건을 한 번에 읽고 처리된 id 를 XACK 한 번으로 확인
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class AiImageResponseConsumer {
 
+  private static final String STREAM_KEY = "image-response-stream";
+  private static final String GROUP = "image-response-handler";
+  private static final String CONSUMER_PREFIX = "image-consumer";
+
   private final TendencyImageServiceImpl tendencyImageService;
   private final StreamMessageListenerContainer<String, MapRecord<String, String, String>> streamContainer;
   private final RedisTemplate<String, Object> redisTemplate;
   private final ObjectMapper objectMapper;
+  private final StreamConsumerGroupManager consumerGroupManager;
+
+  @Value("${chat.stream.batch-enabled:true}")
+  private boolean batchEnabled;
+
+  public AiImageResponseConsumer(TendencyImageServiceImpl tendencyImageService,
+                                 StreamMessageListenerContainer<String, MapRecord<String, String, String>> streamContainer,
+                                 RedisTemplate<String, Object> redisTemplate,
+                                 ObjectMapper objectMapper,
+                                 StreamConsumerGroupManager consumerGroupManager) {
+    this.tendencyImageService = tendencyImageService;
+    this.streamContainer = streamContainer;
+    this.redisTemplate = redisTemplate;
+    this.objectMapper = objectMapper;
+    this.consumerGroupManager = consumerGroupManager;
+  }
 
   @PostConstruct
   public void startListening() {
+    // 회수한 보류 메시지도 배치 처리기로 다시 처리
+    StreamConsumerGroupManager.Subscription subscription =
+        new StreamConsumerGroupManager.Subscription(STREAM_KEY, GROUP, CONSUMER_PREFIX, this::handleBatch);
+    if (batchEnabled) {
+      consumerGroupManager.start(subscription);
+      return;
+    }
+    consumerGroupManager.register(subscription);
+
     streamContainer.receive(
-      Consumer.from("image-response-handler", "image-consumer-1"),
-        StreamOffset.create("image-response-stream", ReadOffset.lastConsumed()),
+      Consumer.from(GROUP, consumerGroupManager.consumerName(CONSUMER_PREFIX, 0)),
+        StreamOffset.create(STREAM_KEY, ReadOffset.lastConsumed()),
         this::handleMessage
     );
     streamContainer.start();
@@ -42,28 +75,49 @@ public class AiImageResponseConsumer {
 
   private void handleMessage(MapRecord<String, String, String> record) {
     try {
-      String streamId = record.getId().getValue();
-      String key = "processed:image-response:" + streamId;
-
-      Boolean first = redisTemplate.opsForValue().setIfAbsent(key, "1", java.time.Duration.ofMinutes(10));
-      if (Boolean.FALSE.equals(first)) {
-        log.info("[Consumer] 이미 처리된 메시지: {}", streamId);
-        redisTemplate.opsForStream().acknowledge("image-response-handler", record);
-        return;
+      if (process(record.getId(), record.getValue())) {
+        redisTemplate.opsForStream().acknowledge(GROUP, record);
       }
+    } catch (Exception e) {
+      log.error("이미지 성향 메시지 처리 실패: {}", e.getMessage(), e);
+    }
+  }
 
-      TendencyImageResultDto resultDto = convertToDto(record.getValue());
-      tendencyImageService.handleTendencyImageResult(resultDto);
+  // 결과마다 성향 갱신이 따르므로 처리는 건별로 하고, 읽기와 확인만 묶음
+  private List<RecordId> handleBatch(List<MapRecord<String, Object, Object>> records) {
+    List<RecordId> processed = new ArrayList<>(records.size());
+    for (MapRecord<String, Object, Object> record : records) {
+      try {
+        if (process(record.getId(), record.getValue())) {
+          processed.add(record.getId());
+        }
+      } catch (Exception e) {
+        log.error("이미지 성향 메시지 처리 실패: id={}, {}", record.getId(), e.getMessage(), e);
+      }
+    }
+    return processed;
+  }
 
-      redisTemplate.opsForStream().acknowledge("image-response-handler", record);
+  /**
+   * @return 확인(ACK) 대상이면 true
+   */
+  private boolean process(RecordId recordId, Map<?, ?> value) {
+    String streamId = recordId.getValue();
+    String key = "processed:image-response:" + streamId;
 
-    } catch (Exception e) {
-      log.error("이미지 성향 메시지 처리 실패: {}", e.getMessage(), e);
+    Boolean first = redisTemplate.opsForValue().setIfAbsent(key, "1", Duration.ofMinutes(10));
+    if (Boolean.FALSE.equals(first)) {
+      log.info("[Consumer] 이미 처리된 메시지: {}", streamId);
+      return true;
     }
+
+    TendencyImageResultDto resultDto = convertToDto(value);
+    tendencyImageService.handleTendencyImageResult(resultDto);
+    return true;
   }
 
 
-  private TendencyImageResultDto convertToDto(Map<String, String> map) {
+  private TendencyImageResultDto convertToDto(Map<?, ?> map) {
     return objectMapper.convertValue(map, TendencyImageResultDto.class);
   }
 
@@ -6,6 +6,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.stream.StreamRecords;
 import org.springframework.data.redis.core.StreamOperations;
 import org.springframework.stereotype.Service;
 
@@ -13,8 +14,11 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class AiRequestProducer {
 
+  public static final String STREAM_KEY = "ai-request-stream";
+
   private final StreamOperations<String, Object, Object> streamOperations;
   private final ObjectMapper objectMapper;
+  private final StreamTrimPolicy streamTrimPolicy;
 
   public void sendToAI(AiPromptMessage aiPromptMessage) {
     try {
@@ -24,10 +28,10 @@ public class AiRequestProducer {
           "data", json
       );
 
-      streamOperations.add("ai-request-stream", messageMap);
+      streamOperations.add(StreamRecords.newRecord().in(STREAM_KEY).ofMap(messageMap), streamTrimPolicy.addOptions());
     } catch (JsonProcessingException e) {
       throw new AiMessageSendFailedException("AI Prompt 메시지 직렬화 실패");
 
     }
   }
-}
\ No newline at end of file
+}
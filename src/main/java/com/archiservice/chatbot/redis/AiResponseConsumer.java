@@ -4,32 +4,63 @@ import com.archiservice.chatbot.dto.response.ChatResponseDto;
 import com.archiservice.chatbot.service.AiService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.connection.stream.Consumer;
 import org.springframework.data.redis.connection.stream.MapRecord;
 import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
 import org.springframework.data.redis.connection.stream.StreamOffset;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.stream.StreamMessageListenerContainer;
 import org.springframework.stereotype.Component;
 
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class AiResponseConsumer {
 
+  private static final String STREAM_KEY = "ai-response-stream";
+  private static final String GROUP = "response-handler";
+  private static final String CONSUMER_PREFIX = "consumer";
+
   private final AiService aiService;
   private final StreamMessageListenerContainer<String, MapRecord<String, String, String>> streamContainer;
   private final RedisTemplate<String, Object> redisTemplate;
   private final ObjectMapper objectMapper;
+  private final StreamConsumerGroupManager consumerGroupManager;
+
+  @Value("${chat.stream.batch-enabled:true}")
+  private boolean batchEnabled;
+
+  public AiResponseConsumer(AiService aiService,
+                            StreamMessageListenerContainer<String, MapRecord<String, String, String>> streamContainer,
+                            RedisTemplate<String, Object> redisTemplate,
+                            ObjectMapper objectMapper,
+                            StreamConsumerGroupManager consumerGroupManager) {
+    this.aiService = aiService;
+    this.streamContainer = streamContainer;
+    this.redisTemplate = redisTemplate;
+    this.objectMapper = objectMapper;
+    this.consumerGroupManager = consumerGroupManager;
+  }
 
   @PostConstruct
   public void startListening() {
+    // 회수한 보류 메시지도 배치 처리기로 다시 처리
+    StreamConsumerGroupManager.Subscription subscription =
+        new StreamConsumerGroupManager.Subscription(STREAM_KEY, GROUP, CONSUMER_PREFIX, this::handleBatch);
+    if (batchEnabled) {
+      consumerGroupManager.start(subscription);
+      return;
+    }
+    consumerGroupManager.register(subscription);
+
     streamContainer.receive(
-        Consumer.from("response-handler", "consumer-1"),
-        StreamOffset.create("ai-response-stream", ReadOffset.lastConsumed()),
+        Consumer.from(GROUP, consumerGroupManager.consumerName(CONSUMER_PREFIX, 0)),
+        StreamOffset.create(STREAM_KEY, ReadOffset.lastConsumed()),
         this::handleMessage
     );
     streamContainer.start();
@@ -38,15 +69,60 @@ public class AiResponseConsumer {
   private void handleMessage(MapRecord<String, String, String> record) {
     try {
       ChatResponseDto response = convertToDto(record.getValue());
+      response.setStreamRecordId(record.getId().getValue());
       aiService.handleAIResponse(response);
 
-      redisTemplate.opsForStream().acknowledge("response-handler", record);
+      redisTemplate.opsForStream().acknowledge(GROUP, record);
     } catch (Exception e) {
       log.error("메시지 처리 실패: {}", e.getMessage());
     }
   }
 
-  private ChatResponseDto convertToDto(Map<String, String> map) {
+  /**
+   * 배치 단위로 한 번에 처리하고, 실패하면 문제 레코드만 걸러내도록 건별 처리로 전환
+   * 배치 처리는 저장 실패일 때만 예외를 올리고(저장 이후 캐시/전송은 예외 없음), 채팅 id 는 레코드 id 별로
+   * AiResponseLedger 에 기록되어 건별 재처리나 회수 후 재전달 시에도 같은 id 로 저장되므로 중복 저장/전송되지 않음
+   * 변환되지 않는 레코드는 확인하지 않고 남겨 두어 회수 한도를 넘기면 DLQ 로 이동
+   */
+  private List<RecordId> handleBatch(List<MapRecord<String, Object, Object>> records) {
+    List<RecordId> processed = new ArrayList<>(records.size());
+    List<MapRecord<String, Object, Object>> converted = new ArrayList<>(records.size());
+    List<ChatResponseDto> responses = new ArrayList<>(records.size());
+
+    for (MapRecord<String, Object, Object> record : records) {
+      try {
+        ChatResponseDto response = convertToDto(record.getValue());
+        response.setStreamRecordId(record.getId().getValue());
+        responses.add(response);
+        converted.add(record);
+      } catch (IllegalArgumentException e) {
+        log.error("메시지 변환 실패: id={}, {}", record.getId(), e.getMessage());
+      }
+    }
+    if (responses.isEmpty()) {
+      return processed;
+    }
+
+    try {
+      aiService.handleAIResponses(responses);
+      converted.forEach(record -> processed.add(record.getId()));
+      return processed;
+    } catch (Exception e) {
+      log.warn("배치 처리 실패, 건별 처리로 전환: {} 건, {}", responses.size(), e.getMessage());
+    }
+
+    for (int i = 0; i < responses.size(); i++) {
+      try {
+        aiService.handleAIResponse(responses.get(i));
+        processed.add(converted.get(i).getId());
+      } catch (Exception e) {
+        log.error("메시지 처리 실패: id={}, {}", converted.get(i).getId(), e.getMessage());
+      }
+    }
+    return processed;
+  }
+
+  private ChatResponseDto convertToDto(Map<?, ?> map) {
     return objectMapper.convertValue(map, ChatResponseDto.class);
   }
 }
@@ -57,8 +133,9 @@ public class AiResponseConsumer {
  *
  *  •  aiService: 실제로 Redis에서 받은 메시지를 처리하는 서비스
  *  •  streamContainer: Redis Stream을 수신(listen)하고 처리하는 역할을 하는 객체입니다. Spring Data Redis에서 제공하는 StreamMessageListenerContainer
+ *  •  배치 모드(chat.stream.batch-enabled): StreamBatchPoller 가 XREADGROUP COUNT 로 여러 건을 읽어 handleAIResponses 로 일괄 처리
  *
  *
  *  받는 것만(consume only)!!!!
  *  보내는 역할(produce)"는 RedisStreamService.sendToAI()
- */
\ No newline at end of file
+ */
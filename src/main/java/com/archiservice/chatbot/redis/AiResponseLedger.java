@@ -0,0 +1,128 @@
+package com.archiservice.chatbot.redis;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * AI 응답 스트림 레코드별 처리 기록 (ai-response:ledger:{recordId})
+ * 보류 메시지 회수(reclaim) 등으로 같은 레코드가 다시 전달되어도
+ * - 처음 발급한 채팅 id 를 다시 쓰므로 DB 에는 한 행만 남음 (chat_id 중복은 무시)
+ * - 캐시 기록/전송까지 끝난 레코드는 다시 처리하지 않음
+ * 값은 "{chatId}" (발급만 됨) 또는 "{chatId}:delivered" (전송까지 완료)
+ */
+@Component
+@RequiredArgsConstructor
+public class AiResponseLedger {
+
+  private static final String KEY_PREFIX = "ai-response:ledger:";
+  private static final String DELIVERED_SUFFIX = ":delivered";
+
+  private final StringRedisTemplate stringRedisTemplate;
+
+  // 회수 주기와 DLQ 이동 한도보다 충분히 길게
+  @Value("${chat.stream.ledger-ttl-hours:24}")
+  private long ttlHours;
+
+  /**
+   * 처음 보는 레코드에는 후보 채팅 id 를 기록하고, 이미 기록이 있으면 그 값을 돌려줌 (한 번의 파이프라인 + MGET)
+   * @param candidates 레코드 id -> 새로 발급한 채팅 id
+   * @return 레코드 id -> 기록 상태
+   */
+  public Map<String, Entry> claim(Map<String, Long> candidates) {
+    if (candidates.isEmpty()) {
+      return Map.of();
+    }
+    List<String> recordIds = List.copyOf(candidates.keySet());
+    Duration ttl = Duration.ofHours(ttlHours);
+
+    List<Object> claimed = stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+      @Override
+      @SuppressWarnings("unchecked")
+      public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+        RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+        for (String recordId : recordIds) {
+          ops.opsForValue().setIfAbsent(keyOf(recordId), String.valueOf(candidates.get(recordId)), ttl);
+        }
+        return null;
+      }
+    });
+
+    Map<String, Entry> entries = new HashMap<>(recordIds.size() * 2);
+    List<String> existingIds = new ArrayList<>();
+    for (int i = 0; i < recordIds.size(); i++) {
+      String recordId = recordIds.get(i);
+      if (Boolean.TRUE.equals(claimed.get(i))) {
+        entries.put(recordId, new Entry(candidates.get(recordId), false, false));
+      } else {
+        existingIds.add(recordId);
+      }
+    }
+    if (existingIds.isEmpty()) {
+      return entries;
+    }
+
+    List<String> values = stringRedisTemplate.opsForValue().multiGet(existingIds.stream().map(this::keyOf).toList());
+    for (int i = 0; i < existingIds.size(); i++) {
+      String recordId = existingIds.get(i);
+      String value = values != null ? values.get(i) : null;
+      entries.put(recordId, value != null ? Entry.parse(value) : new Entry(candidates.get(recordId), false, false));
+    }
+    return entries;
+  }
+
+  /**
+   * @param chatIds 레코드 id -> 채팅 id
+   */
+  public void markDelivered(Map<String, Long> chatIds) {
+    if (chatIds.isEmpty()) {
+      return;
+    }
+    Duration ttl = Duration.ofHours(ttlHours);
+    stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+      @Override
+      @SuppressWarnings("unchecked")
+      public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+        RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+        chatIds.forEach((recordId, chatId) ->
+            ops.opsForValue().set(keyOf(recordId), chatId + DELIVERED_SUFFIX, ttl));
+        return null;
+      }
+    });
+  }
+
+  private String keyOf(String recordId) {
+    return KEY_PREFIX + recordId;
+  }
+
+  @Getter
+  public static final class Entry {
+
+    private final long chatId;
+    // 이전 전달에서 이미 채팅 id 를 발급함 (저장/캐시/전송 중 어디까지 됐는지 모름)
+    private final boolean redelivered;
+    private final boolean delivered;
+
+    private Entry(long chatId, boolean redelivered, boolean delivered) {
+      this.chatId = chatId;
+      this.redelivered = redelivered;
+      this.delivered = delivered;
+    }
+
+    public static Entry parse(String value) {
+      boolean delivered = value.endsWith(DELIVERED_SUFFIX);
+      String chatId = delivered ? value.substring(0, value.length() - DELIVERED_SUFFIX.length()) : value;
+      return new Entry(Long.parseLong(chatId), true, delivered);
+    }
+  }
+}
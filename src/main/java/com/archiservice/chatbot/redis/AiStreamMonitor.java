@@ -0,0 +1,118 @@
+package com.archiservice.chatbot.redis;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessagesSummary;
+import org.springframework.data.redis.connection.stream.StreamInfo;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * AI 요청 스트림 적체 감시
+ * 주기적으로 길이(XLEN), 미확인(PEL) 수, 아직 전달되지 않은 수를 읽어 게이지로 내보내고,
+ * 적체(미확인 + 미전달)가 상한을 넘으면 새 요청을 받지 않도록 isOverloaded 로 알림
+ * 요청 경로에서는 Redis 를 호출하지 않고 마지막 측정값만 봄
+ */
+@Component
+@Slf4j
+public class AiStreamMonitor {
+
+  // 스트림 -> AI 서버 쪽 컨슈머 그룹
+  private static final Map<String, String> MONITORED_STREAMS = Map.of(
+      AiRequestProducer.STREAM_KEY, "request-processor",
+      AiImageRequestProducer.STREAM_KEY, "image-request-processor"
+  );
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final Map<String, StreamGauges> gauges = new ConcurrentHashMap<>();
+
+  @Value("${chat.request.max-backlog:1000}")
+  private long maxBacklog;
+
+  public AiStreamMonitor(StringRedisTemplate stringRedisTemplate, MeterRegistry meterRegistry) {
+    this.stringRedisTemplate = stringRedisTemplate;
+    MONITORED_STREAMS.keySet().forEach(stream -> gauges.put(stream, new StreamGauges(stream, meterRegistry)));
+  }
+
+  public boolean isOverloaded(String stream) {
+    StreamGauges streamGauges = gauges.get(stream);
+    return streamGauges != null && streamGauges.backlog.get() >= maxBacklog;
+  }
+
+  public long getBacklog(String stream) {
+    StreamGauges streamGauges = gauges.get(stream);
+    return streamGauges == null ? 0 : streamGauges.backlog.get();
+  }
+
+  @Scheduled(fixedDelayString = "${chat.request.monitor-interval-ms:5000}")
+  public void sample() {
+    MONITORED_STREAMS.forEach((stream, group) -> {
+      try {
+        sample(stream, group, gauges.get(stream));
+      } catch (Exception e) {
+        log.warn("[Producer] 스트림 적체 측정 실패: stream={}, {}", stream, e.getMessage());
+      }
+    });
+  }
+
+  private void sample(String stream, String group, StreamGauges streamGauges) {
+    StreamOperations<String, Object, Object> streams = stringRedisTemplate.opsForStream();
+
+    Long length = streams.size(stream);
+    streamGauges.length.set(length == null ? 0 : length);
+
+    PendingMessagesSummary summary = streams.pending(stream, group);
+    long pending = summary == null ? 0 : summary.getTotalPendingMessages();
+    streamGauges.pending.set(pending);
+
+    long undelivered = countUndelivered(streams, stream, group);
+    streamGauges.backlog.set(pending + undelivered);
+  }
+
+  /**
+   * 그룹의 마지막 전달 id 이후 항목 수. 상한 + 1 개까지만 세므로 적체가 커도 비용이 일정
+   */
+  private long countUndelivered(StreamOperations<String, Object, Object> streams, String stream, String group) {
+    StreamInfo.XInfoGroups groups = streams.groups(stream);
+    String lastDeliveredId = null;
+    for (int i = 0; i < groups.size(); i++) {
+      StreamInfo.XInfoGroup info = groups.get(i);
+      if (group.equals(info.groupName())) {
+        lastDeliveredId = info.lastDeliveredId();
+        break;
+      }
+    }
+    if (lastDeliveredId == null) {
+      return 0;
+    }
+
+    List<MapRecord<String, Object, Object>> undelivered = streams.range(stream,
+        Range.of(Range.Bound.exclusive(lastDeliveredId), Range.Bound.unbounded()),
+        Limit.limit().count((int) Math.min(Integer.MAX_VALUE, maxBacklog + 1)));
+    return undelivered == null ? 0 : undelivered.size();
+  }
+
+  private static class StreamGauges {
+
+    private final AtomicLong length = new AtomicLong();
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong backlog = new AtomicLong();
+
+    private StreamGauges(String stream, MeterRegistry meterRegistry) {
+      Gauge.builder("ai.stream.length", length, AtomicLong::get).tag("stream", stream).register(meterRegistry);
+      Gauge.builder("ai.stream.pending", pending, AtomicLong::get).tag("stream", stream).register(meterRegistry);
+      Gauge.builder("ai.stream.backlog", backlog, AtomicLong::get).tag("stream", stream).register(meterRegistry);
+    }
+  }
+}
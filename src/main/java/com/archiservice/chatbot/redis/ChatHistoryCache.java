@@ -0,0 +1,146 @@
+package com.archiservice.chatbot.redis;
+
+import com.archiservice.chatbot.dto.ChatMessageDto;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별 최근 대화 캐시 (chat:user:{userId} 리스트, 오래된 것 -> 최신 순)
+ * - 쓰기: 추가 + 길이 제한(LTRIM) + 만료 갱신을 파이프라인 한 번으로 보냄
+ * - 읽기: LLEN 과 요청 구간의 LRANGE 만 파이프라인으로 보내 페이지 크기만큼만 전송/역직렬화
+ * 리스트는 최근 max-size 개만 유지하며, 요청 구간이 리스트 밖으로 나가면 캐시 미스로 보고 DB 에서 조회
+ * 단, 전체 대화로 채운 리스트(chat:user:{userId}:complete 표시)는 짧아도 그대로 반환 (대화가 적은 사용자도 캐시 적중)
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatHistoryCache {
+
+  private static final String KEY_PREFIX = "chat:user:";
+  private static final String COMPLETE_SUFFIX = ":complete";
+  private static final Duration TTL = Duration.ofHours(24);
+
+  // 리스트가 없을 때만 채우고 완전 표시를 남김 (DB 조회 이후 추가된 메시지로 리스트가 생겼으면 건드리지 않음)
+  // 표시는 리스트와 같은 TTL 로 남기고 리스트 TTL 은 추가 때마다 연장되므로 표시가 리스트보다 오래 남지 않음
+  private static final RedisScript<Long> FILL_COMPLETE_SCRIPT = new DefaultRedisScript<>(
+      "if redis.call('exists', KEYS[1]) == 1 then return 0 end "
+          + "if #ARGV > 1 then "
+          + "redis.call('rpush', KEYS[1], unpack(ARGV, 2)) "
+          + "redis.call('pexpire', KEYS[1], ARGV[1]) "
+          + "end "
+          + "redis.call('set', KEYS[2], '1', 'px', ARGV[1]) "
+          + "return 1",
+      Long.class);
+
+  private final RedisTemplate<String, ChatMessageDto> chatMessageRedisTemplate;
+
+  @Value("${chat.history.max-size:200}")
+  private int maxSize = 200;
+
+  public static String keyOf(Long userId) {
+    return KEY_PREFIX + userId;
+  }
+
+  private static String completeKeyOf(Long userId) {
+    return keyOf(userId) + COMPLETE_SUFFIX;
+  }
+
+  public void append(Long userId, ChatMessageDto message) {
+    appendAll(Map.of(userId, List.of(message)));
+  }
+
+  /**
+   * @param messagesByUser 사용자 id -> 추가할 메시지 (순서 유지)
+   */
+  public void appendAll(Map<Long, ? extends List<? extends ChatMessageDto>> messagesByUser) {
+    if (messagesByUser.isEmpty()) {
+      return;
+    }
+    chatMessageRedisTemplate.executePipelined(new SessionCallback<Object>() {
+      @Override
+      @SuppressWarnings("unchecked")
+      public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+        RedisOperations<String, ChatMessageDto> ops = (RedisOperations<String, ChatMessageDto>) operations;
+        messagesByUser.forEach((userId, messages) -> {
+          if (messages.isEmpty()) {
+            return;
+          }
+          String key = keyOf(userId);
+          ops.opsForList().rightPushAll(key, messages.toArray(new ChatMessageDto[0]));
+          ops.opsForList().trim(key, -maxSize, -1);
+          ops.expire(key, TTL);
+        });
+        return null;
+      }
+    });
+  }
+
+  /**
+   * DB 에서 읽은 사용자의 전체 대화로 캐시를 채우고 완전 표시를 남김 (이미 리스트가 있으면 무시)
+   * @param messages 전체 대화 (오래된 순, 비어 있어도 됨)
+   */
+  @SuppressWarnings("unchecked")
+  public void fillComplete(Long userId, List<? extends ChatMessageDto> messages) {
+    if (messages.size() > maxSize) {
+      return;
+    }
+    RedisSerializer<ChatMessageDto> serializer =
+        (RedisSerializer<ChatMessageDto>) chatMessageRedisTemplate.getValueSerializer();
+    List<Object> args = new ArrayList<>(messages.size() + 1);
+    args.add(String.valueOf(TTL.toMillis()).getBytes(StandardCharsets.UTF_8));
+    for (ChatMessageDto message : messages) {
+      args.add(serializer.serialize(message));
+    }
+    chatMessageRedisTemplate.execute(FILL_COMPLETE_SCRIPT, RedisSerializer.byteArray(),
+        new GenericToStringSerializer<>(Long.class), List.of(keyOf(userId), completeKeyOf(userId)), args.toArray());
+  }
+
+  /**
+   * 최신 메시지부터 page 번째 묶음을 오래된 순으로 반환
+   * @return 구간 전체가 캐시에 없으면 null (완전 표시가 있으면 짧거나 빈 구간도 반환)
+   */
+  @SuppressWarnings("unchecked")
+  public List<ChatMessageDto> findPage(Long userId, int page, int size) {
+    long end = (long) (page + 1) * size;
+    if (size <= 0 || end > maxSize) {
+      return null;
+    }
+
+    String key = keyOf(userId);
+    List<Object> results = chatMessageRedisTemplate.executePipelined(new SessionCallback<Object>() {
+      @Override
+      @SuppressWarnings("unchecked")
+      public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+        RedisOperations<String, ChatMessageDto> ops = (RedisOperations<String, ChatMessageDto>) operations;
+        ops.opsForList().size(key);
+        // 끝에서부터 센 음수 인덱스라 LLEN 결과를 기다리지 않고 같은 왕복에 보낼 수 있음
+        ops.opsForList().range(key, -end, -(long) page * size - 1);
+        ops.hasKey(completeKeyOf(userId));
+        return null;
+      }
+    });
+
+    Long length = (Long) results.get(0);
+    if ((length == null || length < end) && !Boolean.TRUE.equals(results.get(2))) {
+      return null;
+    }
+    return (List<ChatMessageDto>) results.get(1);
+  }
+
+  public void evict(Long userId) {
+    chatMessageRedisTemplate.delete(List.of(keyOf(userId), completeKeyOf(userId)));
+  }
+}
@@ -0,0 +1,95 @@
+package com.archiservice.chatbot.redis;
+
+import java.time.Duration;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * Redis Stream 배치 소비 루프
+ * XREADGROUP COUNT batchSize BLOCK 으로 여러 건을 한 번에 읽어 핸들러에 넘기고,
+ * 핸들러가 처리 완료로 돌려준 id 들은 XACK 한 번으로 확인. 돌려주지 않은 id 는 PEL 에 남음
+ */
+@Slf4j
+public class StreamBatchPoller implements Runnable {
+
+  private static final long ERROR_BACKOFF_MS = 1000;
+
+  @FunctionalInterface
+  public interface BatchHandler {
+
+    /**
+     * @return 처리 완료되어 XACK 할 레코드 id
+     */
+    List<RecordId> handle(List<MapRecord<String, Object, Object>> records);
+  }
+
+  private final StringRedisTemplate redisTemplate;
+  private final String stream;
+  private final String group;
+  private final String consumerName;
+  private final int batchSize;
+  private final Duration blockTimeout;
+  private final BatchHandler handler;
+
+  private volatile boolean running = true;
+
+  public StreamBatchPoller(StringRedisTemplate redisTemplate, String stream, String group, String consumerName,
+                           int batchSize, Duration blockTimeout, BatchHandler handler) {
+    this.redisTemplate = redisTemplate;
+    this.stream = stream;
+    this.group = group;
+    this.consumerName = consumerName;
+    this.batchSize = batchSize;
+    this.blockTimeout = blockTimeout;
+    this.handler = handler;
+  }
+
+  @Override
+  public void run() {
+    Consumer consumer = Consumer.from(group, consumerName);
+    StreamReadOptions options = StreamReadOptions.empty().count(batchSize).block(blockTimeout);
+    StreamOffset<String> offset = StreamOffset.create(stream, ReadOffset.lastConsumed());
+    log.info("[Consumer] 배치 소비 시작: stream={}, group={}, consumer={}, batchSize={}",
+        stream, group, consumerName, batchSize);
+
+    while (running && !Thread.currentThread().isInterrupted()) {
+      try {
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().read(consumer, options, offset);
+        if (records == null || records.isEmpty()) {
+          continue;
+        }
+
+        List<RecordId> processed = handler.handle(records);
+        if (!processed.isEmpty()) {
+          redisTemplate.opsForStream().acknowledge(stream, group, processed.toArray(new RecordId[0]));
+        }
+      } catch (Exception e) {
+        if (!running) {
+          break;
+        }
+        log.error("[Consumer] 배치 소비 실패: stream={}, {}", stream, e.getMessage(), e);
+        backoff();
+      }
+    }
+    log.info("[Consumer] 배치 소비 종료: stream={}, consumer={}", stream, consumerName);
+  }
+
+  public void stop() {
+    running = false;
+  }
+
+  private void backoff() {
+    try {
+      Thread.sleep(ERROR_BACKOFF_MS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,232 @@
+package com.archiservice.chatbot.redis;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamInfo;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis Stream 컨슈머 그룹 관리
+ * - 인스턴스마다 고유한 컨슈머 이름 ({prefix}-{instanceId}-{worker}) 으로 여러 노드가 같은 그룹을 나눠 소비
+ * - 스트림마다 설정된 수만큼 배치 소비 워커 실행
+ * - 오래 확인되지 않은 PEL 항목을 XPENDING + XCLAIM 으로 회수해 다시 처리하고,
+ *   전달 횟수가 상한에 이르면 {stream}:dlq 로 옮긴 뒤 확인 처리
+ */
+@Component
+@Slf4j
+public class StreamConsumerGroupManager {
+
+  private static final String DLQ_SUFFIX = ":dlq";
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final Executor streamConsumerExecutor;
+  private final String instanceId;
+
+  private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+  private final List<StreamBatchPoller> pollers = new CopyOnWriteArrayList<>();
+
+  @Value("${chat.stream.workers:2}")
+  private int workers;
+
+  @Value("${chat.stream.batch-size:100}")
+  private int batchSize;
+
+  @Value("${chat.stream.block-ms:100}")
+  private long blockMs;
+
+  @Value("${chat.stream.reclaim-min-idle-ms:60000}")
+  private long reclaimMinIdleMs;
+
+  @Value("${chat.stream.reclaim-batch-size:100}")
+  private int reclaimBatchSize;
+
+  @Value("${chat.stream.max-deliveries:5}")
+  private long maxDeliveries;
+
+  // 보류 항목 없이 이 시간 이상 쉬고 있는 컨슈머는 그룹에서 제거 (재시작으로 남은 이름 정리)
+  @Value("${chat.stream.stale-consumer-idle-ms:86400000}")
+  private long staleConsumerIdleMs;
+
+  public StreamConsumerGroupManager(StringRedisTemplate stringRedisTemplate,
+                                    @Qualifier("streamConsumerExecutor") Executor streamConsumerExecutor,
+                                    @Value("${chat.stream.instance-id:}") String instanceId) {
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.streamConsumerExecutor = streamConsumerExecutor;
+    this.instanceId = instanceId.isBlank() ? generateInstanceId() : instanceId;
+  }
+
+  public String consumerName(String prefix, int worker) {
+    return prefix + "-" + instanceId + "-" + worker;
+  }
+
+  /**
+   * 회수 대상으로 등록하고 배치 소비 워커 실행
+   */
+  public void start(Subscription subscription) {
+    register(subscription);
+    for (int worker = 0; worker < workers; worker++) {
+      StreamBatchPoller poller = new StreamBatchPoller(stringRedisTemplate, subscription.stream, subscription.group,
+          consumerName(subscription.consumerPrefix, worker), batchSize, Duration.ofMillis(blockMs), subscription.handler);
+      pollers.add(poller);
+      streamConsumerExecutor.execute(poller);
+    }
+  }
+
+  /**
+   * 회수 대상으로만 등록 (건별 리스너 모드)
+   */
+  public void register(Subscription subscription) {
+    subscriptions.add(subscription);
+  }
+
+  @PreDestroy
+  public void stop() {
+    pollers.forEach(StreamBatchPoller::stop);
+  }
+
+  @Scheduled(fixedDelayString = "${chat.stream.reclaim-interval-ms:30000}",
+      initialDelayString = "${chat.stream.reclaim-interval-ms:30000}")
+  public void reclaimPending() {
+    for (Subscription subscription : subscriptions) {
+      try {
+        reclaim(subscription);
+        removeStaleConsumers(subscription);
+      } catch (Exception e) {
+        log.error("[Consumer] 보류 메시지 회수 실패: stream={}, {}", subscription.stream, e.getMessage(), e);
+      }
+    }
+  }
+
+  /**
+   * @return 회수해 처리(또는 DLQ 이동)한 건수
+   */
+  public int reclaim(Subscription subscription) {
+    StreamOperations<String, Object, Object> streams = stringRedisTemplate.opsForStream();
+    PendingMessages pending = streams.pending(subscription.stream, subscription.group, Range.unbounded(), reclaimBatchSize);
+    if (pending == null || pending.isEmpty()) {
+      return 0;
+    }
+
+    Duration minIdle = Duration.ofMillis(reclaimMinIdleMs);
+    List<RecordId> retry = new ArrayList<>();
+    List<RecordId> dead = new ArrayList<>();
+    for (PendingMessage message : pending) {
+      if (message.getElapsedTimeSinceLastDelivery().compareTo(minIdle) < 0) {
+        continue;
+      }
+      if (message.getTotalDeliveryCount() >= maxDeliveries) {
+        dead.add(message.getId());
+      } else {
+        retry.add(message.getId());
+      }
+    }
+
+    int handled = moveToDeadLetter(subscription, dead);
+    if (retry.isEmpty()) {
+      return handled;
+    }
+
+    // 최소 유휴 시간을 다시 걸어 다른 노드가 먼저 가져간 항목은 건너뜀
+    String owner = consumerName(subscription.consumerPrefix, 0);
+    List<MapRecord<String, Object, Object>> claimed = streams.claim(subscription.stream, subscription.group, owner,
+        minIdle, retry.toArray(new RecordId[0]));
+    if (claimed == null || claimed.isEmpty()) {
+      return handled;
+    }
+
+    List<RecordId> processed = subscription.handler.handle(claimed);
+    if (!processed.isEmpty()) {
+      streams.acknowledge(subscription.stream, subscription.group, processed.toArray(new RecordId[0]));
+    }
+    log.info("[Consumer] 보류 메시지 회수: stream={}, claimed={}, processed={}, dead={}",
+        subscription.stream, claimed.size(), processed.size(), dead.size());
+    return handled + processed.size();
+  }
+
+  private int moveToDeadLetter(Subscription subscription, List<RecordId> ids) {
+    if (ids.isEmpty()) {
+      return 0;
+    }
+    StreamOperations<String, Object, Object> streams = stringRedisTemplate.opsForStream();
+    String dlq = subscription.stream + DLQ_SUFFIX;
+
+    for (RecordId id : ids) {
+      List<MapRecord<String, Object, Object>> original = streams.range(subscription.stream,
+          Range.closed(id.getValue(), id.getValue()));
+
+      Map<Object, Object> body = new HashMap<>();
+      if (original != null && !original.isEmpty()) {
+        body.putAll(original.get(0).getValue());
+      }
+      body.put("dlq-source-id", id.getValue());
+      body.put("dlq-group", subscription.group);
+      streams.add(MapRecord.create(dlq, body));
+    }
+    streams.acknowledge(subscription.stream, subscription.group, ids.toArray(new RecordId[0]));
+    log.warn("[Consumer] 전달 횟수 초과 메시지 DLQ 이동: stream={}, count={}", subscription.stream, ids.size());
+    return ids.size();
+  }
+
+  private void removeStaleConsumers(Subscription subscription) {
+    StreamOperations<String, Object, Object> streams = stringRedisTemplate.opsForStream();
+    StreamInfo.XInfoConsumers consumers = streams.consumers(subscription.stream, subscription.group);
+    if (consumers == null) {
+      return;
+    }
+    consumers.forEach(consumer -> {
+      if (consumer.pendingCount() == 0 && consumer.idleTimeMs() > staleConsumerIdleMs
+          && !consumer.consumerName().contains(instanceId)) {
+        streams.deleteConsumer(subscription.stream, Consumer.from(subscription.group, consumer.consumerName()));
+        log.info("[Consumer] 유휴 컨슈머 제거: stream={}, consumer={}", subscription.stream, consumer.consumerName());
+      }
+    });
+  }
+
+  private static String generateInstanceId() {
+    String host;
+    try {
+      host = InetAddress.getLocalHost().getHostName();
+    } catch (Exception e) {
+      host = "unknown";
+    }
+    return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+  }
+
+  /**
+   * 소비 대상 스트림과 처리기
+   */
+  public static class Subscription {
+
+    private final String stream;
+    private final String group;
+    private final String consumerPrefix;
+    private final StreamBatchPoller.BatchHandler handler;
+
+    public Subscription(String stream, String group, String consumerPrefix, StreamBatchPoller.BatchHandler handler) {
+      this.stream = stream;
+      this.group = group;
+      this.consumerPrefix = consumerPrefix;
+      this.handler = handler;
+    }
+  }
+}
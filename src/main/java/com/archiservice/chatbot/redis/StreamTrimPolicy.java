@@ -0,0 +1,29 @@
+package com.archiservice.chatbot.redis;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.stereotype.Component;
+
+/**
+ * AI 요청 스트림 XADD 시 함께 적용하는 trimming 옵션
+ * - retention-ms 가 있으면 MINID (그보다 오래된 항목 제거), 없으면 MAXLEN
+ * - 근사(~) trimming 으로 매 XADD 의 정리 비용을 매크로 노드 단위로 제한
+ */
+@Component
+public class StreamTrimPolicy {
+
+  @Value("${chat.request.maxlen:100000}")
+  private long maxLen;
+
+  @Value("${chat.request.retention-ms:0}")
+  private long retentionMs;
+
+  public XAddOptions addOptions() {
+    if (retentionMs > 0) {
+      long cutoff = System.currentTimeMillis() - retentionMs;
+      return XAddOptions.none().minId(RecordId.of(cutoff, 0)).approximateTrimming(true);
+    }
+    return XAddOptions.maxlen(maxLen).approximateTrimming(true);
+  }
+}
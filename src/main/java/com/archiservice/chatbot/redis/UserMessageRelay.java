@@ -0,0 +1,141 @@
+package com.archiservice.chatbot.redis;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * 사용자 대상 WebSocket 메시지 전달 (여러 노드)
+ * 심플 브로커는 같은 JVM 에 연결된 세션에만 전달하므로, 스트림을 소비한 노드와 사용자가 연결된 노드가 다를 수 있음
+ * relay-enabled 이면 자기 노드 세션에는 바로 보내고, 같은 메시지를 ws:user-messages 채널에 발행해
+ * 해당 사용자 세션을 가진 다른 노드가 자기 세션에 전달 (같은 사용자가 여러 노드에 연결된 경우 포함)
+ * 채널 메시지: "{노드}\n{userId}\n{destination}\n{JSON 본문}", 수신 노드는 본문을 다시 변환하지 않고 그대로 전달
+ * 직렬화한 본문은 content-type(application/json) 헤더를 직접 붙인 메시지로 보냄
+ * (convertAndSendToUser 의 headers 인자는 STOMP native 헤더가 되어 application/octet-stream 으로 나감)
+ */
+@Component
+@Slf4j
+public class UserMessageRelay implements MessageListener {
+
+  public static final String CHANNEL = "ws:user-messages";
+  private static final char SEPARATOR = '\n';
+
+  private final SimpMessagingTemplate messagingTemplate;
+  private final SimpUserRegistry simpUserRegistry;
+  private final StringRedisTemplate stringRedisTemplate;
+  private final RedisMessageListenerContainer redisMessageListenerContainer;
+  private final ObjectMapper objectMapper;
+  private final String nodeId = UUID.randomUUID().toString();
+
+  @Value("${chat.websocket.relay-enabled:false}")
+  private boolean relayEnabled;
+
+  public UserMessageRelay(SimpMessagingTemplate messagingTemplate,
+                          SimpUserRegistry simpUserRegistry,
+                          StringRedisTemplate stringRedisTemplate,
+                          RedisMessageListenerContainer redisMessageListenerContainer,
+                          ObjectMapper objectMapper) {
+    this.messagingTemplate = messagingTemplate;
+    this.simpUserRegistry = simpUserRegistry;
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.redisMessageListenerContainer = redisMessageListenerContainer;
+    this.objectMapper = objectMapper;
+  }
+
+  @PostConstruct
+  public void subscribe() {
+    if (relayEnabled) {
+      redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+  }
+
+  public void sendToUser(Long userId, String destination, Object payload) {
+    String user = String.valueOf(userId);
+    if (!relayEnabled) {
+      messagingTemplate.convertAndSendToUser(user, destination, payload);
+      return;
+    }
+
+    byte[] body;
+    try {
+      body = objectMapper.writeValueAsBytes(payload);
+    } catch (JsonProcessingException e) {
+      log.error("WebSocket 메시지 직렬화 실패: userId={}, {}", userId, e.getMessage());
+      return;
+    }
+
+    if (simpUserRegistry.getUser(user) != null) {
+      sendJson(user, destination, body);
+    }
+
+    try {
+      String envelope = nodeId + SEPARATOR + user + SEPARATOR + destination + SEPARATOR
+          + new String(body, StandardCharsets.UTF_8);
+      stringRedisTemplate.convertAndSend(CHANNEL, envelope);
+    } catch (Exception e) {
+      // 다른 노드 세션에는 전달되지 않지만 대화 기록(캐시/DB)에는 남아 있어 재조회로 복구 가능
+      log.warn("WebSocket 메시지 중계 발행 실패: userId={}, {}", userId, e.getMessage());
+    }
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    byte[] envelope = message.getBody();
+    int nodeEnd = indexOf(envelope, 0);
+    int userEnd = nodeEnd < 0 ? -1 : indexOf(envelope, nodeEnd + 1);
+    int destinationEnd = userEnd < 0 ? -1 : indexOf(envelope, userEnd + 1);
+    if (destinationEnd < 0) {
+      log.warn("잘못된 WebSocket 중계 메시지: length={}", envelope.length);
+      return;
+    }
+
+    String origin = new String(envelope, 0, nodeEnd, StandardCharsets.UTF_8);
+    if (origin.equals(nodeId)) {
+      return;
+    }
+    String user = new String(envelope, nodeEnd + 1, userEnd - nodeEnd - 1, StandardCharsets.UTF_8);
+    if (simpUserRegistry.getUser(user) == null) {
+      return;
+    }
+
+    String destination = new String(envelope, userEnd + 1, destinationEnd - userEnd - 1, StandardCharsets.UTF_8);
+    byte[] body = Arrays.copyOfRange(envelope, destinationEnd + 1, envelope.length);
+    sendJson(user, destination, body);
+  }
+
+  // convertAndSendToUser 와 같은 사용자 목적지(/user/{user}{destination})로 변환 없이 전송
+  private void sendJson(String user, String destination, byte[] body) {
+    SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+    accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+    accessor.setLeaveMutable(true);
+
+    String userDestination = messagingTemplate.getUserDestinationPrefix() + user.replace("/", "%2F") + destination;
+    messagingTemplate.send(userDestination, MessageBuilder.createMessage(body, accessor.getMessageHeaders()));
+  }
+
+  private static int indexOf(byte[] bytes, int from) {
+    for (int i = from; i < bytes.length; i++) {
+      if (bytes[i] == SEPARATOR) {
+        return i;
+      }
+    }
+    return -1;
+  }
+}
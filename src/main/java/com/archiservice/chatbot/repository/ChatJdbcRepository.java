@@ -0,0 +1,44 @@
+package com.archiservice.chatbot.repository;
+
+import com.archiservice.chatbot.domain.Chat;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 채팅 대량 저장 (JDBC 배치)
+ * chat_id 는 앱에서 발급(ChatIdGenerator)하며, 같은 chat_id 는 무시하므로 WAL 재저장 시 중복 저장되지 않음
+ * 중복 키만 무시하고(INSERT IGNORE 와 달리) FK/길이 초과 등 다른 오류는 그대로 예외로 올림
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatJdbcRepository {
+
+  private static final String INSERT_SQL =
+      "INSERT INTO chats (chat_id, user_id, message, mentioned_plans, message_type, sender, created_at) " +
+      "VALUES (?, ?, ?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE chat_id = chat_id";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * createdAt 이 비어 있으면 현재 시각으로 채움 (@PrePersist 를 거치지 않음)
+   */
+  public void insertAll(List<Chat> chats) {
+    if (chats.isEmpty()) {
+      return;
+    }
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    jdbcTemplate.batchUpdate(INSERT_SQL, chats, chats.size(), (ps, chat) -> {
+      ps.setLong(1, chat.getChatId());
+      ps.setLong(2, chat.getUser().getUserId());
+      ps.setString(3, chat.getMessage());
+      ps.setString(4, chat.getMentionedPlans());
+      ps.setString(5, chat.getMessageType().name());
+      ps.setString(6, chat.getSender().name());
+      ps.setTimestamp(7, chat.getCreatedAt() != null ? Timestamp.valueOf(chat.getCreatedAt()) : now);
+    });
+  }
+}
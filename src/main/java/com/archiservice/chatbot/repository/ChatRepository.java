@@ -1,6 +1,7 @@
 package com.archiservice.chatbot.repository;
 
 import com.archiservice.chatbot.domain.Chat;
+import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -10,4 +11,9 @@ public interface ChatRepository extends JpaRepository<Chat, Long> {
     void deleteByUser_UserId(Long userId);
 
     Page<Chat> findByUser_UserId(Long userId, Pageable pageable);
+
+    // 키셋 페이지네이션 (idx_chats_user_chat 범위 스캔, 최신순)
+    List<Chat> findByUser_UserIdOrderByChatIdDesc(Long userId, Pageable pageable);
+
+    List<Chat> findByUser_UserIdAndChatIdLessThanOrderByChatIdDesc(Long userId, Long chatId, Pageable pageable);
 }
@@ -4,10 +4,16 @@ package com.archiservice.chatbot.service;
 import com.archiservice.chatbot.domain.AuthInfo;
 import com.archiservice.chatbot.domain.Chat;
 import com.archiservice.chatbot.dto.response.ChatResponseDto;
+import java.util.List;
 
 public interface AiService {
 
   void sendMessageToAI(Chat chat, AuthInfo authInfo);
 
   void handleAIResponse(ChatResponseDto aiResponse);
+
+  /**
+   * 스트림에서 한 번에 읽은 응답들을 일괄 처리 (사용자 일괄 조회, 채팅 배치 저장, 캐시 파이프라인 기록)
+   */
+  void handleAIResponses(List<ChatResponseDto> aiResponses);
 }
\ No newline at end of file
@@ -12,5 +12,10 @@ public interface ChatService {
 
     List<ChatMessageDto> loadChatHistory(Long userId, int page, int size);
 
+    /**
+     * beforeChatId 보다 오래된 메시지 size 개 (오래된 순). 응답 첫 메시지의 id 가 다음 커서
+     */
+    List<ChatMessageDto> loadChatHistoryBefore(Long userId, Long beforeChatId, int size);
+
     void deleteChatByUserId(Long userId);
 }
\ No newline at end of file
@@ -1,5 +1,8 @@
 package com.archiservice.chatbot.service.impl;
 
+import com.archiservice.chatbot.component.AiPromptCoalescer;
+import com.archiservice.chatbot.component.ChatIdGenerator;
+import com.archiservice.chatbot.component.ChatLogWriter;
 import com.archiservice.chatbot.domain.AuthInfo;
 import com.archiservice.chatbot.domain.Chat;
 import com.archiservice.chatbot.dto.request.AiPromptMessage;
@@ -7,28 +10,41 @@ import com.archiservice.chatbot.dto.request.AuthMetadata;
 import com.archiservice.chatbot.dto.ChatMessageDto;
 import com.archiservice.chatbot.dto.response.ChatResponseDto;
 import com.archiservice.chatbot.dto.type.Sender;
-import com.archiservice.chatbot.redis.AiRequestProducer;
-import com.archiservice.chatbot.repository.ChatRepository;
+import com.archiservice.chatbot.redis.AiResponseLedger;
+import com.archiservice.chatbot.redis.ChatHistoryCache;
+import com.archiservice.chatbot.redis.UserMessageRelay;
 import com.archiservice.chatbot.service.AiService;
 import com.archiservice.user.domain.User;
 import com.archiservice.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
-import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.beans.BeanUtils;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class AiServiceImpl implements AiService {
 
-  private final ChatRepository chatRepository;
+  private final ChatLogWriter chatLogWriter;
+  private final ChatIdGenerator chatIdGenerator;
   private final UserRepository userRepository;
-  private final SimpMessagingTemplate messagingTemplate;
-  private final AiRequestProducer aiRequestProducer;
-  private final RedisTemplate<String, ChatMessageDto> chatMessageRedisTemplate;
+  private final UserMessageRelay userMessageRelay;
+  private final AiPromptCoalescer aiPromptCoalescer;
+  private final ChatHistoryCache chatHistoryCache;
+  private final AiResponseLedger aiResponseLedger;
 
   @Override
   public void sendMessageToAI(Chat chat, AuthInfo authInfo) {
@@ -37,42 +53,201 @@ public class AiServiceImpl implements AiService {
     AuthMetadata metadata = new AuthMetadata(authInfo.getTagCode(), authInfo.getAgeCode());
     AiPromptMessage aiPromptMessage = new AiPromptMessage(metadata, requestDto);
 
-    aiRequestProducer.sendToAI(aiPromptMessage);
+    aiPromptCoalescer.submit(authInfo.getUserId(), aiPromptMessage);
   }
 
+  /**
+   * 저장(chatLogWriter)과 처리 기록(AiResponseLedger) 실패만 예외로 올리고, 저장 이후 캐시/전송 실패는 기록만 함
+   * (호출 측이 예외 시 다시 처리하므로 저장 이후 단계에서 예외가 나면 중복 캐시/전송이 생김)
+   */
   @Override
   public void handleAIResponse(ChatResponseDto aiResponse) {
+    Map<ChatResponseDto, AiResponseLedger.Entry> claims = claimChatIds(List.of(aiResponse));
+    if (isDelivered(claims, aiResponse)) {
+      return;
+    }
 
     User user = userRepository.findById(aiResponse.getUserId()).orElseThrow();
-    Chat chat = Chat.builder()
+    chatLogWriter.append(toChat(user, aiResponse));
+    aiResponse.setSender(Sender.BOT);
+
+    afterPersisted(List.of(aiResponse), claims);
+  }
+
+  /**
+   * 배치 저장이 실패하면 캐시/전송 없이 예외를 올림 (채팅 id 는 처리 기록에 남아 건별 재처리 시 같은 id 로 저장)
+   */
+  @Override
+  public void handleAIResponses(List<ChatResponseDto> aiResponses) {
+    if (aiResponses.isEmpty()) {
+      return;
+    }
+    Map<ChatResponseDto, AiResponseLedger.Entry> claims = claimChatIds(aiResponses);
+
+    Set<Long> userIds = new HashSet<>();
+    for (ChatResponseDto aiResponse : aiResponses) {
+      if (aiResponse.getUserId() != null) {
+        userIds.add(aiResponse.getUserId());
+      }
+    }
+    Map<Long, User> users = userRepository.findAllById(userIds).stream()
+        .collect(Collectors.toMap(User::getUserId, Function.identity()));
+
+    List<Chat> chats = new ArrayList<>(aiResponses.size());
+    List<ChatResponseDto> accepted = new ArrayList<>(aiResponses.size());
+    for (ChatResponseDto aiResponse : aiResponses) {
+      if (isDelivered(claims, aiResponse)) {
+        continue;
+      }
+      User user = users.get(aiResponse.getUserId());
+      if (user == null) {
+        // 탈퇴 등으로 사라진 사용자의 응답은 재시도해도 처리할 수 없으므로 버림
+        log.warn("AI 응답 대상 사용자 없음: userId={}, messageId={}", aiResponse.getUserId(), aiResponse.getMessageId());
+        continue;
+      }
+      chats.add(toChat(user, aiResponse));
+      accepted.add(aiResponse);
+    }
+    if (chats.isEmpty()) {
+      return;
+    }
+
+    chatLogWriter.appendAll(chats);
+    accepted.forEach(aiResponse -> aiResponse.setSender(Sender.BOT));
+
+    afterPersisted(accepted, claims);
+  }
+
+  /**
+   * 스트림 레코드별 채팅 id 를 처리 기록에서 가져오고, 처음 보는 레코드면 새로 발급한 id 를 기록
+   * 회수(reclaim)로 다시 전달된 레코드도 처음 발급한 id 로 저장되어 중복 행이 생기지 않음
+   * 기록 조회가 실패하면 아무 부수 효과 없이 예외를 올림 (확인하지 않은 레코드는 다시 전달됨)
+   */
+  private Map<ChatResponseDto, AiResponseLedger.Entry> claimChatIds(List<ChatResponseDto> aiResponses) {
+    Map<String, Long> candidates = new LinkedHashMap<>();
+    Map<String, ChatResponseDto> byRecordId = new HashMap<>();
+    for (ChatResponseDto aiResponse : aiResponses) {
+      if (aiResponse.getStreamRecordId() == null) {
+        continue;
+      }
+      Long candidate = aiResponse.getChatId() != null ? aiResponse.getChatId() : chatIdGenerator.nextId();
+      candidates.put(aiResponse.getStreamRecordId(), candidate);
+      byRecordId.put(aiResponse.getStreamRecordId(), aiResponse);
+    }
+
+    Map<ChatResponseDto, AiResponseLedger.Entry> claims = new IdentityHashMap<>();
+    aiResponseLedger.claim(candidates).forEach((recordId, entry) -> {
+      ChatResponseDto aiResponse = byRecordId.get(recordId);
+      if (aiResponse == null) {
+        return;
+      }
+      aiResponse.setChatId(entry.getChatId());
+      claims.put(aiResponse, entry);
+    });
+    return claims;
+  }
+
+  // 이전 전달에서 캐시 기록/전송까지 끝난 레코드는 다시 처리하지 않고 확인(ACK)만 되도록 함
+  private boolean isDelivered(Map<ChatResponseDto, AiResponseLedger.Entry> claims, ChatResponseDto aiResponse) {
+    AiResponseLedger.Entry claim = claims.get(aiResponse);
+    if (claim == null || !claim.isDelivered()) {
+      return false;
+    }
+    log.info("이미 처리된 AI 응답 재전달 무시: record={}, chatId={}", aiResponse.getStreamRecordId(), claim.getChatId());
+    return true;
+  }
+
+  private Chat toChat(User user, ChatResponseDto aiResponse) {
+    if (aiResponse.getChatId() == null) {
+      aiResponse.setChatId(chatIdGenerator.nextId());
+    }
+    return Chat.builder()
+        .chatId(aiResponse.getChatId())
         .user(user)
         .sender(Sender.BOT)
         .message(aiResponse.getContent())
         .messageType(aiResponse.getType())
         .mentionedPlans(aiResponse.getMentionedPlans())
         .build();
-    chatRepository.save(chat);
-    aiResponse.setSender(Sender.BOT);
-    String key = "chat:user:" + aiResponse.getUserId();
-    chatMessageRedisTemplate.opsForList().rightPush(key, aiResponse);
-    chatMessageRedisTemplate.expire(key, Duration.ofHours(24));
-    // 타입별 추가 처리
-    switch(aiResponse.getType()) {
-      case SUGGESTION:
-        aiResponse.setContent("[추천] " + aiResponse.getContent());
-        break;
-      case KEYWORD_RECOMMENDATION:
-        aiResponse.setContent("[키워드] " + aiResponse.getContent());
-        break;
-      case PREFERENCE_UPDATE:
-        aiResponse.setContent("[성향 업데이트] " + aiResponse.getContent());
-        break;
+  }
+
+  private void afterPersisted(List<ChatResponseDto> accepted, Map<ChatResponseDto, AiResponseLedger.Entry> claims) {
+    Map<Long, List<ChatResponseDto>> cacheEntries = new LinkedHashMap<>();
+    Set<Long> staleUsers = new HashSet<>();
+    for (ChatResponseDto aiResponse : accepted) {
+      AiResponseLedger.Entry claim = claims.get(aiResponse);
+      if (claim != null && claim.isRedelivered()) {
+        // 이전 전달에서 이미 캐시에 기록됐을 수 있으므로 추가하지 않고 비워서 DB 에서 다시 읽게 함
+        staleUsers.add(aiResponse.getUserId());
+        continue;
+      }
+      cacheEntries.computeIfAbsent(aiResponse.getUserId(), id -> new ArrayList<>()).add(aiResponse);
+    }
+
+    try {
+      chatHistoryCache.appendAll(cacheEntries);
+    } catch (Exception e) {
+      // 일부만 기록됐을 수 있으므로 비워서 다음 조회는 DB 에서 읽게 함
+      log.warn("대화 캐시 기록 실패, 캐시 비움: users={}, {}", cacheEntries.keySet(), e.getMessage());
+      staleUsers.addAll(cacheEntries.keySet());
+    }
+    staleUsers.forEach(this::evictQuietly);
+
+    for (ChatResponseDto aiResponse : accepted) {
+      try {
+        deliver(aiResponse);
+      } catch (Exception e) {
+        log.warn("AI 응답 전송 실패 (저장은 완료): userId={}, chatId={}, {}",
+            aiResponse.getUserId(), aiResponse.getChatId(), e.getMessage());
+      }
+    }
+
+    markDeliveredQuietly(accepted);
+  }
+
+  // 기록 실패 시 재전달되면 같은 id 로 다시 저장(중복 무시)되고 캐시를 비운 뒤 한 번 더 전송될 수 있음
+  private void markDeliveredQuietly(List<ChatResponseDto> accepted) {
+    Map<String, Long> chatIds = new HashMap<>();
+    for (ChatResponseDto aiResponse : accepted) {
+      if (aiResponse.getStreamRecordId() != null) {
+        chatIds.put(aiResponse.getStreamRecordId(), aiResponse.getChatId());
+      }
+    }
+    try {
+      aiResponseLedger.markDelivered(chatIds);
+    } catch (Exception e) {
+      log.warn("AI 응답 처리 기록 실패: records={}, {}", chatIds.keySet(), e.getMessage());
+    }
+  }
+
+  private void evictQuietly(Long userId) {
+    try {
+      chatHistoryCache.evict(userId);
+    } catch (Exception e) {
+      log.warn("대화 캐시 삭제 실패: userId={}, {}", userId, e.getMessage());
+    }
+  }
+
+  // 타입별 머리말은 전송용 복사본에만 붙임 (원본은 저장/캐시/재처리에 그대로 사용)
+  private void deliver(ChatResponseDto aiResponse) {
+    String prefix = switch (aiResponse.getType()) {
+      case SUGGESTION -> "[추천] ";
+      case KEYWORD_RECOMMENDATION -> "[키워드] ";
+      case PREFERENCE_UPDATE -> "[성향 업데이트] ";
+      default -> null;
+    };
+
+    ChatResponseDto payload = aiResponse;
+    if (prefix != null) {
+      payload = new ChatResponseDto();
+      BeanUtils.copyProperties(aiResponse, payload);
+      payload.setContent(prefix + aiResponse.getContent());
     }
 
-    messagingTemplate.convertAndSendToUser(
-        String.valueOf(aiResponse.getUserId()),
+    userMessageRelay.sendToUser(
+        aiResponse.getUserId(),
         "/queue/chat",
-        aiResponse
+        payload
     );
   }
-}
\ No newline at end of file
+}
@@ -1,34 +1,31 @@
 package com.archiservice.chatbot.service.impl;
 
 
+import com.archiservice.chatbot.component.AiRequestAdmission;
+import com.archiservice.chatbot.component.ChatLogWriter;
 import com.archiservice.chatbot.domain.AuthInfo;
 import com.archiservice.chatbot.domain.Chat;
 import com.archiservice.chatbot.dto.ChatMessageDto;
 import com.archiservice.chatbot.dto.request.ChatMessageRequestDto;
 import com.archiservice.chatbot.dto.type.MessageType;
 import com.archiservice.chatbot.dto.type.Sender;
+import com.archiservice.chatbot.redis.ChatHistoryCache;
+import com.archiservice.chatbot.redis.UserMessageRelay;
 import com.archiservice.chatbot.repository.ChatRepository;
 import com.archiservice.chatbot.service.AiService;
 import com.archiservice.chatbot.service.ChatService;
 import com.archiservice.exception.BusinessException;
 import com.archiservice.exception.ErrorCode;
-import com.archiservice.user.domain.User;
 import com.archiservice.user.repository.UserRepository;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.transaction.Transactional;
-import java.time.Duration;
-import java.util.Comparator;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -36,33 +33,32 @@ public class ChatServiceImpl implements ChatService {
 
     private final ChatRepository chatRepository;
     private final UserRepository userRepository;
-    private final SimpMessagingTemplate messagingTemplate;
-    private final RedisTemplate<String, ChatMessageDto> chatMessageRedisTemplate;
+    private final UserMessageRelay userMessageRelay;
+    private final ChatHistoryCache chatHistoryCache;
+    private final ChatLogWriter chatLogWriter;
     private final AiService aiService;
-    private final ObjectMapper objectMapper;
+    private final AiRequestAdmission aiRequestAdmission;
 
 
     @Override
     public void handleUserMessage(ChatMessageRequestDto request, AuthInfo authInfo) {
-        User user = userRepository.findById(authInfo.getUserId())
-            .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        aiRequestAdmission.acquire(authInfo.getUserId());
 
+        // 인증된 사용자이므로 조회 없이 참조만 사용 (저장은 ChatLogWriter 가 비동기로 처리)
         Chat chat = Chat.builder()
-            .user(user)
+            .user(userRepository.getReferenceById(authInfo.getUserId()))
             .sender(Sender.USER)
             .message(request.getContent())
             .messageType(MessageType.USER_MESSAGE)
             .build();
-        Chat savedChat = chatRepository.save(chat);
+        Chat savedChat = chatLogWriter.append(chat);
 
         ChatMessageDto response = ChatMessageDto.fromChat(savedChat);
 
-        String key = "chat:user:" + authInfo.getUserId();
-        chatMessageRedisTemplate.opsForList().rightPush(key, response);
-        chatMessageRedisTemplate.expire(key, Duration.ofHours(24));
+        chatHistoryCache.append(authInfo.getUserId(), response);
 
-        messagingTemplate.convertAndSendToUser(
-            String.valueOf(authInfo.getUserId()),
+        userMessageRelay.sendToUser(
+            authInfo.getUserId(),
             "/queue/chat",
             response
         );
@@ -72,31 +68,35 @@ public class ChatServiceImpl implements ChatService {
 
     @Override
     public List<ChatMessageDto> loadChatHistory(Long userId, int page, int size) {
-        String key = "chat:user:" + userId;
-
-        List<Object> rawList = (List<Object>) (List<?>) chatMessageRedisTemplate.opsForList().range(key, 0, -1);
-
-        List<ChatMessageDto> cached = rawList.stream()
-            .map(obj -> objectMapper.convertValue(obj, ChatMessageDto.class))
-            .toList();
-
-        if (!cached.isEmpty()) {
-            int total = cached.size();
-            int from = Math.max(total - (page + 1) * size, 0);
-            int to = total - page * size;
+        List<ChatMessageDto> cached = chatHistoryCache.findPage(userId, page, size);
+        if (cached != null) {
+            return cached;
+        }
 
-            if (from < to) {
-                return cached.subList(from, to);
-            }
+        // fallback: DB 조회 (최신순으로 읽어 오래된 순으로 반환)
+        // 커서가 없는 페이지 번호 방식은 OFFSET 이 남으므로 이전 대화는 before 커서(loadChatHistoryBefore)로 이어서 조회
+        List<Chat> chats = chatRepository.findByUser_UserIdOrderByChatIdDesc(userId, PageRequest.of(page, size));
+        List<ChatMessageDto> result = toAscendingDtos(chats);
+        if (page == 0 && chats.size() < size) {
+            // 첫 페이지가 다 차지 않았으면 전체 대화이므로 캐시에 채워 다음 조회부터는 캐시에서 반환
+            fillCacheQuietly(userId, result);
         }
+        return result;
+    }
 
-        // fallback: DB 조회 시도 (최신순 정렬)
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").ascending());
-        Page<Chat> chatPage = chatRepository.findByUser_UserId(userId, pageable);
+    private void fillCacheQuietly(Long userId, List<ChatMessageDto> history) {
+        try {
+            chatHistoryCache.fillComplete(userId, history);
+        } catch (Exception e) {
+            log.warn("대화 캐시 채우기 실패: userId={}, {}", userId, e.getMessage());
+        }
+    }
 
-        return chatPage.stream()
-            .map(ChatMessageDto::fromChat)
-            .collect(Collectors.toList());
+    @Override
+    public List<ChatMessageDto> loadChatHistoryBefore(Long userId, Long beforeChatId, int size) {
+        List<Chat> chats = chatRepository.findByUser_UserIdAndChatIdLessThanOrderByChatIdDesc(
+            userId, beforeChatId, PageRequest.of(0, size));
+        return toAscendingDtos(chats);
     }
 
     @Override
@@ -104,8 +104,17 @@ public class ChatServiceImpl implements ChatService {
         if (!userRepository.existsById(userId)) {
             throw new BusinessException(ErrorCode.USER_NOT_FOUND);
         }
+        // 다른 노드의 큐/WAL 에 남은 이전 채팅이 삭제 후에 저장되지 않도록 기준 id 를 먼저 남김
+        chatLogWriter.markDeleted(userId);
         chatRepository.deleteByUser_UserId(userId);
-        String key = "chat:user:" + userId;
-        chatMessageRedisTemplate.delete(key);
+        chatHistoryCache.evict(userId);
+    }
+
+    private List<ChatMessageDto> toAscendingDtos(List<Chat> latestFirst) {
+        List<ChatMessageDto> result = new ArrayList<>(latestFirst.size());
+        for (int i = latestFirst.size() - 1; i >= 0; i--) {
+            result.add(ChatMessageDto.fromChat(latestFirst.get(i)));
+        }
+        return result;
     }
 }
\ No newline at end of file
@@ -1,13 +1,17 @@
 package com.archiservice.chatbot.service.impl;
 
+import com.archiservice.chatbot.component.ChatLogWriter;
+import com.archiservice.chatbot.component.ImageBlobStore;
 import com.archiservice.chatbot.domain.Chat;
+import com.archiservice.chatbot.domain.ImageHandoffMode;
 import com.archiservice.chatbot.dto.ChatMessageDto;
 import com.archiservice.chatbot.dto.request.TendencyImageRequestDto;
 import com.archiservice.chatbot.dto.response.TendencyImageResultDto;
 import com.archiservice.chatbot.dto.type.MessageType;
 import com.archiservice.chatbot.dto.type.Sender;
 import com.archiservice.chatbot.redis.AiImageRequestProducer;
-import com.archiservice.chatbot.repository.ChatRepository;
+import com.archiservice.chatbot.redis.ChatHistoryCache;
+import com.archiservice.chatbot.redis.UserMessageRelay;
 import com.archiservice.chatbot.service.TendencyImageService;
 import com.archiservice.common.security.CustomUser;
 import com.archiservice.exception.BusinessException;
@@ -23,12 +27,8 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.io.IOException;
-import java.time.Duration;
-import java.util.Base64;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
@@ -37,11 +37,12 @@ import org.springframework.web.multipart.MultipartFile;
 @RequiredArgsConstructor
 public class TendencyImageServiceImpl implements TendencyImageService {
 
-  private final SimpMessagingTemplate messagingTemplate;
+  private final UserMessageRelay userMessageRelay;
   private final AiImageRequestProducer aiImageRequestProducer;
-  private final ChatRepository chatRepository;
+  private final ImageBlobStore imageBlobStore;
+  private final ChatLogWriter chatLogWriter;
   private final UserRepository userRepository;
-  private final RedisTemplate<String, ChatMessageDto> chatMessageRedisTemplate;
+  private final ChatHistoryCache chatHistoryCache;
   private final UserService userService;
   private final ObjectMapper objectMapper;
 
@@ -61,36 +62,33 @@ public class TendencyImageServiceImpl implements TendencyImageService {
       throw new FileTooLargeException();
     }
 
-    String base64Image;
+    // 채팅 저장 전에 이미지를 먼저 읽어 두어 처리 실패 시 요청 기록이 남지 않도록 함
+    TendencyImageRequestDto dto;
     try {
-      base64Image = Base64.getEncoder().encodeToString(image.getBytes());
+      dto = imageBlobStore.getMode() == ImageHandoffMode.INLINE
+              ? TendencyImageRequestDto.of(userId.toString(), imageBlobStore.encodeBase64(image))
+              : TendencyImageRequestDto.ofReference(userId.toString(), imageBlobStore.store(image, ext.toLowerCase()));
     } catch (IOException e) {
       throw new FileProcessingException();
     }
 
-    User user = userRepository.findById(userId)
-            .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
-
     Chat userChat = Chat.builder()
-            .user(user)
+            .user(userRepository.getReferenceById(userId))
             .sender(Sender.USER)
             .message("이미지 분석을 요청했습니다.")
             .messageType(MessageType.USER_MESSAGE)
             .build();
 
-    Chat savedUserChat = chatRepository.save(userChat);
+    Chat savedUserChat = chatLogWriter.append(userChat);
 
-    String key = "chat:user:" + userId;
-    chatMessageRedisTemplate.opsForList().rightPush(key, ChatMessageDto.fromChat(savedUserChat));
-    chatMessageRedisTemplate.expire(key, Duration.ofHours(24));
+    chatHistoryCache.append(userId, ChatMessageDto.fromChat(savedUserChat));
 
-    messagingTemplate.convertAndSendToUser(
-            String.valueOf(userId),
+    userMessageRelay.sendToUser(
+            userId,
             "/queue/chat",
             ChatMessageDto.fromChat(savedUserChat)
     );
 
-    TendencyImageRequestDto dto = TendencyImageRequestDto.of(userId.toString(), base64Image);
     aiImageRequestProducer.sendToAI(dto);
   }
 
@@ -101,8 +99,6 @@ public class TendencyImageServiceImpl implements TendencyImageService {
     User user = userRepository.findById(userId)
             .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
-    String key = "chat:user:" + userId;
-
     ChatMessageDto summaryMsg = ChatMessageDto.ofSummary(userId, dto.getSummary());
 
     Chat summaryChat = Chat.builder()
@@ -111,11 +107,11 @@ public class TendencyImageServiceImpl implements TendencyImageService {
             .message(summaryMsg.getContent())
             .messageType(MessageType.IMAGE_ANALYSIS)
             .build();
-    Chat savedSummary = chatRepository.save(summaryChat);
+    Chat savedSummary = chatLogWriter.append(summaryChat);
 
-    chatMessageRedisTemplate.opsForList().rightPush(key, ChatMessageDto.fromChat(savedSummary));
-    messagingTemplate.convertAndSendToUser(
-            String.valueOf(userId),
+    chatHistoryCache.append(userId, ChatMessageDto.fromChat(savedSummary));
+    userMessageRelay.sendToUser(
+            userId,
             "/queue/chat",
             ChatMessageDto.fromChat(savedSummary)
     );
@@ -145,11 +141,11 @@ public class TendencyImageServiceImpl implements TendencyImageService {
                 .message(tagsMsg.getContent())
                 .messageType(MessageType.IMAGE_ANALYSIS)
                 .build();
-        Chat savedTags = chatRepository.save(tagsChat);
+        Chat savedTags = chatLogWriter.append(tagsChat);
 
-        chatMessageRedisTemplate.opsForList().rightPush(key, ChatMessageDto.fromChat(savedTags));
-        messagingTemplate.convertAndSendToUser(
-                String.valueOf(userId),
+        chatHistoryCache.append(userId, ChatMessageDto.fromChat(savedTags));
+        userMessageRelay.sendToUser(
+                userId,
                 "/queue/chat",
                 ChatMessageDto.fromChat(savedTags)
         );
@@ -160,7 +156,6 @@ public class TendencyImageServiceImpl implements TendencyImageService {
         userService.updateTendency(tendencyUpdateRequestDto, new CustomUser(user));
       }
     }
-    chatMessageRedisTemplate.expire(key, Duration.ofHours(24));
   }
 
 
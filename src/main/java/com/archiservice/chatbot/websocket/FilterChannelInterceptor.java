@@ -1,7 +1,6 @@
 package com.archiservice.chatbot.websocket;
 
 import com.archiservice.chatbot.domain.AuthInfo;
-import com.archiservice.common.jwt.JwtUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
@@ -17,7 +16,7 @@ import org.springframework.stereotype.Component;
 @Order(Ordered.HIGHEST_PRECEDENCE + 99)
 public class FilterChannelInterceptor implements ChannelInterceptor {
 
-    private final JwtUtil jwtUtil;
+    private final WebSocketAuthResolver webSocketAuthResolver;
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
@@ -26,12 +25,8 @@ public class FilterChannelInterceptor implements ChannelInterceptor {
         if (StompCommand.CONNECT.equals(accessor.getCommand())) {
             String token = accessor.getFirstNativeHeader("Authorization");
             if (token != null && token.startsWith("Bearer ")) {
-                token = token.substring(7);
-                if (jwtUtil.validateToken(token)) {
-                    Long userId = jwtUtil.extractUserId(token);
-                    Long tagCode = jwtUtil.extractTagCode(token);
-                    String ageCode = jwtUtil.extractAgeCode(token);
-                    AuthInfo authInfo = AuthInfo.of(userId, ageCode, tagCode);
+                AuthInfo authInfo = webSocketAuthResolver.resolve(token.substring(7));
+                if (authInfo != null) {
                     accessor.setUser(authInfo);
                 }
             }
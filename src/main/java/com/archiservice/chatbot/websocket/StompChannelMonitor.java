@@ -0,0 +1,150 @@
+package com.archiservice.chatbot.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.security.Principal;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+/**
+ * STOMP 채널(inbound/outbound) 실행기 계측
+ * - websocket.channel.queue.size / active / pool.size: 채널별 대기 큐 길이, 실행 중 스레드, 풀 크기 게이지
+ * - websocket.channel.queue.wait: 메시지가 큐에서 기다린 시간, websocket.channel.handle: 처리 시간
+ * - 느린 소비자: outbound 전송이 slow-send-threshold 를 넘거나, 전송 시간/버퍼 제한 초과로 세션이 닫히면
+ *   websocket.slow.consumer 카운터를 올리고 세션 id 를 남김
+ */
+@Component
+@Slf4j
+public class StompChannelMonitor {
+
+  public static final String INBOUND = "inbound";
+  public static final String OUTBOUND = "outbound";
+
+  private final MeterRegistry meterRegistry;
+
+  @Value("${chat.websocket.slow-send-threshold-ms:1000}")
+  private long slowSendThresholdMs = 1000;
+
+  public StompChannelMonitor(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  /**
+   * 크기 설정과 초기화는 ChannelRegistration 이 맡음 (대기 시간 측정용 데코레이터만 미리 설정)
+   */
+  public ThreadPoolTaskExecutor createExecutor(String channel) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setThreadNamePrefix("ws-" + channel + "-");
+    // 포화 시 호출 스레드(inbound 는 소켓 수신 스레드)에서 실행해 유실 대신 수신 속도를 늦춤
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+
+    Timer queueWait = Timer.builder("websocket.channel.queue.wait")
+        .tag("channel", channel)
+        .publishPercentiles(0.5, 0.99)
+        .register(meterRegistry);
+    executor.setTaskDecorator(task -> {
+      long enqueuedAt = System.nanoTime();
+      return () -> {
+        queueWait.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+        task.run();
+      };
+    });
+
+    gauge("websocket.channel.queue.size", channel, executor, pool -> pool.getQueue().size());
+    gauge("websocket.channel.active", channel, executor, ThreadPoolExecutor::getActiveCount);
+    gauge("websocket.channel.pool.size", channel, executor, ThreadPoolExecutor::getPoolSize);
+    return executor;
+  }
+
+  public ExecutorChannelInterceptor latencyInterceptor(String channel) {
+    Timer handle = Timer.builder("websocket.channel.handle")
+        .tag("channel", channel)
+        .publishPercentiles(0.5, 0.99)
+        .register(meterRegistry);
+    Counter slowSends = OUTBOUND.equals(channel) ? slowConsumerCounter("slow-send") : null;
+    // 채널마다 따로 둠: 포화 시 CallerRunsPolicy 로 outbound 처리가 inbound 스레드 안에서 실행되면 시작 시각을 덮어쓰기 때문
+    ThreadLocal<Long> handleStart = new ThreadLocal<>();
+
+    return new ExecutorChannelInterceptor() {
+      @Override
+      public Message<?> beforeHandle(Message<?> message, MessageChannel messageChannel, MessageHandler handler) {
+        handleStart.set(System.nanoTime());
+        return message;
+      }
+
+      @Override
+      public void afterMessageHandled(Message<?> message, MessageChannel messageChannel, MessageHandler handler,
+                                      Exception ex) {
+        Long start = handleStart.get();
+        if (start == null) {
+          return;
+        }
+        handleStart.remove();
+        long elapsedNanos = System.nanoTime() - start;
+        handle.record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        if (slowSends != null && elapsedMs >= slowSendThresholdMs) {
+          slowSends.increment();
+          Principal user = SimpMessageHeaderAccessor.getUser(message.getHeaders());
+          log.warn("WebSocket 전송 지연: session={}, user={}, elapsedMs={}",
+              SimpMessageHeaderAccessor.getSessionId(message.getHeaders()),
+              user != null ? user.getName() : null, elapsedMs);
+        }
+      }
+    };
+  }
+
+  /**
+   * 전송 시간/버퍼 제한(configureWebSocketTransport)을 넘겨 서버가 닫은 세션 집계
+   */
+  public WebSocketHandlerDecoratorFactory slowConsumerDecoratorFactory() {
+    Counter closed = slowConsumerCounter("closed");
+    return handler -> new WebSocketHandlerDecorator(handler) {
+      @Override
+      public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+        if (CloseStatus.SESSION_NOT_RELIABLE.equals(closeStatus)) {
+          closed.increment();
+          log.warn("느린 WebSocket 세션 종료: session={}, user={}", session.getId(),
+              session.getPrincipal() != null ? session.getPrincipal().getName() : null);
+        }
+        super.afterConnectionClosed(session, closeStatus);
+      }
+    };
+  }
+
+  private Counter slowConsumerCounter(String reason) {
+    return Counter.builder("websocket.slow.consumer")
+        .tag("reason", reason)
+        .register(meterRegistry);
+  }
+
+  private void gauge(String name, String channel, ThreadPoolTaskExecutor executor,
+                     ToDoubleFunction<ThreadPoolExecutor> value) {
+    Gauge.builder(name, executor, taskExecutor -> {
+          try {
+            return value.applyAsDouble(taskExecutor.getThreadPoolExecutor());
+          } catch (IllegalStateException e) {
+            return 0; // 초기화 전
+          }
+        })
+        .tag("channel", channel)
+        .register(meterRegistry);
+  }
+}
@@ -0,0 +1,114 @@
+package com.archiservice.chatbot.websocket;
+
+import com.archiservice.chatbot.domain.AuthInfo;
+import com.archiservice.common.jwt.JwtUtil;
+import com.archiservice.common.jwt.VerifiedToken;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * WebSocket 핸드셰이크/STOMP CONNECT 토큰 인증
+ * 토큰을 한 번만 검증/파싱해 AuthInfo 를 만들고, 토큰 해시를 키로 만료(exp) 시각까지 캐시
+ * 배포 직후 재연결이 몰려도 같은 토큰의 서명 검증을 반복하지 않음 (원문 토큰은 보관하지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WebSocketAuthResolver {
+
+    private final JwtUtil jwtUtil;
+
+    private final Map<String, CachedAuth> cache = new ConcurrentHashMap<>();
+
+    @Value("${chat.websocket.auth-cache.max-size:10000}")
+    private int maxSize = 10000;
+
+    /**
+     * @return 유효하지 않은 토큰이면 null
+     */
+    public AuthInfo resolve(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        String key = hash(token);
+        long now = System.currentTimeMillis();
+        CachedAuth cached = cache.get(key);
+        if (cached != null) {
+            if (!cached.isExpired(now)) {
+                return cached.authInfo;
+            }
+            cache.remove(key, cached);
+        }
+
+        CachedAuth resolved = extractAuthInfo(token);
+        if (resolved == null) {
+            return null;
+        }
+        if (cache.size() >= maxSize) {
+            evictOverflow(now);
+        }
+        cache.put(key, resolved);
+        return resolved.authInfo;
+    }
+
+    private CachedAuth extractAuthInfo(String token) {
+        try {
+            VerifiedToken verified = jwtUtil.verify(token);
+            if (verified.getExpiration() == null) {
+                return null;
+            }
+            AuthInfo authInfo = AuthInfo.of(verified.getUserId(), verified.getAgeCode(), verified.getTagCode());
+            return new CachedAuth(authInfo, verified.getExpiration().getTime());
+        } catch (Exception e) {
+            log.warn("WebSocket 토큰 인증 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    // 만료 항목을 먼저 비우고, 그래도 가득 차 있으면 임의 항목을 10% 정리
+    private void evictOverflow(long now) {
+        cache.values().removeIf(entry -> entry.isExpired(now));
+
+        int toRemove = cache.size() - maxSize + Math.max(1, maxSize / 10);
+        Iterator<String> iterator = cache.keySet().iterator();
+        while (toRemove-- > 0 && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class CachedAuth {
+
+        private final AuthInfo authInfo;
+        private final long expiresAtMillis;
+
+        private CachedAuth(AuthInfo authInfo, long expiresAtMillis) {
+            this.authInfo = authInfo;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+
+        private boolean isExpired(long now) {
+            return now >= expiresAtMillis;
+        }
+    }
+}
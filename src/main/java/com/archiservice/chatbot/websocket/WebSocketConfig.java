@@ -1,8 +1,7 @@
 package com.archiservice.chatbot.websocket;
 
-import com.archiservice.chatbot.domain.AuthInfo;
-import com.archiservice.common.jwt.JwtUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.server.ServerHttpRequest;
@@ -33,8 +32,27 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     private static final int SEND_TIME_LIMIT_MILLIS = (int) TimeUnit.SECONDS.toMillis(20);
     private static final int SEND_BUFFER_SIZE_LIMIT_BYTES = (int) DataSize.ofKilobytes(512).toBytes();
 
-    private final JwtUtil jwtTokenProvider;
+    private final WebSocketAuthResolver webSocketAuthResolver;
     private final FilterChannelInterceptor filterChannelInterceptor;
+    private final StompChannelMonitor stompChannelMonitor;
+
+    @Value("${chat.websocket.inbound.core-pool-size:16}")
+    private int inboundCorePoolSize;
+
+    @Value("${chat.websocket.inbound.max-pool-size:32}")
+    private int inboundMaxPoolSize;
+
+    @Value("${chat.websocket.inbound.queue-capacity:2000}")
+    private int inboundQueueCapacity;
+
+    @Value("${chat.websocket.outbound.core-pool-size:16}")
+    private int outboundCorePoolSize;
+
+    @Value("${chat.websocket.outbound.max-pool-size:32}")
+    private int outboundMaxPoolSize;
+
+    @Value("${chat.websocket.outbound.queue-capacity:5000}")
+    private int outboundQueueCapacity;
 
     @Bean
     public DefaultHandshakeHandler handshakeHandler() {
@@ -43,27 +61,29 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
             protected Principal determineUser(ServerHttpRequest request,
                                               WebSocketHandler wsHandler,
                                               Map<String, Object> attributes) {
-                String token = extractTokenFromRequest(request);
-
-                if (token != null) {
-                    boolean isValid = jwtTokenProvider.validateToken(token);
-
-                    if (isValid) {
-                        Long userId = jwtTokenProvider.extractUserId(token);
-                        Long tagCode = jwtTokenProvider.extractTagCode(token);
-                        String ageCode = jwtTokenProvider.extractAgeCode(token);
-                        AuthInfo authInfo = AuthInfo.of(userId, ageCode, tagCode);
-                        return authInfo;
-                    }
-                }
-                return null;
+                return webSocketAuthResolver.resolve(extractTokenFromRequest(request));
             }
         };
     }
 
+    // 기본값(코어 = CPU x 2, 최대/큐 무제한) 대신 제한된 풀 사용
+    // 최대 스레드는 큐가 가득 찬 뒤에만 늘어나고, 그마저 가득 차면 호출 스레드에서 처리
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
-        registration.interceptors(filterChannelInterceptor);
+        registration.interceptors(filterChannelInterceptor, stompChannelMonitor.latencyInterceptor(StompChannelMonitor.INBOUND));
+        registration.taskExecutor(stompChannelMonitor.createExecutor(StompChannelMonitor.INBOUND))
+                .corePoolSize(inboundCorePoolSize)
+                .maxPoolSize(inboundMaxPoolSize)
+                .queueCapacity(inboundQueueCapacity);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.interceptors(stompChannelMonitor.latencyInterceptor(StompChannelMonitor.OUTBOUND));
+        registration.taskExecutor(stompChannelMonitor.createExecutor(StompChannelMonitor.OUTBOUND))
+                .corePoolSize(outboundCorePoolSize)
+                .maxPoolSize(outboundMaxPoolSize)
+                .queueCapacity(outboundQueueCapacity);
     }
 
 
@@ -112,7 +132,8 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     public void configureWebSocketTransport(WebSocketTransportRegistration registry) {
         registry.setMessageSizeLimit(MESSAGE_SIZE_LIMIT_BYTES)
                 .setSendTimeLimit(SEND_TIME_LIMIT_MILLIS)
-                .setSendBufferSizeLimit(SEND_BUFFER_SIZE_LIMIT_BYTES);
+                .setSendBufferSizeLimit(SEND_BUFFER_SIZE_LIMIT_BYTES)
+                .addDecoratorFactory(stompChannelMonitor.slowConsumerDecoratorFactory());
     }
 
     private TaskScheduler heartbeatScheduler() {
@@ -0,0 +1,25 @@
+package com.archiservice.code.commoncode.controller;
+
+import com.archiservice.code.commoncode.dto.response.CommonCodeReloadResponseDto;
+import com.archiservice.code.commoncode.service.CommonCodeService;
+import com.archiservice.common.response.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/admin/common-codes")
+public class CommonCodeController {
+
+    private final CommonCodeService commonCodeService;
+
+    @PostMapping("/reload")
+    public ResponseEntity<ApiResponse<CommonCodeReloadResponseDto>> reload() {
+        boolean changed = commonCodeService.reload();
+        return ResponseEntity.ok(ApiResponse.success("공통코드 재로딩 완료",
+                new CommonCodeReloadResponseDto(changed, commonCodeService.getVersion())));
+    }
+}
@@ -0,0 +1,91 @@
+package com.archiservice.code.commoncode.domain;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 공통코드 양방향 사전 (불변)
+ * 정방향: 그룹 -> (코드 -> 코드명), 역방향: 그룹 -> (코드명 -> 코드)
+ * 재로딩 시 새 사전을 만들어 통째로 교체하므로 조회 중 일부만 바뀐 상태를 보지 않음
+ */
+public final class CommonCodeDictionary {
+
+    public static final CommonCodeDictionary EMPTY = new CommonCodeDictionary(Collections.emptyMap(), Collections.emptyMap(), 0, 0L);
+
+    private final Map<String, Map<String, String>> namesByGroup;
+    private final Map<String, Map<String, String>> codesByGroup;
+    private final int size;
+    private final long version;
+
+    private CommonCodeDictionary(Map<String, Map<String, String>> namesByGroup,
+                                 Map<String, Map<String, String>> codesByGroup,
+                                 int size, long version) {
+        this.namesByGroup = namesByGroup;
+        this.codesByGroup = codesByGroup;
+        this.size = size;
+        this.version = version;
+    }
+
+    public static CommonCodeDictionary of(List<CommonCode> commonCodes) {
+        Map<String, Map<String, String>> names = new HashMap<>();
+        Map<String, Map<String, String>> codes = new HashMap<>();
+        long version = 0L;
+        int size = 0;
+
+        for (CommonCode commonCode : commonCodes) {
+            String group = commonCode.getGroupCode();
+            String code = commonCode.getCommonCode();
+            String name = commonCode.getCommonName();
+            if (group == null || code == null) {
+                continue;
+            }
+
+            names.computeIfAbsent(group, g -> new HashMap<>()).put(code, name);
+            if (name != null) {
+                codes.computeIfAbsent(group, g -> new HashMap<>()).putIfAbsent(name, code);
+            }
+            // 순서와 무관한 내용 기반 버전 (항목 해시의 합)
+            version += mix(group.hashCode(), code.hashCode(), name != null ? name.hashCode() : 0);
+            size++;
+        }
+
+        return new CommonCodeDictionary(freeze(names), freeze(codes), size, version);
+    }
+
+    public String getName(String groupCode, String commonCode) {
+        Map<String, String> group = namesByGroup.get(groupCode);
+        return group != null ? group.get(commonCode) : null;
+    }
+
+    public String getCode(String groupCode, String commonName) {
+        Map<String, String> group = codesByGroup.get(groupCode);
+        return group != null ? group.get(commonName) : null;
+    }
+
+    public Map<String, String> getNames(String groupCode) {
+        return namesByGroup.getOrDefault(groupCode, Collections.emptyMap());
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long version() {
+        return version;
+    }
+
+    private static Map<String, Map<String, String>> freeze(Map<String, Map<String, String>> groups) {
+        groups.replaceAll((group, entries) -> Collections.unmodifiableMap(entries));
+        return Collections.unmodifiableMap(groups);
+    }
+
+    private static long mix(int group, int code, int name) {
+        long h = ((long) group * 31 + code) * 0x9E3779B97F4A7C15L + name;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        return h;
+    }
+}
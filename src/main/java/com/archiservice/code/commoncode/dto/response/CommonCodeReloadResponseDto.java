@@ -0,0 +1,13 @@
+package com.archiservice.code.commoncode.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CommonCodeReloadResponseDto {
+    private boolean changed;
+    private long version;
+}
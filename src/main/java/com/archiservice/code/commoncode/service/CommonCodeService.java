@@ -1,7 +1,11 @@
 package com.archiservice.code.commoncode.service;
 
+import java.util.Map;
 
 public interface CommonCodeService {
     String getCodeName(String groupCode, String commonCode);
+    Map<String, String> getCodeNames(String groupCode);
     String getCode(String groupCode, String commonName);
+    boolean reload();
+    long getVersion();
 }
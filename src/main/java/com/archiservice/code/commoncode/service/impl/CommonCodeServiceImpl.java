@@ -1,65 +1,81 @@
 package com.archiservice.code.commoncode.service.impl;
 
-import com.archiservice.code.commoncode.domain.CommonCode;
+import com.archiservice.code.commoncode.domain.CommonCodeDictionary;
 import com.archiservice.code.commoncode.repository.CommonCodeRepository;
 import com.archiservice.code.commoncode.service.CommonCodeService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
-import java.util.stream.Collectors;
-
 
+/**
+ * 공통코드 조회 서비스
+ * 모든 조회는 메모리의 불변 사전에서 처리하고 DB 는 (재)로딩 시에만 읽음
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class CommonCodeServiceImpl implements CommonCodeService {
     private final CommonCodeRepository commonCodeRepository;
 
-    private Map<String, ConcurrentMap<String, String>> commonCodeCache = new ConcurrentHashMap<>();
+    private volatile CommonCodeDictionary dictionary = CommonCodeDictionary.EMPTY;
 
     @EventListener(ApplicationReadyEvent.class)
     public void loadAllCommonCodes() {
-        List<CommonCode> allCommonCodes = commonCodeRepository.findAll();
-        commonCodeCache = allCommonCodes.stream()
-                .collect(Collectors.groupingBy(
-                        CommonCode::getGroupCode,
-                        Collectors.toConcurrentMap(
-                                CommonCode::getCommonCode,
-                                CommonCode::getCommonName
-                        )
-                ));
+        reload();
+    }
+
+    @Scheduled(fixedDelayString = "${commoncode.reload-interval-ms:300000}",
+            initialDelayString = "${commoncode.reload-interval-ms:300000}")
+    public void scheduledReload() {
+        try {
+            reload();
+        } catch (Exception e) {
+            log.error("공통코드 재로딩 실패, 기존 사전 유지", e);
+        }
     }
 
     @Override
-    public String getCodeName(String groupCode, String commonCode) {
-        ConcurrentMap<String, String> groupMap = commonCodeCache.get(groupCode);
+    public boolean reload() {
+        CommonCodeDictionary loaded = CommonCodeDictionary.of(commonCodeRepository.findAll());
+        CommonCodeDictionary current = dictionary;
 
-        if (groupMap == null) {
-            return commonCode;
+        if (current != CommonCodeDictionary.EMPTY
+                && current.version() == loaded.version()
+                && current.size() == loaded.size()) {
+            return false;
         }
-        return groupMap.getOrDefault(commonCode, commonCode);
+
+        dictionary = loaded;
+        log.info("공통코드 사전 교체: version={}, {} 건", loaded.version(), loaded.size());
+        return true;
     }
 
     @Override
-    public String getCode(String groupCode, String commonName) {
+    public long getVersion() {
+        return dictionary.version();
+    }
 
-        ConcurrentMap<String, String> groupMap = commonCodeCache.get(groupCode);
-        if (groupMap != null) {
-            String result = groupMap.get(commonName);
-            if (result != null) {
-                return result;
-            }
-        }
+    @Override
+    public String getCodeName(String groupCode, String commonCode) {
+        String name = dictionary.getName(groupCode, commonCode);
+        return name != null ? name : commonCode;
+    }
+
+    @Override
+    public Map<String, String> getCodeNames(String groupCode) {
+        return dictionary.getNames(groupCode);
+    }
 
-        return commonCodeRepository.findCommonCodeByGroupCodeAndCommonName(groupCode, commonName)
-                .orElse(null);
+    @Override
+    public String getCode(String groupCode, String commonName) {
+        return dictionary.getCode(groupCode, commonName);
     }
 
 }
@@ -0,0 +1,126 @@
+package com.archiservice.code.tagmeta.domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * tagCode(64비트) -> 태그 설명 리스트 디코더
+ * 8비트 단위 조회 테이블로 바이트 하나를 한 번에 해석하고, 해석 결과는 고정 크기 캐시에 보관
+ * 태그 메타가 바뀌면 새 디코더를 만들어 교체 (불변)
+ */
+public final class TagCodeDecoder {
+
+    public static final TagCodeDecoder EMPTY = new TagCodeDecoder(new String[Long.SIZE]);
+
+    private static final int CHUNK_BITS = 8;
+    private static final int CHUNK_COUNT = Long.SIZE / CHUNK_BITS;
+    private static final int CHUNK_MASK = (1 << CHUNK_BITS) - 1;
+    private static final String[] NO_TAGS = new String[0];
+
+    // 캐시 슬롯 4096 개. 슬롯 충돌 시 나중 값이 덮어씀
+    private static final int CACHE_BITS = 12;
+    private static final int CACHE_SIZE = 1 << CACHE_BITS;
+
+    // chunkTables[chunk][byteValue] = 해당 바이트에 켜진 비트들의 태그 설명 (비트 오름차순)
+    private final String[][][] chunkTables;
+    private final AtomicReferenceArray<CacheEntry> cache = new AtomicReferenceArray<>(CACHE_SIZE);
+
+    private TagCodeDecoder(String[] descriptionsByBit) {
+        this.chunkTables = buildChunkTables(descriptionsByBit);
+    }
+
+    public static TagCodeDecoder of(List<TagMeta> tagMetas) {
+        String[] descriptions = new String[Long.SIZE];
+        for (TagMeta meta : tagMetas) {
+            Integer position = meta.getBitPosition();
+            if (position != null && position >= 0 && position < Long.SIZE) {
+                descriptions[position] = meta.getTagDescription();
+            }
+        }
+        return new TagCodeDecoder(descriptions);
+    }
+
+    /**
+     * @param descriptionsByBit 비트 위치(0~63) 별 태그 설명, 없는 위치는 null
+     */
+    public static TagCodeDecoder ofDescriptions(String[] descriptionsByBit) {
+        return new TagCodeDecoder(Arrays.copyOf(descriptionsByBit, Long.SIZE));
+    }
+
+    /**
+     * 반환 리스트는 여러 요청이 공유하므로 불변
+     */
+    public List<String> decode(long tagCode) {
+        if (tagCode == 0) {
+            return List.of();
+        }
+
+        int slot = slotOf(tagCode);
+        CacheEntry entry = cache.get(slot);
+        if (entry != null && entry.tagCode == tagCode) {
+            return entry.tags;
+        }
+
+        List<String> tags = decodeUncached(tagCode);
+        cache.set(slot, new CacheEntry(tagCode, tags));
+        return tags;
+    }
+
+    public List<String> decodeUncached(long tagCode) {
+        int size = 0;
+        for (int chunk = 0; chunk < CHUNK_COUNT; chunk++) {
+            size += chunkTables[chunk][(int) (tagCode >>> (chunk * CHUNK_BITS)) & CHUNK_MASK].length;
+        }
+        if (size == 0) {
+            return List.of();
+        }
+
+        String[] result = new String[size];
+        int offset = 0;
+        for (int chunk = 0; chunk < CHUNK_COUNT; chunk++) {
+            String[] part = chunkTables[chunk][(int) (tagCode >>> (chunk * CHUNK_BITS)) & CHUNK_MASK];
+            System.arraycopy(part, 0, result, offset, part.length);
+            offset += part.length;
+        }
+        return Collections.unmodifiableList(Arrays.asList(result));
+    }
+
+    private static String[][][] buildChunkTables(String[] descriptionsByBit) {
+        String[][][] tables = new String[CHUNK_COUNT][1 << CHUNK_BITS][];
+        List<String> buffer = new ArrayList<>(CHUNK_BITS);
+
+        for (int chunk = 0; chunk < CHUNK_COUNT; chunk++) {
+            int baseBit = chunk * CHUNK_BITS;
+            for (int value = 0; value <= CHUNK_MASK; value++) {
+                buffer.clear();
+                // 켜진 비트만 건너뛰며 순회
+                for (int bits = value; bits != 0; bits &= bits - 1) {
+                    String description = descriptionsByBit[baseBit + Integer.numberOfTrailingZeros(bits)];
+                    if (description != null) {
+                        buffer.add(description);
+                    }
+                }
+                tables[chunk][value] = buffer.isEmpty() ? NO_TAGS : buffer.toArray(NO_TAGS);
+            }
+        }
+        return tables;
+    }
+
+    private static int slotOf(long tagCode) {
+        long h = tagCode * 0x9E3779B97F4A7C15L;
+        return (int) (h >>> (Long.SIZE - CACHE_BITS));
+    }
+
+    private static final class CacheEntry {
+        private final long tagCode;
+        private final List<String> tags;
+
+        private CacheEntry(long tagCode, List<String> tags) {
+            this.tagCode = tagCode;
+            this.tags = tags;
+        }
+    }
+}
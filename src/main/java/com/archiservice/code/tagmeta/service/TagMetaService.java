@@ -1,5 +1,6 @@
 package com.archiservice.code.tagmeta.service;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -8,6 +9,7 @@ import com.archiservice.code.tagmeta.domain.TagMeta;
 
 public interface TagMetaService {
     List<String> extractTagsFromCode(Long tagCode);
+    Map<Long, List<String>> extractTagsFromCodes(Collection<Long> tagCodes);
     TagMeta findTagMetaByKey(String Key);
     Long calculateTagCodeFromKey(List<String> tagKeys);
 }
@@ -1,10 +1,9 @@
 package com.archiservice.code.tagmeta.service.impl;
 
+import com.archiservice.code.tagmeta.domain.TagCodeDecoder;
 import com.archiservice.code.tagmeta.domain.TagMeta;
 import com.archiservice.code.tagmeta.repository.TagMetaRepository;
 import com.archiservice.code.tagmeta.service.TagMetaService;
-import io.jsonwebtoken.lang.Collections;
-import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
@@ -13,8 +12,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -22,17 +19,14 @@ import java.util.stream.Collectors;
 public class TagMetaServiceImpl implements TagMetaService {
     private final TagMetaRepository tagMetaRepository;
 
-    private Map<Integer, TagMeta> tagMetaCache = new ConcurrentHashMap<>();
+    private volatile TagCodeDecoder tagCodeDecoder = TagCodeDecoder.EMPTY;
     private final Map<String, TagMeta> tagMetaKeyCache = new ConcurrentHashMap<>();
 
     @EventListener(ApplicationReadyEvent.class)
     public void loadAllTagMetas() {
         List<TagMeta> allTagMetas = tagMetaRepository.findAll();
-        tagMetaCache = allTagMetas.stream()
-                .collect(Collectors.toConcurrentMap(
-                        TagMeta::getBitPosition,
-                        Function.identity()
-                ));
+
+        tagCodeDecoder = TagCodeDecoder.of(allTagMetas);
 
         allTagMetas.forEach(meta ->
                 tagMetaKeyCache.put(meta.getId().getTagKey().toLowerCase(), meta)
@@ -42,20 +36,21 @@ public class TagMetaServiceImpl implements TagMetaService {
     @Override
     public List<String> extractTagsFromCode(Long tagCode) {
         if (tagCode == null || tagCode == 0) {
-            return Collections.emptyList();
+            return List.of();
         }
 
-        List<Integer> activeBitPositions = getActiveBitPositions(tagCode);
+        return tagCodeDecoder.decode(tagCode);
+    }
 
-        if (activeBitPositions.isEmpty()) {
-            return Collections.emptyList();
+    @Override
+    public Map<Long, List<String>> extractTagsFromCodes(Collection<Long> tagCodes) {
+        Map<Long, List<String>> result = new HashMap<>();
+        for (Long tagCode : tagCodes) {
+            if (tagCode != null && !result.containsKey(tagCode)) {
+                result.put(tagCode, extractTagsFromCode(tagCode));
+            }
         }
-
-        return activeBitPositions.stream()
-                .map(tagMetaCache::get)
-                .filter(Objects::nonNull)
-                .map(TagMeta::getTagDescription)
-                .collect(Collectors.toList());
+        return result;
     }
 
     @Override
@@ -78,21 +73,6 @@ public class TagMetaServiceImpl implements TagMetaService {
                 .map(position -> 1L << position)
                 .reduce(0L, (a, b) -> a | b);
     }
-
-
-
-
-    private List<Integer> getActiveBitPositions(Long tagCode) {
-        List<Integer> positions = new ArrayList<>();
-
-        for (int position = 0; position < 64; position++) {
-            if ((tagCode & (1L << position)) != 0) {
-                positions.add(position);
-            }
-        }
-
-        return positions;
-    }
   
     @Override
     public TagMeta findTagMetaByKey(String key) {
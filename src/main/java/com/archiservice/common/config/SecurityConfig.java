@@ -1,10 +1,9 @@
 package com.archiservice.common.config;
 
 import com.archiservice.common.config.handler.CustomAuthenticationEntryPoint;
-import com.archiservice.common.security.CustomUserDetailsService;
 import com.archiservice.common.jwt.JwtAuthenticationFilter;
-import com.archiservice.common.jwt.JwtUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -21,8 +20,8 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 @EnableWebSecurity
 public class SecurityConfig {
 
-    private final JwtUtil jwtUtil;
-    private final CustomUserDetailsService customUserDetailsService;
+    // 설정값(@Value)이 주입된 빈을 그대로 보안 체인에 등록
+    private final JwtAuthenticationFilter jwtAuthenticationFilter;
 
     private final String[] WHITE_LIST = {
             "/auth/login","/auth/refresh", "/users/signup", "/", "/index.html",
@@ -34,6 +33,14 @@ public class SecurityConfig {
         return new BCryptPasswordEncoder();
     }
 
+    // @Component 필터가 서블릿 필터로 한 번 더 등록되지 않도록 (보안 체인에서만 실행)
+    @Bean
+    public FilterRegistrationBean<JwtAuthenticationFilter> jwtAuthenticationFilterRegistration() {
+        FilterRegistrationBean<JwtAuthenticationFilter> registration = new FilterRegistrationBean<>(jwtAuthenticationFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http, CustomAuthenticationEntryPoint customAuthenticationEntryPoint) throws Exception {
         http
@@ -45,9 +52,12 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.GET, "/plans/*/reviews").permitAll()
                         .requestMatchers(HttpMethod.GET, "/vass/*/reviews").permitAll()
                         .requestMatchers(HttpMethod.GET, "/coupons/*/reviews").permitAll()
+                        .requestMatchers("/admin/bad-words/**").hasRole("ADMIN")
+                        .requestMatchers("/admin/reviews/**").hasRole("ADMIN")
+                        .requestMatchers("/admin/common-codes/**").hasRole("ADMIN")
                         .anyRequest().authenticated()
                 )
-                .addFilterBefore(new JwtAuthenticationFilter(jwtUtil, customUserDetailsService), UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
                 .exceptionHandling(ex -> ex
                         .authenticationEntryPoint(customAuthenticationEntryPoint)
                 );
@@ -26,5 +26,93 @@ public class AsyncConfig {
         log.info("배너 비동기 스레드 풀 초기화 완료");
         return executor;
     }
-}
 
+    @Bean("recommendExecutor")
+    public ThreadPoolTaskExecutor recommendExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(12);
+        executor.setMaxPoolSize(48);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("Recommend-");
+        // 요청 스레드에서 대신 실행하면 분기 제한 시간이 적용되지 않으므로 거절하고 호출 측에서 빈 결과로 대체
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+
+        log.info("추천 병렬 처리 스레드 풀 초기화 완료");
+        return executor;
+    }
+
+    // 불용어 사전 구축 전용 단일 스레드 (구축이 겹치지 않도록 직렬 실행)
+    @Bean("badWordExecutor")
+    public ThreadPoolTaskExecutor badWordExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(16);
+        executor.setThreadNamePrefix("BadWord-Builder-");
+        executor.initialize();
+
+        log.info("불용어 사전 구축 스레드 초기화 완료");
+        return executor;
+    }
+
+    @Bean("moderationExecutor")
+    public ThreadPoolTaskExecutor moderationExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(16);
+        executor.setThreadNamePrefix("Review-Moderation-");
+        executor.initialize();
+
+        log.info("리뷰 검열 배치 스레드 풀 초기화 완료");
+        return executor;
+    }
+
+    // 리뷰 검열 배치 조정 스레드 (청크 읽기 + max-in-flight 세마포어 대기로 배치 내내 점유하므로 공용 풀 대신 전용 스레드)
+    // 동시에 하나의 배치만 실행되므로 큐 없이 단일 스레드
+    @Bean("moderationCoordinatorExecutor")
+    public ThreadPoolTaskExecutor moderationCoordinatorExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("Review-Moderation-Coordinator-");
+        executor.initialize();
+
+        log.info("리뷰 검열 배치 조정 스레드 초기화 완료");
+        return executor;
+    }
+
+    // Redis Stream 배치 소비 워커 전용 (워커마다 스레드 하나가 XREADGROUP 블로킹 읽기를 반복)
+    // 스트림 수 x chat.stream.workers 이상이어야 함
+    @Bean("streamConsumerExecutor")
+    public ThreadPoolTaskExecutor streamConsumerExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(8);
+        executor.setMaxPoolSize(8);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("Stream-Consumer-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(5);
+        executor.initialize();
+
+        log.info("스트림 소비 스레드 풀 초기화 완료");
+        return executor;
+    }
+
+    // Redis pub/sub 수신 처리 (기본값인 메시지마다 새 스레드 생성 대신 단일 스레드로 순서대로 처리)
+    @Bean("redisListenerExecutor")
+    public ThreadPoolTaskExecutor redisListenerExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(10000);
+        executor.setThreadNamePrefix("Redis-Listener-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+
+        log.info("Redis 구독 처리 스레드 초기화 완료");
+        return executor;
+    }
+}
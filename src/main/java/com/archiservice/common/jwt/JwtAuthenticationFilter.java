@@ -2,27 +2,54 @@ package com.archiservice.common.jwt;
 
 import com.archiservice.common.security.CustomUser;
 import com.archiservice.common.security.CustomUserDetailsService;
+import com.archiservice.common.security.UserCache;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    private static final List<GrantedAuthority> ADMIN_AUTHORITIES = List.of(new SimpleGrantedAuthority("ROLE_ADMIN"));
+
     private final JwtUtil jwtUtil;
     private final CustomUserDetailsService userDetailsService;
+    private final UserCache userCache;
+    private final boolean cachedPrincipalEnabled;
+    private final Set<Long> adminUserIds;
+
+    /**
+     * @param cachedPrincipalEnabled true 면 토큰의 사용자 id 로 로컬 UserCache 에서 인증 주체 생성 (요청마다 DB 조회하지 않음)
+     *                               false 면 요청마다 DB 에서 사용자 조회
+     * @param adminUserIds ROLE_ADMIN 을 부여할 사용자 id (/admin/** 접근 허용)
+     */
+    public JwtAuthenticationFilter(JwtUtil jwtUtil,
+                                   CustomUserDetailsService userDetailsService,
+                                   UserCache userCache,
+                                   @Value("${security.principal.cache-enabled:true}") boolean cachedPrincipalEnabled,
+                                   @Value("${security.admin.user-ids:}") Set<Long> adminUserIds) {
+        this.jwtUtil = jwtUtil;
+        this.userDetailsService = userDetailsService;
+        this.userCache = userCache;
+        this.cachedPrincipalEnabled = cachedPrincipalEnabled;
+        this.adminUserIds = Set.copyOf(adminUserIds);
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -31,32 +58,33 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String authorizationHeader = request.getHeader("Authorization");
 
-        String token = null;
-        Long userId = null;
+        VerifiedToken verified = null;
 
         if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
-            token = authorizationHeader.substring(7); // "Bearer " 제거
+            String token = authorizationHeader.substring(7); // "Bearer " 제거
 
+            // 서명/만료 검증은 여기서 한 번만 수행
             try {
-                userId = jwtUtil.extractUserId(token);
+                verified = jwtUtil.verify(token);
             } catch (Exception e) {
                 log.error("JWT에서 사용자 ID 추출 실패: {}", e.getMessage());
             }
         }
 
         // 토큰이 유효하고 SecurityContext에 인증 정보가 없는 경우
-        if (userId != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+        if (verified != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            Long userId = verified.getUserId();
 
             try {
-                CustomUser userDetails = userDetailsService.loadUserByUserId(userId);
-                
-                if (jwtUtil.validateToken(token, userDetails)) {
+                CustomUser userDetails = loadPrincipal(verified);
+
+                if (userDetails != null && userId.equals(userDetails.getId())) {
 
                     UsernamePasswordAuthenticationToken authToken =
                             new UsernamePasswordAuthenticationToken(
                                     userDetails,
                                     null,
-                                    userDetails.getAuthorities()
+                                    authoritiesOf(userDetails)
                             );
 
                     authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -73,4 +101,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
+
+    private Collection<? extends GrantedAuthority> authoritiesOf(CustomUser userDetails) {
+        return adminUserIds.contains(userDetails.getId()) ? ADMIN_AUTHORITIES : userDetails.getAuthorities();
+    }
+
+    /**
+     * 성향(tagCode)은 변경 후에도 이전 토큰이 계속 쓰이므로 토큰 클레임이 아닌 사용자 캐시/DB 값으로 채움
+     * 캐시는 성향 변경 시 모든 노드에서 비워지므로 다음 요청부터 새 성향이 반영됨
+     */
+    private CustomUser loadPrincipal(VerifiedToken verified) {
+        if (cachedPrincipalEnabled) {
+            return userCache.findById(verified.getUserId()).map(CustomUser::new).orElse(null);
+        }
+        return userDetailsService.loadUserByUserId(verified.getUserId());
+    }
 }
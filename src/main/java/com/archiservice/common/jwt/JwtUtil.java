@@ -3,6 +3,7 @@ package com.archiservice.common.jwt;
 import com.archiservice.common.security.CustomUser;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -27,18 +28,29 @@ public class JwtUtil {
     @Value("${jwt.refresh-token-expiration}")
     private Long refreshTokenExpiration;
 
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+    // 비밀키와 파서는 불변이고 스레드 안전하므로 기동 시 한 번만 생성
+    private SecretKey signingKey;
+    private JwtParser jwtParser;
+
+    @PostConstruct
+    public void init() {
+        signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        jwtParser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+    }
+
+    /**
+     * 서명과 만료를 한 번에 검증하고 필요한 클레임을 모두 꺼냄
+     * @throws JwtException 서명 불일치, 만료 등 유효하지 않은 토큰
+     * @throws IllegalArgumentException 형식이 잘못된 토큰
+     */
+    public VerifiedToken verify(String token) {
+        return VerifiedToken.from(extractAllClaims(token));
     }
 
     public Long extractUserId(String token) {
-        try {
-            return Long.parseLong(extractClaim(token, Claims::getSubject));
-        } catch (NumberFormatException e) {
-            log.error("Invalid userId in token subject: {}", e.getMessage());
-            throw new IllegalArgumentException("Invalid userId format in token");
-        }
+        return verify(token).getUserId();
     }
 
     public Date extractExpiration(String token) {
@@ -52,9 +64,7 @@ public class JwtUtil {
 
     private Claims extractAllClaims(String token) {
         try {
-            return Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
+            return jwtParser
                     .parseSignedClaims(token)
                     .getPayload();
         } catch (ExpiredJwtException e) {
@@ -75,10 +85,6 @@ public class JwtUtil {
         }
     }
 
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
-
     public String generateAccessToken(CustomUser customUser) {
         Map<String, Object> claims = new HashMap<>();
         claims.put("tagCode", customUser.getTagCode());
@@ -99,14 +105,14 @@ public class JwtUtil {
                 .subject(String.valueOf(subject))
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
+    // 만료는 파싱 중에 검사되므로 별도로 다시 파싱하지 않음
     public Boolean validateToken(String token, CustomUser customUser) {
         try {
-            final Long userId = extractUserId(token);
-            return (userId.equals(customUser.getId()) && !isTokenExpired(token));
+            return verify(token).getUserId().equals(customUser.getId());
         } catch (Exception e) {
             log.error("Token validation failed: {}", e.getMessage());
             return false;
@@ -116,7 +122,7 @@ public class JwtUtil {
     public Boolean validateToken(String token) {
         try {
             extractAllClaims(token);
-            return !isTokenExpired(token);
+            return true;
         } catch (Exception e) {
             log.error("Token validation failed: {}", e.getMessage());
             return false;
@@ -129,22 +135,15 @@ public class JwtUtil {
 
 
     public Long extractTagCode(String token) {
-        final Claims claims = extractAllClaims(token);
-        Object tagCode = claims.get("tagCode");
-        if (tagCode instanceof Integer) {
-            return ((Integer) tagCode).longValue();
-        } else if (tagCode instanceof Long) {
-            return (Long) tagCode;
-        } else if (tagCode instanceof String) {
-            return Long.parseLong((String) tagCode);
-        } else {
-            throw new IllegalArgumentException("Invalid tagCode type in token: " + tagCode);
+        Long tagCode = verify(token).getTagCode();
+        if (tagCode == null) {
+            throw new IllegalArgumentException("Invalid tagCode type in token: null");
         }
+        return tagCode;
     }
 
     public String extractAgeCode(String token) {
-        final Claims claims = extractAllClaims(token);
-        return claims.get("ageCode", String.class);
+        return verify(token).getAgeCode();
     }
 
 
@@ -0,0 +1,70 @@
+package com.archiservice.common.jwt;
+
+import io.jsonwebtoken.Claims;
+import lombok.Getter;
+
+import java.util.Date;
+
+/**
+ * 서명/만료 검증을 마친 토큰의 클레임 (한 번의 파싱으로 필요한 값을 모두 꺼내 둠)
+ */
+@Getter
+public final class VerifiedToken {
+
+    private final Long userId;
+    private final Long tagCode;
+    private final String ageCode;
+    private final Date issuedAt;
+    private final Date expiration;
+
+    private VerifiedToken(Long userId, Long tagCode, String ageCode, Date issuedAt, Date expiration) {
+        this.userId = userId;
+        this.tagCode = tagCode;
+        this.ageCode = ageCode;
+        this.issuedAt = issuedAt;
+        this.expiration = expiration;
+    }
+
+    /**
+     * @throws IllegalArgumentException subject 가 사용자 id 가 아니거나 tagCode 형식이 잘못된 경우
+     */
+    public static VerifiedToken from(Claims claims) {
+        return new VerifiedToken(
+                parseUserId(claims.getSubject()),
+                parseTagCode(claims.get("tagCode")),
+                claims.get("ageCode", String.class),
+                claims.getIssuedAt(),
+                claims.getExpiration());
+    }
+
+    public static VerifiedToken of(Long userId, Long tagCode, String ageCode, Date issuedAt, Date expiration) {
+        return new VerifiedToken(userId, tagCode, ageCode, issuedAt, expiration);
+    }
+
+    public boolean isExpired(long nowMillis) {
+        return expiration != null && expiration.getTime() <= nowMillis;
+    }
+
+    private static Long parseUserId(String subject) {
+        try {
+            return Long.parseLong(subject);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid userId format in token");
+        }
+    }
+
+    // 리프레시 토큰 등 tagCode 가 없는 토큰도 있으므로 없으면 null
+    private static Long parseTagCode(Object tagCode) {
+        if (tagCode == null) {
+            return null;
+        } else if (tagCode instanceof Integer) {
+            return ((Integer) tagCode).longValue();
+        } else if (tagCode instanceof Long) {
+            return (Long) tagCode;
+        } else if (tagCode instanceof String) {
+            return Long.parseLong((String) tagCode);
+        } else {
+            throw new IllegalArgumentException("Invalid tagCode type in token: " + tagCode);
+        }
+    }
+}
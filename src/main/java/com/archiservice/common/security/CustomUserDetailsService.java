@@ -34,6 +34,7 @@ public class CustomUserDetailsService implements UserDetailsService {
         return new CustomUser(user);
     }
     
+    // 토큰 재발급 등 새 토큰의 클레임을 만드는 경로이므로 캐시가 아닌 DB 의 최신 사용자로 조회
     public CustomUser loadUserByUserId(Long userId) throws UsernameNotFoundException {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + userId));
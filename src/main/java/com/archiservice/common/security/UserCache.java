@@ -0,0 +1,147 @@
+package com.archiservice.common.security;
+
+import com.archiservice.user.domain.User;
+import com.archiservice.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자 로컬 캐시 (짧은 TTL)
+ * 요청 인증 주체(id/tagCode/ageCode 등)를 요청마다 DB 조회 없이 만들기 위해 사용
+ * - 엔티티 대신 불변 스냅샷을 보관하고 조회마다 새 User 사본을 돌려주므로 요청끼리 같은 객체를 공유하지 않음
+ * - 비밀번호와 개인정보(전화번호/생년월일 등)는 보관하지 않음, 필요하면 UserRepository 로 조회
+ * - 사용자 정보 변경 시 evict 호출: 로컬 항목을 지우고 Redis pub/sub(user-cache:evict) 으로 다른 노드에도 전파
+ *   알림이 유실되면 다른 노드는 TTL 이 지날 때까지 이전 값을 볼 수 있음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserCache {
+
+    public static final String EVICT_CHANNEL = "user-cache:evict";
+
+    private final UserRepository userRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final Map<Long, CachedUser> cache = new ConcurrentHashMap<>();
+
+    @Value("${security.user-cache.ttl-seconds:30}")
+    private long ttlSeconds;
+
+    @Value("${security.user-cache.max-size:10000}")
+    private int maxSize;
+
+    public Optional<User> findById(Long userId) {
+        long now = System.currentTimeMillis();
+        CachedUser cached = cache.get(userId);
+        if (cached != null && !cached.isExpired(now)) {
+            return Optional.of(cached.toUser());
+        }
+
+        Optional<User> user = userRepository.findById(userId);
+        if (user.isEmpty()) {
+            cache.remove(userId);
+            return Optional.empty();
+        }
+        CachedUser entry = new CachedUser(user.get(), now + ttlSeconds * 1000);
+        put(userId, entry);
+        return Optional.of(entry.toUser());
+    }
+
+    /**
+     * 비밀번호/성향 등 사용자 정보 변경 시 호출
+     * 트랜잭션 안이면 커밋 이후에 한 번 더 비워, 커밋 전에 다시 읽힌 이전 값이 남지 않도록 함
+     */
+    public void evict(Long userId) {
+        Runnable evictAll = () -> {
+            evictLocal(userId);
+            try {
+                stringRedisTemplate.convertAndSend(EVICT_CHANNEL, String.valueOf(userId));
+            } catch (Exception e) {
+                log.warn("사용자 캐시 무효화 알림 실패 (다른 노드는 TTL 로 만료): userId={}", userId, e);
+            }
+        };
+
+        evictLocal(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictAll.run();
+                }
+            });
+            return;
+        }
+        evictAll.run();
+    }
+
+    /**
+     * 다른 노드의 무효화 알림 수신 시 호출 (재전파하지 않음)
+     */
+    public void evictLocal(Long userId) {
+        cache.remove(userId);
+    }
+
+    private void put(Long userId, CachedUser entry) {
+        if (cache.size() >= maxSize) {
+            evictOverflow();
+        }
+        cache.put(userId, entry);
+    }
+
+    // 만료 항목을 먼저 비우고, 그래도 가득 차 있으면 임의 항목을 10% 정리
+    private void evictOverflow() {
+        long now = System.currentTimeMillis();
+        cache.values().removeIf(entry -> entry.isExpired(now));
+
+        int toRemove = cache.size() - maxSize + Math.max(1, maxSize / 10);
+        Iterator<Long> iterator = cache.keySet().iterator();
+        while (toRemove-- > 0 && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private static final class CachedUser {
+
+        private final Long userId;
+        private final String username;
+        private final String email;
+        private final String ageCode;
+        private final Long tagCode;
+        private final long expiresAt;
+
+        private CachedUser(User user, long expiresAt) {
+            this.userId = user.getUserId();
+            this.username = user.getUsername();
+            this.email = user.getEmail();
+            this.ageCode = user.getAgeCode();
+            this.tagCode = user.getTagCode();
+            this.expiresAt = expiresAt;
+        }
+
+        private User toUser() {
+            return User.builder()
+                    .userId(userId)
+                    .username(username)
+                    .email(email)
+                    .ageCode(ageCode)
+                    .tagCode(tagCode)
+                    .build();
+        }
+
+        private boolean isExpired(long now) {
+            return expiresAt <= now;
+        }
+    }
+}
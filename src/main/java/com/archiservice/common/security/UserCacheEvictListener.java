@@ -0,0 +1,40 @@
+package com.archiservice.common.security;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 다른 노드에서 발생한 사용자 정보 변경 알림 수신
+ * 메시지 본문은 사용자 id, 로컬 사용자 캐시에서 해당 항목만 제거
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserCacheEvictListener implements MessageListener {
+
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final UserCache userCache;
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(UserCache.EVICT_CHANNEL));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            userCache.evictLocal(Long.parseLong(body.trim()));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 사용자 캐시 무효화 알림: {}", body);
+        }
+    }
+}
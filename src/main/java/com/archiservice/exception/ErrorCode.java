@@ -26,6 +26,10 @@ public enum ErrorCode {
   FILE_PROCESSING_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "F500", "파일 처리 중 오류가 발생했습니다."),
 
   AI_MESSAGE_SEND_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "AI500", "AI 서버 데이터 전송 실패"),
+  AI_REQUEST_RATE_LIMITED(HttpStatus.TOO_MANY_REQUESTS, "AI429", "메시지를 너무 빠르게 보내고 있습니다. 잠시 후 다시 시도해주세요."),
+  AI_SERVER_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "AI503", "AI 응답 대기 중인 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+
+  BAD_WORD_DICTIONARY_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "BW503", "불용어 검사를 준비 중입니다. 잠시 후 다시 시도해주세요."),
 
   ALREADY_REVIEWED(HttpStatus.BAD_REQUEST, "ALREADY_REVIEWED", "이미 해당 요금제에 대한 리뷰를 작성하셨습니다.");
 
@@ -0,0 +1,14 @@
+package com.archiservice.exception.business;
+
+import com.archiservice.exception.BusinessException;
+import com.archiservice.exception.ErrorCode;
+
+public class AiRequestRateLimitedException extends BusinessException {
+  public AiRequestRateLimitedException() {
+    super(ErrorCode.AI_REQUEST_RATE_LIMITED);
+  }
+
+  public AiRequestRateLimitedException(String message) {
+    super(ErrorCode.AI_REQUEST_RATE_LIMITED, message);
+  }
+}
@@ -0,0 +1,14 @@
+package com.archiservice.exception.business;
+
+import com.archiservice.exception.BusinessException;
+import com.archiservice.exception.ErrorCode;
+
+public class AiServerBusyException extends BusinessException {
+  public AiServerBusyException() {
+    super(ErrorCode.AI_SERVER_BUSY);
+  }
+
+  public AiServerBusyException(String message) {
+    super(ErrorCode.AI_SERVER_BUSY, message);
+  }
+}
@@ -0,0 +1,10 @@
+package com.archiservice.exception.business;
+
+import com.archiservice.exception.BusinessException;
+import com.archiservice.exception.ErrorCode;
+
+public class BadWordDictionaryUnavailableException extends BusinessException {
+  public BadWordDictionaryUnavailableException() {
+    super(ErrorCode.BAD_WORD_DICTIONARY_UNAVAILABLE);
+  }
+}
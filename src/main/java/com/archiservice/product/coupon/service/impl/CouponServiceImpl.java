@@ -21,6 +21,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -38,9 +39,14 @@ public class CouponServiceImpl implements CouponService {
     public Page<CouponResponseDto> getAllCoupons(Pageable pageable) {
         Page<Coupon> couponPage = couponRepository.findAll(pageable);
 
+        // 페이지 단위로 태그 / 공통코드를 한 번에 해석
+        Map<Long, List<String>> tagsByCode = tagMetaService.extractTagsFromCodes(
+                couponPage.getContent().stream().map(Coupon::getTagCode).toList());
+        Map<String, String> categoryNames = commonCodeService.getCodeNames(CATEGORY_GROUP_CODE);
+
         return couponPage.map(coupon -> {
-            List<String> tags = tagMetaService.extractTagsFromCode(coupon.getTagCode());
-            String category = commonCodeService.getCodeName(CATEGORY_GROUP_CODE, coupon.getCategoryCode());
+            List<String> tags = tagsByCode.getOrDefault(coupon.getTagCode(), List.of());
+            String category = categoryNames.getOrDefault(coupon.getCategoryCode(), coupon.getCategoryCode());
             return CouponResponseDto.from(coupon, tags, category);
         });
     }
@@ -1,6 +1,7 @@
 package com.archiservice.product.plan.service.impl;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import com.archiservice.product.coupon.dto.response.CouponDetailResponseDto;
@@ -41,10 +42,16 @@ public class PlanServiceImpl implements PlanService {
     public Page<PlanResponseDto> getAllPlans(Pageable pageable) {
         Page<Plan> planPage = planRepository.findAll(pageable);
 
+        // 페이지 단위로 태그 / 공통코드를 한 번에 해석
+        Map<Long, List<String>> tagsByCode = tagMetaService.extractTagsFromCodes(
+                planPage.getContent().stream().map(Plan::getTagCode).toList());
+        Map<String, String> categoryNames = commonCodeService.getCodeNames(CATEGORY_GROUP_CODE);
+        Map<String, String> ageNames = commonCodeService.getCodeNames(AGE_GROUP_CODE);
+
         return planPage.map(plan -> {
-            List<String> tags = tagMetaService.extractTagsFromCode(plan.getTagCode());
-            String category = commonCodeService.getCodeName(CATEGORY_GROUP_CODE, plan.getCategoryCode());
-            String targetAge = commonCodeService.getCodeName(AGE_GROUP_CODE, plan.getAgeCode());
+            List<String> tags = tagsByCode.getOrDefault(plan.getTagCode(), List.of());
+            String category = categoryNames.getOrDefault(plan.getCategoryCode(), plan.getCategoryCode());
+            String targetAge = ageNames.getOrDefault(plan.getAgeCode(), plan.getAgeCode());
             return PlanResponseDto.from(plan, tags, category, targetAge);
         });
     }
@@ -21,6 +21,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
 
@@ -39,9 +40,14 @@ public class VasServiceImpl implements VasService {
     public Page<VasResponseDto> getAllVas(Pageable pageable) {
         Page<Vas> vasPage = vasRepository.findAll(pageable);
 
+        // 페이지 단위로 태그 / 공통코드를 한 번에 해석
+        Map<Long, List<String>> tagsByCode = tagMetaService.extractTagsFromCodes(
+                vasPage.getContent().stream().map(Vas::getTagCode).toList());
+        Map<String, String> categoryNames = commonCodeService.getCodeNames(CATEGORY_GROUP_CODE);
+
         return vasPage.map(vas -> {
-            List<String> tags = tagMetaService.extractTagsFromCode(vas.getTagCode());
-            String category = commonCodeService.getCodeName(CATEGORY_GROUP_CODE, vas.getCategoryCode());
+            List<String> tags = tagsByCode.getOrDefault(vas.getTagCode(), List.of());
+            String category = categoryNames.getOrDefault(vas.getCategoryCode(), vas.getCategoryCode());
             return VasResponseDto.from(vas, tags, category);
         });
     }
@@ -0,0 +1,73 @@
+package com.archiservice.recommend.component;
+
+import com.archiservice.product.coupon.domain.Coupon;
+import com.archiservice.product.coupon.repository.CouponRepository;
+import com.archiservice.product.plan.domain.Plan;
+import com.archiservice.product.plan.repository.PlanRepository;
+import com.archiservice.product.vas.domain.Vas;
+import com.archiservice.product.vas.repository.VasRepository;
+import com.archiservice.recommend.domain.CatalogSnapshot;
+import com.archiservice.recommend.domain.ProductIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 추천용 상품 카탈로그 인메모리 스냅샷
+ * 추천 요청마다 findAll() 로 전체 상품을 조회하지 않도록 주기적으로 갱신된 불변 스냅샷을 제공
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductCatalog {
+
+    private final PlanRepository planRepository;
+    private final VasRepository vasRepository;
+    private final CouponRepository couponRepository;
+
+    private final AtomicReference<CatalogSnapshot> snapshot = new AtomicReference<>(CatalogSnapshot.EMPTY);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadCatalog() {
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${recommend.catalog.refresh-interval-ms:600000}",
+            initialDelayString = "${recommend.catalog.refresh-interval-ms:600000}")
+    public void scheduledRefresh() {
+        refresh();
+    }
+
+    /**
+     * 상품 변경 시 호출. 내용이 바뀐 경우에만 스냅샷을 교체
+     */
+    public void refresh() {
+        try {
+            CatalogSnapshot loaded = new CatalogSnapshot(
+                    ProductIndex.of(planRepository.findAll(), Plan::getPlanId, Plan::getTagCode),
+                    ProductIndex.of(vasRepository.findAll(), Vas::getVasId, Vas::getTagCode),
+                    ProductIndex.of(couponRepository.findAll(), Coupon::getCouponId, Coupon::getTagCode)
+            );
+
+            CatalogSnapshot previous = snapshot.get();
+            if (previous != CatalogSnapshot.EMPTY && previous.getVersion() == loaded.getVersion()) {
+                return;
+            }
+
+            snapshot.set(loaded);
+            log.info("상품 카탈로그 스냅샷 갱신: version={}, 요금제 {} 개, 부가서비스 {} 개, 쿠폰 {} 개",
+                    loaded.getVersion(), loaded.getPlans().size(), loaded.getVass().size(), loaded.getCoupons().size());
+        } catch (Exception e) {
+            log.error("상품 카탈로그 스냅샷 갱신 실패, 기존 스냅샷 유지", e);
+        }
+    }
+
+    public CatalogSnapshot getSnapshot() {
+        return snapshot.get();
+    }
+}
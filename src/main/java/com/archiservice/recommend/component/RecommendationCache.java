@@ -0,0 +1,149 @@
+package com.archiservice.recommend.component;
+
+import com.archiservice.recommend.domain.CachedRecommendation;
+import com.archiservice.recommend.dto.response.RecommendResponseDto;
+import com.archiservice.review.stats.service.ReviewStatsService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 추천 결과 캐시
+ * (userId, tagCode, catalogVersion, statsVersion) 가 같으면 재계산 없이 이전 결과를 반환
+ * 1차 로컬 메모리, 2차 Redis (recommend.cache.redis-enabled=true 일 때만)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecommendationCache {
+
+    private static final String REDIS_KEY_PREFIX = "recommend:user:";
+
+    private final ProductCatalog productCatalog;
+    private final ReviewStatsService reviewStatsService;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final Map<Long, CachedRecommendation> localCache = new ConcurrentHashMap<>();
+
+    @Value("${recommend.cache.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    @Value("${recommend.cache.max-size:10000}")
+    private int maxSize;
+
+    @Value("${recommend.cache.redis-enabled:false}")
+    private boolean redisEnabled;
+
+    public RecommendResponseDto getOrCompute(Long userId, long tagCode, Supplier<RecommendResponseDto> loader) {
+        return getOrCompute(userId, tagCode, loader, response -> true);
+    }
+
+    /**
+     * @param cacheable 계산된 결과를 캐시에 저장할지 여부 (부분 실패한 결과는 저장하지 않기 위함)
+     */
+    public RecommendResponseDto getOrCompute(Long userId, long tagCode, Supplier<RecommendResponseDto> loader,
+                                             Predicate<RecommendResponseDto> cacheable) {
+        // 계산 전에 버전을 읽어야 계산 중 변경이 생겨도 옛 결과가 새 버전으로 저장되지 않음
+        long catalogVersion = productCatalog.getSnapshot().getVersion();
+        long statsVersion = reviewStatsService.getVersion();
+        long now = System.currentTimeMillis();
+
+        CachedRecommendation cached = localCache.get(userId);
+        if (isValid(cached, tagCode, catalogVersion, statsVersion, now)) {
+            return cached.getResponse();
+        }
+
+        cached = readRedis(userId);
+        if (isValid(cached, tagCode, catalogVersion, statsVersion, now)) {
+            putLocal(userId, cached);
+            return cached.getResponse();
+        }
+
+        RecommendResponseDto response = loader.get();
+        if (!cacheable.test(response)) {
+            return response;
+        }
+
+        CachedRecommendation entry = new CachedRecommendation(
+                tagCode, catalogVersion, statsVersion, now + ttlSeconds * 1000, response);
+        putLocal(userId, entry);
+        writeRedis(userId, entry);
+        return response;
+    }
+
+    /**
+     * 사용자 성향(태그 코드) 변경 시 호출
+     */
+    public void evict(Long userId) {
+        localCache.remove(userId);
+        if (redisEnabled) {
+            try {
+                stringRedisTemplate.delete(REDIS_KEY_PREFIX + userId);
+            } catch (Exception e) {
+                log.warn("추천 캐시 Redis 삭제 실패: userId={}", userId, e);
+            }
+        }
+    }
+
+    private boolean isValid(CachedRecommendation cached, long tagCode, long catalogVersion, long statsVersion, long now) {
+        return cached != null
+                && !cached.isExpired(now)
+                && cached.matches(tagCode, catalogVersion, statsVersion);
+    }
+
+    private void putLocal(Long userId, CachedRecommendation entry) {
+        if (localCache.size() >= maxSize) {
+            evictOverflow();
+        }
+        localCache.put(userId, entry);
+    }
+
+    // 만료 항목을 먼저 비우고, 그래도 가득 차 있으면 임의 항목을 10% 정리
+    private void evictOverflow() {
+        long now = System.currentTimeMillis();
+        localCache.values().removeIf(entry -> entry.isExpired(now));
+
+        int toRemove = localCache.size() - maxSize + Math.max(1, maxSize / 10);
+        Iterator<Long> iterator = localCache.keySet().iterator();
+        while (toRemove-- > 0 && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private CachedRecommendation readRedis(Long userId) {
+        if (!redisEnabled) {
+            return null;
+        }
+        try {
+            String json = stringRedisTemplate.opsForValue().get(REDIS_KEY_PREFIX + userId);
+            return json != null ? objectMapper.readValue(json, CachedRecommendation.class) : null;
+        } catch (Exception e) {
+            log.warn("추천 캐시 Redis 조회 실패: userId={}", userId, e);
+            return null;
+        }
+    }
+
+    private void writeRedis(Long userId, CachedRecommendation entry) {
+        if (!redisEnabled) {
+            return;
+        }
+        try {
+            stringRedisTemplate.opsForValue().set(REDIS_KEY_PREFIX + userId,
+                    objectMapper.writeValueAsString(entry), Duration.ofSeconds(ttlSeconds));
+        } catch (Exception e) {
+            log.warn("추천 캐시 Redis 저장 실패: userId={}", userId, e);
+        }
+    }
+}
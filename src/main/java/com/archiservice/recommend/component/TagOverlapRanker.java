@@ -0,0 +1,154 @@
+package com.archiservice.recommend.component;
+
+import com.archiservice.recommend.domain.ProductIndex;
+import org.springframework.stereotype.Component;
+
+import java.util.function.LongToDoubleFunction;
+
+/**
+ * 태그 일치 개수(bitCount) → 베이지안 평점 순으로 상위 K 개 상품을 선택
+ * 카탈로그 전체를 정렬하지 않고 크기 K 의 원시 배열 min-heap 으로 한 번에 순회
+ */
+@Component
+public class TagOverlapRanker {
+
+    /**
+     * @param userTagCode 사용자 태그 코드
+     * @param index       상품 인덱스
+     * @param limit       선택할 상품 수
+     * @param scoreById   상품 id → 베이지안 평점. 힙에 들어갈 가능성이 있는 상품에 대해서만 호출
+     * @return 순위순으로 정렬된 인덱스 내 위치
+     */
+    public int[] rank(long userTagCode, ProductIndex<?> index, int limit, LongToDoubleFunction scoreById) {
+        if (limit <= 0 || userTagCode == 0) {
+            return new int[0];
+        }
+
+        long[] tagCodes = index.tagCodes();
+        TopKHeap heap = new TopKHeap(Math.min(limit, tagCodes.length));
+
+        for (int i = 0; i < tagCodes.length; i++) {
+            int bitCount = Long.bitCount(userTagCode & tagCodes[i]);
+            if (bitCount == 0) {
+                continue;
+            }
+            // 힙이 가득 찼고 태그 일치 수가 최하위보다 적으면 평점 계산 없이 건너뜀
+            if (heap.isFull() && bitCount < heap.peekBitCount()) {
+                continue;
+            }
+            heap.offer(i, bitCount, scoreById.applyAsDouble(index.idAt(i)));
+        }
+
+        return heap.drainBestFirst();
+    }
+
+    /**
+     * 루트에 가장 순위가 낮은 항목이 오는 min-heap
+     * 순위: bitCount 내림차순 → score 내림차순 → 카탈로그 위치 오름차순
+     */
+    private static final class TopKHeap {
+        private final int[] positions;
+        private final int[] bitCounts;
+        private final double[] scores;
+        private int size;
+
+        private TopKHeap(int capacity) {
+            this.positions = new int[capacity];
+            this.bitCounts = new int[capacity];
+            this.scores = new double[capacity];
+        }
+
+        private boolean isFull() {
+            return size == positions.length;
+        }
+
+        private int peekBitCount() {
+            return bitCounts[0];
+        }
+
+        private void offer(int position, int bitCount, double score) {
+            if (positions.length == 0) {
+                return;
+            }
+            if (!isFull()) {
+                set(size, position, bitCount, score);
+                siftUp(size++);
+                return;
+            }
+            if (ranksLower(position, bitCount, score, positions[0], bitCounts[0], scores[0])) {
+                return;
+            }
+            set(0, position, bitCount, score);
+            siftDown(0);
+        }
+
+        private int[] drainBestFirst() {
+            int[] result = new int[size];
+            for (int i = size - 1; i >= 0; i--) {
+                result[i] = positions[0];
+                size--;
+                if (size > 0) {
+                    set(0, positions[size], bitCounts[size], scores[size]);
+                    siftDown(0);
+                }
+            }
+            return result;
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (!lower(i, parent)) {
+                    break;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int left = 2 * i + 1;
+                if (left >= size) {
+                    break;
+                }
+                int right = left + 1;
+                int lowest = (right < size && lower(right, left)) ? right : left;
+                if (!lower(lowest, i)) {
+                    break;
+                }
+                swap(i, lowest);
+                i = lowest;
+            }
+        }
+
+        private boolean lower(int a, int b) {
+            return ranksLower(positions[a], bitCounts[a], scores[a], positions[b], bitCounts[b], scores[b]);
+        }
+
+        private static boolean ranksLower(int posA, int bitsA, double scoreA, int posB, int bitsB, double scoreB) {
+            if (bitsA != bitsB) {
+                return bitsA < bitsB;
+            }
+            int scoreCompare = Double.compare(scoreA, scoreB);
+            if (scoreCompare != 0) {
+                return scoreCompare < 0;
+            }
+            return posA > posB;
+        }
+
+        private void set(int i, int position, int bitCount, double score) {
+            positions[i] = position;
+            bitCounts[i] = bitCount;
+            scores[i] = score;
+        }
+
+        private void swap(int a, int b) {
+            int position = positions[a];
+            int bitCount = bitCounts[a];
+            double score = scores[a];
+            set(a, positions[b], bitCounts[b], scores[b]);
+            set(b, position, bitCount, score);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.archiservice.recommend.domain;
+
+import com.archiservice.recommend.dto.response.RecommendResponseDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 추천 결과 캐시 항목
+ * 계산 당시의 태그 코드 / 카탈로그 버전 / 리뷰 통계 버전이 현재와 모두 같을 때만 유효
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CachedRecommendation {
+
+    private long tagCode;
+    private long catalogVersion;
+    private long statsVersion;
+    private long expiresAt;
+    private RecommendResponseDto response;
+
+    public boolean matches(long tagCode, long catalogVersion, long statsVersion) {
+        return this.tagCode == tagCode
+                && this.catalogVersion == catalogVersion
+                && this.statsVersion == statsVersion;
+    }
+
+    public boolean isExpired(long now) {
+        return now >= expiresAt;
+    }
+}
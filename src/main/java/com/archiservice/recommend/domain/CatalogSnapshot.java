@@ -0,0 +1,38 @@
+package com.archiservice.recommend.domain;
+
+import com.archiservice.product.coupon.domain.Coupon;
+import com.archiservice.product.plan.domain.Plan;
+import com.archiservice.product.vas.domain.Vas;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 요금제 / 부가서비스 / 쿠폰 카탈로그 스냅샷 (불변)
+ * version 은 상품 id, tagCode, 수정 시각으로 계산되어 내용이 같으면 노드 간에도 동일
+ */
+@Getter
+public final class CatalogSnapshot {
+
+    public static final CatalogSnapshot EMPTY = new CatalogSnapshot(
+            ProductIndex.of(List.of(), Plan::getPlanId, Plan::getTagCode),
+            ProductIndex.of(List.of(), Vas::getVasId, Vas::getTagCode),
+            ProductIndex.of(List.of(), Coupon::getCouponId, Coupon::getTagCode)
+    );
+
+    private final ProductIndex<Plan> plans;
+    private final ProductIndex<Vas> vass;
+    private final ProductIndex<Coupon> coupons;
+    private final long version;
+
+    public CatalogSnapshot(ProductIndex<Plan> plans, ProductIndex<Vas> vass, ProductIndex<Coupon> coupons) {
+        this.plans = plans;
+        this.vass = vass;
+        this.coupons = coupons;
+
+        long fingerprint = plans.fingerprint();
+        fingerprint = 31 * fingerprint + vass.fingerprint();
+        fingerprint = 31 * fingerprint + coupons.fingerprint();
+        this.version = fingerprint;
+    }
+}
@@ -0,0 +1,75 @@
+package com.archiservice.recommend.domain;
+
+import com.archiservice.common.TimeStamp;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * 추천 랭킹용 상품 인덱스 (불변)
+ * ids / tagCodes 는 products 와 같은 순서로 정렬된 원시 배열
+ */
+public final class ProductIndex<T extends TimeStamp> {
+
+    private final long[] ids;
+    private final long[] tagCodes;
+    private final List<T> products;
+    private final long fingerprint;
+
+    private ProductIndex(long[] ids, long[] tagCodes, List<T> products, long fingerprint) {
+        this.ids = ids;
+        this.tagCodes = tagCodes;
+        this.products = products;
+        this.fingerprint = fingerprint;
+    }
+
+    public static <T extends TimeStamp> ProductIndex<T> of(List<T> products,
+                                                           Function<T, Long> idExtractor,
+                                                           Function<T, Long> tagCodeExtractor) {
+        int size = products.size();
+        long[] ids = new long[size];
+        long[] tagCodes = new long[size];
+        long fingerprint = size;
+
+        for (int i = 0; i < size; i++) {
+            T product = products.get(i);
+            ids[i] = toPrimitive(idExtractor.apply(product));
+            tagCodes[i] = toPrimitive(tagCodeExtractor.apply(product));
+
+            fingerprint = 31 * fingerprint + ids[i];
+            fingerprint = 31 * fingerprint + tagCodes[i];
+            fingerprint = 31 * fingerprint + Objects.hashCode(product.getUpdatedAt());
+        }
+
+        return new ProductIndex<>(ids, tagCodes, List.copyOf(products), fingerprint);
+    }
+
+    private static long toPrimitive(Long value) {
+        return value != null ? value : 0L;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public long idAt(int index) {
+        return ids[index];
+    }
+
+    public long tagCodeAt(int index) {
+        return tagCodes[index];
+    }
+
+    public T productAt(int index) {
+        return products.get(index);
+    }
+
+    public long[] tagCodes() {
+        return tagCodes;
+    }
+
+    public long fingerprint() {
+        return fingerprint;
+    }
+}
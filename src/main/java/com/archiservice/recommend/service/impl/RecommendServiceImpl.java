@@ -6,79 +6,133 @@ import com.archiservice.code.tagmeta.service.TagMetaService;
 import com.archiservice.common.security.CustomUser;
 import com.archiservice.product.coupon.domain.Coupon;
 import com.archiservice.product.coupon.dto.response.CouponDetailResponseDto;
-import com.archiservice.product.coupon.repository.CouponRepository;
 import com.archiservice.product.plan.domain.Plan;
 import com.archiservice.product.plan.dto.response.PlanDetailResponseDto;
-import com.archiservice.product.plan.repository.PlanRepository;
 import com.archiservice.product.vas.domain.Vas;
 import com.archiservice.product.vas.dto.response.VasDetailResponseDto;
-import com.archiservice.product.vas.repository.VasRepository;
+import com.archiservice.recommend.component.ProductCatalog;
+import com.archiservice.recommend.component.RecommendationCache;
+import com.archiservice.recommend.component.TagOverlapRanker;
+import com.archiservice.recommend.domain.ProductIndex;
 import com.archiservice.recommend.dto.request.RecommendRequestDto;
 import com.archiservice.recommend.dto.response.*;
 import com.archiservice.recommend.service.RecommendService;
-import com.archiservice.review.coupon.repository.CouponReviewRepository;
-import com.archiservice.review.coupon.service.CouponReviewService;
-import com.archiservice.review.plan.repository.PlanReviewRepository;
-import com.archiservice.review.plan.service.PlanReviewService;
-import com.archiservice.review.vas.repository.VasReviewRepository;
-import com.archiservice.review.vas.service.VasReviewService;
+import com.archiservice.review.stats.domain.ReviewType;
+import com.archiservice.review.stats.service.ReviewStatsService;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.ai.template.st.StTemplateRenderer;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
-
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+@Slf4j
 @Service
 @Transactional(readOnly = true)
 public class RecommendServiceImpl implements RecommendService {
 
+    private static final int RECOMMEND_LIMIT = 5;
+
     private final ChatClient recommendChatClient;
 
     private final TagMetaService tagMetaService;
-    private final PlanRepository planRepository;
-    private final VasRepository vasRepository;
+    private final ProductCatalog productCatalog;
+    private final TagOverlapRanker tagOverlapRanker;
+    private final RecommendationCache recommendationCache;
 
-    private final PlanReviewRepository planReviewRepository;
-    private final VasReviewRepository vasReviewRepository;
-    private final CouponReviewRepository couponReviewRepository;
-
-    private final CouponRepository couponRepository;
     private final CommonCodeService commonCodeService;
 
-    private final PlanReviewService planReviewService;
-    private final VasReviewService vasReviewService;
-    private final CouponReviewService couponReviewService;
+    private final ReviewStatsService reviewStatsService;
+
+    private final Executor recommendExecutor;
 
+    @Value("${recommend.parallel.enabled:true}")
+    private boolean parallelEnabled;
 
+    @Value("${recommend.parallel.branch-timeout-ms:1000}")
+    private long branchTimeoutMs;
 
     public RecommendServiceImpl(@Qualifier("recommendChatClient") ChatClient recommendChatClient, TagMetaService tagMetaService,
-			PlanRepository planRepository, VasRepository vasRepository, PlanReviewRepository planReviewRepository,
-			VasReviewRepository vasReviewRepository, CouponReviewRepository couponReviewRepository,
-			CouponRepository couponRepository, CommonCodeService commonCodeService, PlanReviewService planReviewService,
-			VasReviewService vasReviewService, CouponReviewService couponReviewService) {
+			ProductCatalog productCatalog, TagOverlapRanker tagOverlapRanker, RecommendationCache recommendationCache,
+			CommonCodeService commonCodeService, ReviewStatsService reviewStatsService,
+			@Qualifier("recommendExecutor") Executor recommendExecutor) {
 		super();
 		this.recommendChatClient = recommendChatClient;
 		this.tagMetaService = tagMetaService;
-		this.planRepository = planRepository;
-		this.vasRepository = vasRepository;
-		this.planReviewRepository = planReviewRepository;
-		this.vasReviewRepository = vasReviewRepository;
-		this.couponReviewRepository = couponReviewRepository;
-		this.couponRepository = couponRepository;
+		this.productCatalog = productCatalog;
+		this.tagOverlapRanker = tagOverlapRanker;
+		this.recommendationCache = recommendationCache;
 		this.commonCodeService = commonCodeService;
-		this.planReviewService = planReviewService;
-		this.vasReviewService = vasReviewService;
-		this.couponReviewService = couponReviewService;
+		this.reviewStatsService = reviewStatsService;
+		this.recommendExecutor = recommendExecutor;
 	}
 
 	@Override
     public RecommendResponseDto recommend (CustomUser user) {
-        return RecommendResponseDto.from(recommendPlan(user), recommendVas(user), recommendCoupon(user));
+        if (!parallelEnabled) {
+            return recommendationCache.getOrCompute(user.getId(), user.getUser().getTagCode(),
+                    () -> RecommendResponseDto.from(recommendPlan(user), recommendVas(user), recommendCoupon(user)));
+        }
+
+        // 일부 분기가 대체 결과로 채워진 응답은 캐시하지 않음
+        AtomicBoolean degraded = new AtomicBoolean(false);
+        return recommendationCache.getOrCompute(user.getId(), user.getUser().getTagCode(),
+                () -> recommendInParallel(user, degraded), response -> !degraded.get());
+    }
+
+    // 요금제 / 부가서비스 / 쿠폰 추천은 서로 독립적이라 동시에 실행하고, 분기별 제한 시간 초과나 실패 시 빈 결과로 대체
+    private RecommendResponseDto recommendInParallel(CustomUser user, AtomicBoolean degraded) {
+        CompletableFuture<RecommendPlanResponseDto> plans = runBranch("plan",
+                () -> recommendPlan(user), () -> new RecommendPlanResponseDto(List.of()), degraded);
+        CompletableFuture<RecommendVasResponseDto> vass = runBranch("vas",
+                () -> recommendVas(user), () -> new RecommendVasResponseDto(List.of()), degraded);
+        CompletableFuture<RecommendCouponResponseDto> coupons = runBranch("coupon",
+                () -> recommendCoupon(user), () -> new RecommendCouponResponseDto(List.of()), degraded);
+
+        return RecommendResponseDto.from(plans.join(), vass.join(), coupons.join());
+    }
+
+    // 제한 시간 초과 시 작업 스레드도 인터럽트해 풀을 점유하지 않도록 하고, 풀이 가득 차면 요청 스레드에서 실행하지 않고 바로 대체
+    private <T> CompletableFuture<T> runBranch(String branch, Supplier<T> task, Supplier<T> fallback, AtomicBoolean degraded) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        FutureTask<Void> work = new FutureTask<>(() -> {
+            try {
+                result.complete(task.get());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        }, null);
+
+        try {
+            recommendExecutor.execute(work);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(degrade(branch, fallback, degraded, e));
+        }
+
+        return result.orTimeout(branchTimeoutMs, TimeUnit.MILLISECONDS)
+                .exceptionally(e -> {
+                    work.cancel(true);
+                    return degrade(branch, fallback, degraded, e);
+                });
+    }
+
+    private <T> T degrade(String branch, Supplier<T> fallback, AtomicBoolean degraded, Throwable cause) {
+        degraded.set(true);
+        log.warn("추천 분기 실패, 빈 결과로 대체: branch={}, cause={}", branch, cause.toString());
+        return fallback.get();
     }
 
     @Override
@@ -102,42 +156,21 @@ public class RecommendServiceImpl implements RecommendService {
     @Override
     public RecommendPlanResponseDto recommendPlan(CustomUser user) {
         long userTagCode = user.getUser().getTagCode();
-        double globalPlanAvg = getGlobalAvg("plan");
-        Integer planMinReviews = planReviewService.getAverageReviewCountPerPlanAsInteger();
-
-        Map<Long, ScoreResponseDto> scoreMap = planReviewService.getPlanScoreStatistics();
-        List<Map.Entry<Plan, Integer>> bitCountSorted = planRepository.findAll().stream()
-                .map(plan -> Map.entry(plan, Long.bitCount(userTagCode & plan.getTagCode())))
-                .filter(entry -> entry.getValue() > 0)
-                .sorted((e1, e2) -> Integer.compare(e2.getValue(), e1.getValue()))
-                .limit(10)
-                .toList();
+        double globalPlanAvg = reviewStatsService.getGlobalAverage(ReviewType.PLAN);
+        int planMinReviews = reviewStatsService.getAverageReviewCount(ReviewType.PLAN);
 
-        List<ProductWithScore<Plan>> topPlans = bitCountSorted.stream()
-                .map(entry -> {
-                    Plan plan = entry.getKey();
-                    int bitCount = entry.getValue();
-
-                    ScoreResponseDto score = scoreMap.get(plan.getPlanId());
-                    int reviewCount = score != null ? score.getReviewCount() : 0;
-                    double avgRating = score != null ? score.getAverageScore() : 0.0;
-                    double bayesScore = computeBayesianAverage(avgRating, reviewCount, globalPlanAvg, planMinReviews);
-
-                    return new ProductWithScore<>(plan, bitCount, bayesScore);
-                })
-                .sorted(Comparator
-                        .comparingInt(ProductWithScore<Plan>::getBitCount).reversed()
-                        .thenComparing(Comparator.comparingDouble(ProductWithScore<Plan>::getBayesScore).reversed()))
-                .limit(5)
-                .toList();
+        ProductIndex<Plan> planIndex = productCatalog.getSnapshot().getPlans();
+        int[] topPlans = tagOverlapRanker.rank(userTagCode, planIndex, RECOMMEND_LIMIT,
+                planId -> computeBayesianAverage(reviewStatsService.getScore(ReviewType.PLAN, planId), globalPlanAvg, planMinReviews));
 
         // TODO : TagCode , CommonCode 쿼리 최적화 필요
-        List<PlanDetailResponseDto> recommendedPlans = topPlans.stream()
-                .map(p -> {
-                    List<String> tags = tagMetaService.extractTagsFromCode(p.product.getTagCode());
-                    String category = commonCodeService.getCodeName("G02", p.product.getCategoryCode());
-                    String targetAge = commonCodeService.getCodeName("G01", p.product.getAgeCode());
-                    return PlanDetailResponseDto.from(p.product, tags, category, targetAge);
+        List<PlanDetailResponseDto> recommendedPlans = Arrays.stream(topPlans)
+                .mapToObj(planIndex::productAt)
+                .map(plan -> {
+                    List<String> tags = tagMetaService.extractTagsFromCode(plan.getTagCode());
+                    String category = commonCodeService.getCodeName("G02", plan.getCategoryCode());
+                    String targetAge = commonCodeService.getCodeName("G01", plan.getAgeCode());
+                    return PlanDetailResponseDto.from(plan, tags, category, targetAge);
                 })
                 .toList();
 
@@ -148,41 +181,19 @@ public class RecommendServiceImpl implements RecommendService {
     @Override
     public RecommendVasResponseDto recommendVas(CustomUser user) {
         long userTagCode = user.getUser().getTagCode();
-        double globalVasAvg = getGlobalAvg("vas");
-
-        Map<Long, ScoreResponseDto> scoreMap = vasReviewService.getVasScoreStatistics();
-        Integer vasMinReviews = vasReviewService.getAverageReviewCountPerVasAsInteger();
-
-        List<Map.Entry<Vas, Integer>> bitCountSorted = vasRepository.findAll().stream()
-                .map(vas -> Map.entry(vas, Long.bitCount(userTagCode & vas.getTagCode())))
-                .filter(entry -> entry.getValue() > 0)
-                .sorted((e1, e2) -> Integer.compare(e2.getValue(), e1.getValue()))
-                .limit(10)
-                .toList();
-
-        List<ProductWithScore<Vas>> topVass = bitCountSorted.stream()
-                .map(entry -> {
-                    Vas vas = entry.getKey();
-                    int bitCount = entry.getValue();
-
-                    ScoreResponseDto score = scoreMap.get(vas.getVasId());
-                    int reviewCount = score != null ? score.getReviewCount() : 0;
-                    double avgRating = score != null ? score.getAverageScore() : 0.0;
-                    double bayesScore = computeBayesianAverage(avgRating, reviewCount, globalVasAvg, vasMinReviews);
-
-                    return new ProductWithScore<>(vas, bitCount, bayesScore);
-                })
-                .sorted(Comparator
-                        .comparingInt(ProductWithScore<Vas>::getBitCount).reversed()
-                        .thenComparing(Comparator.comparingDouble(ProductWithScore<Vas>::getBayesScore).reversed()))
-                .limit(5)
-                .toList();
-
-        List<VasDetailResponseDto> recommendedVass = topVass.stream()
-                .map(p -> {
-                    List<String> tags = tagMetaService.extractTagsFromCode(p.product.getTagCode());
-                    String category = commonCodeService.getCodeName("G03", p.product.getCategoryCode());
-                    return VasDetailResponseDto.from(p.product, tags, category);
+        double globalVasAvg = reviewStatsService.getGlobalAverage(ReviewType.VAS);
+        int vasMinReviews = reviewStatsService.getAverageReviewCount(ReviewType.VAS);
+
+        ProductIndex<Vas> vasIndex = productCatalog.getSnapshot().getVass();
+        int[] topVass = tagOverlapRanker.rank(userTagCode, vasIndex, RECOMMEND_LIMIT,
+                vasId -> computeBayesianAverage(reviewStatsService.getScore(ReviewType.VAS, vasId), globalVasAvg, vasMinReviews));
+
+        List<VasDetailResponseDto> recommendedVass = Arrays.stream(topVass)
+                .mapToObj(vasIndex::productAt)
+                .map(vas -> {
+                    List<String> tags = tagMetaService.extractTagsFromCode(vas.getTagCode());
+                    String category = commonCodeService.getCodeName("G03", vas.getCategoryCode());
+                    return VasDetailResponseDto.from(vas, tags, category);
                 })
                 .toList();
 
@@ -193,41 +204,19 @@ public class RecommendServiceImpl implements RecommendService {
     @Override
     public RecommendCouponResponseDto recommendCoupon(CustomUser user) {
         long userTagCode = user.getUser().getTagCode();
-        double globalCouponAvg = getGlobalAvg("coupon");
-
-        Map<Long, ScoreResponseDto> scoreMap = couponReviewService.getCouponScoreStatistics();
-        Integer couponMinReviews = couponReviewService.getAverageReviewCountPerCouponAsInteger();
-
-        List<Map.Entry<Coupon, Integer>> bitCountSorted = couponRepository.findAll().stream()
-                .map(coupon -> Map.entry(coupon, Long.bitCount(userTagCode & coupon.getTagCode())))
-                .filter(entry -> entry.getValue() > 0)
-                .sorted((e1, e2) -> Integer.compare(e2.getValue(), e1.getValue()))
-                .limit(10)
-                .toList();
-
-        List<ProductWithScore<Coupon>> topCoupons = bitCountSorted.stream()
-                .map(entry -> {
-                    Coupon coupon = entry.getKey();
-                    int bitCount = entry.getValue();
-
-                    ScoreResponseDto score = scoreMap.get(coupon.getCouponId());
-                    int reviewCount = score != null ? score.getReviewCount() : 0;
-                    double avgRating = score != null ? score.getAverageScore() : 0.0;
-                    double bayesScore = computeBayesianAverage(avgRating, reviewCount, globalCouponAvg, couponMinReviews);
-
-                    return new ProductWithScore<>(coupon, bitCount, bayesScore);
-                })
-                .sorted(Comparator
-                        .comparingInt(ProductWithScore<Coupon>::getBitCount).reversed()
-                        .thenComparing(Comparator.comparingDouble(ProductWithScore<Coupon>::getBayesScore).reversed()))
-                .limit(5)
-                .toList();
-
-        List<CouponDetailResponseDto> recommendedCoupons = topCoupons.stream()
-                .map(p -> {
-                    List<String> tags = tagMetaService.extractTagsFromCode(p.product.getTagCode());
-                    String category = commonCodeService.getCodeName("G04", p.product.getCategoryCode());
-                    return CouponDetailResponseDto.from(p.product, tags, category);
+        double globalCouponAvg = reviewStatsService.getGlobalAverage(ReviewType.COUPON);
+        int couponMinReviews = reviewStatsService.getAverageReviewCount(ReviewType.COUPON);
+
+        ProductIndex<Coupon> couponIndex = productCatalog.getSnapshot().getCoupons();
+        int[] topCoupons = tagOverlapRanker.rank(userTagCode, couponIndex, RECOMMEND_LIMIT,
+                couponId -> computeBayesianAverage(reviewStatsService.getScore(ReviewType.COUPON, couponId), globalCouponAvg, couponMinReviews));
+
+        List<CouponDetailResponseDto> recommendedCoupons = Arrays.stream(topCoupons)
+                .mapToObj(couponIndex::productAt)
+                .map(coupon -> {
+                    List<String> tags = tagMetaService.extractTagsFromCode(coupon.getTagCode());
+                    String category = commonCodeService.getCodeName("G04", coupon.getCategoryCode());
+                    return CouponDetailResponseDto.from(coupon, tags, category);
                 })
                 .toList();
 
@@ -235,44 +224,20 @@ public class RecommendServiceImpl implements RecommendService {
     }
 
 
-    public double getGlobalAvg(String type) {
-        return switch (type.toLowerCase()) {
-            case "plan" -> Optional.ofNullable(planReviewRepository.findAverageRatingByPlanIsNotNull()).orElse(0.0);
-            case "vas" -> Optional.ofNullable(vasReviewRepository.findAverageRatingByVasIsNotNull()).orElse(0.0);
-            case "coupon" -> Optional.ofNullable(couponReviewRepository.findAverageRatingByCouponIsNotNull()).orElse(0.0);
-            default -> 0.0;
-        };
+    private double computeBayesianAverage(ScoreResponseDto score, double globalAvg, int minReviews) {
+        int reviewCount = score != null ? score.getReviewCount() : 0;
+        double avgRating = score != null ? score.getAverageScore() : 0.0;
+        return computeBayesianAverage(avgRating, reviewCount, globalAvg, minReviews);
     }
 
     // 베이지안 평균 계산
     //                            해당 상품의 평균 평점 , 해당 상품에 달린 총 리뷰 수 , 전체 상품의 전역 평균 평점 , 신뢰도 기준으로 삼을 최소 리뷰 수
     private double computeBayesianAverage(double avgRating, int reviewCount, double globalAvg, int minReviews) {
+        if (reviewCount + minReviews == 0) {
+            return globalAvg;
+        }
         return (reviewCount / (double)(reviewCount + minReviews)) * avgRating +
                 (minReviews / (double)(reviewCount + minReviews)) * globalAvg;
     }
 
-    private static class ProductWithScore<T> {
-        T product;
-        int bitCount;
-        double bayesScore;
-
-        public ProductWithScore(T product, int bitCount, double bayesScore) {
-            this.product = product;
-            this.bitCount = bitCount;
-            this.bayesScore = bayesScore;
-        }
-
-        public T getProduct() {
-            return product;
-        }
-
-        public int getBitCount() {
-            return bitCount;
-        }
-
-        public double getBayesScore() {
-            return bayesScore;
-        }
-    }
-
 }
\ No newline at end of file
@@ -2,14 +2,18 @@ package com.archiservice.review.coupon.repository;
 
 import com.archiservice.product.coupon.domain.Coupon;
 import com.archiservice.review.coupon.domain.CouponReview;
+import com.archiservice.review.moderation.domain.ReviewContentView;
 import com.archiservice.user.domain.User;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface CouponReviewRepository extends JpaRepository<CouponReview, Long> {
     @Query("SELECT cr FROM CouponReview cr JOIN FETCH cr.user WHERE cr.coupon.couponId = :couponId ORDER BY cr.createdAt DESC")
@@ -17,15 +21,15 @@ public interface CouponReviewRepository extends JpaRepository<CouponReview, Long
 
     boolean existsByUserAndCoupon(User user, Coupon coupon);
 
-    @Query("SELECT AVG(r.score) FROM CouponReview r WHERE r.coupon IS NOT NULL")
-    Double findAverageRatingByCouponIsNotNull();
+    // 점수 변경분을 통계에 반영하므로 동시 수정/삭제가 같은 이전 점수로 계산하지 않도록 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT cr FROM CouponReview cr WHERE cr.couponReviewId = :reviewId")
+    Optional<CouponReview> findByIdForUpdate(@Param("reviewId") Long reviewId);
 
-    @Query("SELECT cr.coupon.couponId, AVG(cr.score), COUNT(cr.score) FROM CouponReview cr WHERE cr.score IS NOT NULL GROUP BY cr.coupon.couponId")
-    List<Object[]> findAverageScoreAndCountByCoupon();
-
-    @Query(value = "SELECT AVG(review_count) FROM (" +
-            "SELECT COUNT(*) as review_count FROM coupon_reviews GROUP BY coupon_id" +
-            ") as coupon_review_counts",
-            nativeQuery = true)
-    Double findAverageReviewCountPerCouponNative();
+    // 검열 배치용 키셋 페이징 (PK 오름차순, 본문만 조회)
+    @Query("SELECT cr.couponReviewId AS id, cr.content AS content FROM CouponReview cr " +
+            "WHERE cr.couponReviewId > :lastId AND (:includeModerated = true OR cr.isModerated = false) ORDER BY cr.couponReviewId ASC")
+    List<ReviewContentView> findContentsAfter(@Param("lastId") Long lastId,
+                                              @Param("includeModerated") boolean includeModerated,
+                                              Pageable pageable);
 }
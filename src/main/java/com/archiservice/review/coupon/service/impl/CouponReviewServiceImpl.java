@@ -13,6 +13,8 @@ import com.archiservice.review.coupon.dto.request.CouponReviewRequestDto;
 import com.archiservice.review.coupon.dto.response.CouponReviewResponseDto;
 import com.archiservice.review.coupon.repository.CouponReviewRepository;
 import com.archiservice.review.coupon.service.CouponReviewService;
+import com.archiservice.review.stats.domain.ReviewType;
+import com.archiservice.review.stats.service.ReviewStatsService;
 import com.archiservice.user.domain.User;
 import com.archiservice.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -21,9 +23,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -33,6 +33,7 @@ public class CouponReviewServiceImpl implements CouponReviewService {
     private final CouponReviewRepository couponReviewRepository;
     private final UserRepository userRepository;
     private final CouponRepository couponRepository;
+    private final ReviewStatsService reviewStatsService;
 
     @Transactional
     public CouponReviewResponseDto createReview(Long userId, Long couponId, CouponReviewRequestDto requestDto) {
@@ -55,27 +56,31 @@ public class CouponReviewServiceImpl implements CouponReviewService {
                 .build();
 
         CouponReview savedReview = couponReviewRepository.save(review);
+        reviewStatsService.recordCreated(ReviewType.COUPON, coupon.getCouponId(), savedReview.getScore());
         return CouponReviewResponseDto.from(savedReview);
     }
 
     @Transactional
     public CouponReviewResponseDto updateReview(Long userId, Long reviewId, CouponReviewRequestDto requestDto) {
-        CouponReview review = couponReviewRepository.findById(reviewId)
+        CouponReview review = couponReviewRepository.findByIdForUpdate(reviewId)
                 .orElseThrow(() -> new ReviewNotFoundException(ErrorCode.REVIEW_NOT_FOUND.getMessage()));
 
         review.validateOwner(userId);
+        int oldScore = review.getScore();
         review.updateReview(requestDto.getScore(), requestDto.getContent());
+        reviewStatsService.recordUpdated(ReviewType.COUPON, review.getCoupon().getCouponId(), oldScore, review.getScore());
 
         return CouponReviewResponseDto.from(review);
     }
 
     @Transactional
     public void deleteReview(Long userId, Long reviewId) {
-        CouponReview review = couponReviewRepository.findById(reviewId)
+        CouponReview review = couponReviewRepository.findByIdForUpdate(reviewId)
                 .orElseThrow(() -> new ReviewNotFoundException(ErrorCode.REVIEW_NOT_FOUND.getMessage()));
 
         review.validateOwner(userId);
         couponReviewRepository.delete(review);
+        reviewStatsService.recordDeleted(ReviewType.COUPON, review.getCoupon().getCouponId(), review.getScore());
     }
 
     @Override
@@ -86,21 +91,12 @@ public class CouponReviewServiceImpl implements CouponReviewService {
 
     @Override
     public Map<Long, ScoreResponseDto> getCouponScoreStatistics() {
-        List<Object[]> results = couponReviewRepository.findAverageScoreAndCountByCoupon();
-        return results.stream()
-                .collect(Collectors.toMap(
-                        result -> (Long) result[0], // planId
-                        result -> new ScoreResponseDto(
-                                (Double) result[1],              // avgScore
-                                ((Long) result[2]).intValue()   // reviewCount
-                        )
-                ));
+        return reviewStatsService.getScoreStatistics(ReviewType.COUPON);
     }
 
     @Override
     public Integer getAverageReviewCountPerCouponAsInteger() {
-        Double avgReviewCount = couponReviewRepository.findAverageReviewCountPerCouponNative();
-        return avgReviewCount != null ? (int) Math.round(avgReviewCount) : 0;
+        return reviewStatsService.getAverageReviewCount(ReviewType.COUPON);
     }
 
 }
@@ -0,0 +1,29 @@
+package com.archiservice.review.moderation.controller;
+
+import com.archiservice.common.response.ApiResponse;
+import com.archiservice.review.moderation.dto.response.ModerationReportDto;
+import com.archiservice.review.moderation.service.ReviewModerationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/admin/reviews/moderation")
+public class ReviewModerationController {
+
+    private final ReviewModerationService reviewModerationService;
+
+    @PostMapping
+    public ResponseEntity<ApiResponse<ModerationReportDto>> startModeration(
+            @RequestParam(defaultValue = "false") boolean rescreenAll) {
+        boolean started = reviewModerationService.startModeration(rescreenAll);
+        String message = started ? "리뷰 검열 배치 시작" : "이미 리뷰 검열 배치가 실행 중입니다";
+        return ResponseEntity.ok(ApiResponse.success(message, reviewModerationService.getReport()));
+    }
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<ModerationReportDto>> getReport() {
+        return ResponseEntity.ok(ApiResponse.success("리뷰 검열 배치 현황 조회 성공", reviewModerationService.getReport()));
+    }
+}
@@ -0,0 +1,9 @@
+package com.archiservice.review.moderation.domain;
+
+/**
+ * 검열 배치용 리뷰 본문 프로젝션 (엔티티/연관관계 로딩 없이 id, content 만 조회)
+ */
+public interface ReviewContentView {
+    Long getId();
+    String getContent();
+}
@@ -0,0 +1,42 @@
+package com.archiservice.review.moderation.domain;
+
+import com.archiservice.review.stats.domain.ReviewType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검열 배치에서 불용어가 검출된 리뷰
+ * 쓰기는 ReviewModerationJdbcRepository 의 배치 upsert 로만 수행
+ */
+@Entity
+@Table(name = "review_violations",
+        uniqueConstraints = @UniqueConstraint(name = "uk_review_violations_review", columnNames = {"review_type", "review_id"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReviewViolation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "violation_id")
+    private Long violationId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "review_type", nullable = false, length = 20)
+    private ReviewType reviewType;
+
+    @Column(name = "review_id", nullable = false)
+    private Long reviewId;
+
+    @Column(name = "bad_words", nullable = false, length = 1000)
+    private String badWords;
+
+    @Column(name = "dictionary_revision", nullable = false)
+    private long dictionaryRevision;
+
+    @Column(name = "detected_at", nullable = false)
+    private LocalDateTime detectedAt;
+}
@@ -0,0 +1,25 @@
+package com.archiservice.review.moderation.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ModerationReportDto {
+    private boolean running;
+    private boolean rescreenAll;
+    private long dictionaryRevision;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private long scannedCount;
+    private long violationCount;
+    private long failedChunkCount;
+    private long elapsedMs;
+    private long reviewsPerSecond;
+}
@@ -0,0 +1,94 @@
+package com.archiservice.review.moderation.repository;
+
+import com.archiservice.review.moderation.domain.ReviewContentView;
+import com.archiservice.review.stats.domain.ReviewType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 검열 결과 쓰기 (JDBC 배치)
+ * 청크 단위로 수천 건을 한 번에 반영하므로 JPA 엔티티를 거치지 않음
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReviewModerationJdbcRepository {
+
+    private static final String UPSERT_VIOLATION_SQL =
+            "INSERT INTO review_violations (review_type, review_id, bad_words, dictionary_revision, detected_at) " +
+            "VALUES (?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE bad_words = VALUES(bad_words), " +
+            "dictionary_revision = VALUES(dictionary_revision), detected_at = VALUES(detected_at)";
+
+    private static final String DELETE_VIOLATION_SQL =
+            "DELETE FROM review_violations WHERE review_type = ? AND review_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 검사한 본문이 그대로인 리뷰만 검열 완료로 표시
+     * 검사 도중 수정된 리뷰는 updateReview 가 is_moderated 를 false 로 되돌리므로 건너뛰어 다음 증분 배치에서 다시 검사
+     * (<=> 는 NULL 본문도 같은 값으로 비교)
+     */
+    public void markModerated(ReviewType reviewType, List<ReviewContentView> scannedRows) {
+        if (scannedRows.isEmpty()) {
+            return;
+        }
+        String sql = "UPDATE " + tableOf(reviewType) + " SET is_moderated = true WHERE " + idColumnOf(reviewType) + " = ? " +
+                "AND content <=> ?";
+        jdbcTemplate.batchUpdate(sql, scannedRows, scannedRows.size(), (ps, row) -> {
+            ps.setLong(1, row.getId());
+            ps.setString(2, row.getContent());
+        });
+    }
+
+    /**
+     * @param violations 리뷰 id -> 검출 불용어 (쉼표 구분)
+     */
+    public void saveViolations(ReviewType reviewType, Map<Long, String> violations, long dictionaryRevision, LocalDateTime detectedAt) {
+        if (violations.isEmpty()) {
+            return;
+        }
+        Timestamp timestamp = Timestamp.valueOf(detectedAt);
+        List<Map.Entry<Long, String>> rows = List.copyOf(violations.entrySet());
+        jdbcTemplate.batchUpdate(UPSERT_VIOLATION_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setString(1, reviewType.name());
+            ps.setLong(2, row.getKey());
+            ps.setString(3, row.getValue());
+            ps.setLong(4, dictionaryRevision);
+            ps.setTimestamp(5, timestamp);
+        });
+    }
+
+    // 재검사에서 깨끗해진 리뷰의 기존 위반 기록 삭제
+    public void deleteViolations(ReviewType reviewType, List<Long> reviewIds) {
+        if (reviewIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(DELETE_VIOLATION_SQL, reviewIds, reviewIds.size(), (ps, id) -> {
+            ps.setString(1, reviewType.name());
+            ps.setLong(2, id);
+        });
+    }
+
+    private String tableOf(ReviewType reviewType) {
+        return switch (reviewType) {
+            case PLAN -> "plan_reviews";
+            case VAS -> "vas_reviews";
+            case COUPON -> "coupon_reviews";
+        };
+    }
+
+    private String idColumnOf(ReviewType reviewType) {
+        return switch (reviewType) {
+            case PLAN -> "plan_review_id";
+            case VAS -> "vas_review_id";
+            case COUPON -> "coupon_review_id";
+        };
+    }
+}
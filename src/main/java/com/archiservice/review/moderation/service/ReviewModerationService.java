@@ -0,0 +1,9 @@
+package com.archiservice.review.moderation.service;
+
+import com.archiservice.review.moderation.dto.response.ModerationReportDto;
+
+public interface ReviewModerationService {
+    boolean startModeration(boolean rescreenAll);
+    ModerationReportDto moderate(boolean rescreenAll);
+    ModerationReportDto getReport();
+}
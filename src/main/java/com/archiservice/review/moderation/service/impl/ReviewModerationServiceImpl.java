@@ -0,0 +1,261 @@
+package com.archiservice.review.moderation.service.impl;
+
+import com.archiservice.badword.domain.BadWordScanResult;
+import com.archiservice.badword.service.BadWordFilterService;
+import com.archiservice.review.coupon.repository.CouponReviewRepository;
+import com.archiservice.review.moderation.domain.ReviewContentView;
+import com.archiservice.review.moderation.dto.response.ModerationReportDto;
+import com.archiservice.review.moderation.repository.ReviewModerationJdbcRepository;
+import com.archiservice.review.moderation.service.ReviewModerationService;
+import com.archiservice.review.plan.repository.PlanReviewRepository;
+import com.archiservice.review.stats.domain.ReviewType;
+import com.archiservice.review.vas.repository.VasReviewRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 리뷰 일괄 검열
+ * 요금제/부가서비스/쿠폰 리뷰를 PK 키셋 청크로 읽어 워커 풀에서 불용어 검사 후
+ * is_moderated 와 위반 기록을 청크 단위 JDBC 배치로 반영
+ * 읽기는 단일 스레드, 동시에 처리 중인 청크 수는 max-in-flight 로 제한
+ */
+@Slf4j
+@Service
+public class ReviewModerationServiceImpl implements ReviewModerationService {
+
+    private static final int MAX_BAD_WORDS_LENGTH = 1000;
+
+    private final PlanReviewRepository planReviewRepository;
+    private final VasReviewRepository vasReviewRepository;
+    private final CouponReviewRepository couponReviewRepository;
+    private final ReviewModerationJdbcRepository moderationJdbcRepository;
+    private final BadWordFilterService badWordFilterService;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor moderationExecutor;
+    private final Executor coordinatorExecutor;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${review.moderation.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${review.moderation.max-in-flight:8}")
+    private int maxInFlight;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile Progress progress;
+    private volatile ModerationReportDto lastReport = ModerationReportDto.builder().build();
+
+    public ReviewModerationServiceImpl(PlanReviewRepository planReviewRepository,
+                                       VasReviewRepository vasReviewRepository,
+                                       CouponReviewRepository couponReviewRepository,
+                                       ReviewModerationJdbcRepository moderationJdbcRepository,
+                                       BadWordFilterService badWordFilterService,
+                                       TransactionTemplate transactionTemplate,
+                                       @Qualifier("moderationExecutor") Executor moderationExecutor,
+                                       @Qualifier("moderationCoordinatorExecutor") Executor coordinatorExecutor,
+                                       MeterRegistry meterRegistry) {
+        this.planReviewRepository = planReviewRepository;
+        this.vasReviewRepository = vasReviewRepository;
+        this.couponReviewRepository = couponReviewRepository;
+        this.moderationJdbcRepository = moderationJdbcRepository;
+        this.badWordFilterService = badWordFilterService;
+        this.transactionTemplate = transactionTemplate;
+        this.moderationExecutor = moderationExecutor;
+        this.coordinatorExecutor = coordinatorExecutor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean startModeration(boolean rescreenAll) {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+
+        // 배치 내내 세마포어 대기로 스레드를 점유하므로 공용 ForkJoinPool 이 아닌 전용 스레드에서 실행
+        try {
+            coordinatorExecutor.execute(() -> {
+                try {
+                    execute(rescreenAll);
+                } catch (Exception e) {
+                    log.error("리뷰 검열 배치 실패", e);
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            running.set(false);
+            log.warn("리뷰 검열 배치 시작 거부됨", e);
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public ModerationReportDto moderate(boolean rescreenAll) {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("이미 리뷰 검열 배치가 실행 중입니다.");
+        }
+        try {
+            return execute(rescreenAll);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    @Override
+    public ModerationReportDto getReport() {
+        Progress current = progress;
+        return current != null ? current.toReport(true) : lastReport;
+    }
+
+    private ModerationReportDto execute(boolean rescreenAll) {
+        Progress current = new Progress(rescreenAll, badWordFilterService.getRevision());
+        progress = current;
+        Semaphore inFlight = new Semaphore(maxInFlight);
+
+        try {
+            for (ReviewType reviewType : ReviewType.values()) {
+                moderateType(reviewType, current, inFlight);
+            }
+            // 남은 청크 완료 대기
+            inFlight.acquireUninterruptibly(maxInFlight);
+            inFlight.release(maxInFlight);
+        } finally {
+            ModerationReportDto report = current.toReport(false);
+            lastReport = report;
+            progress = null;
+            log.info("리뷰 검열 배치 완료: {} 건 검사, {} 건 위반, 실패 청크 {}, {} ms ({} 건/초)",
+                    report.getScannedCount(), report.getViolationCount(), report.getFailedChunkCount(),
+                    report.getElapsedMs(), report.getReviewsPerSecond());
+        }
+        return lastReport;
+    }
+
+    private void moderateType(ReviewType reviewType, Progress current, Semaphore inFlight) {
+        Pageable chunk = PageRequest.of(0, chunkSize);
+        long lastId = 0L;
+
+        while (true) {
+            List<ReviewContentView> rows = findContentsAfter(reviewType, lastId, current.rescreenAll, chunk);
+            if (rows.isEmpty()) {
+                return;
+            }
+            lastId = rows.get(rows.size() - 1).getId();
+
+            inFlight.acquireUninterruptibly();
+            try {
+                moderationExecutor.execute(() -> {
+                    try {
+                        screenChunk(reviewType, rows, current);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                inFlight.release();
+                screenChunk(reviewType, rows, current);
+            }
+
+            if (rows.size() < chunkSize) {
+                return;
+            }
+        }
+    }
+
+    private List<ReviewContentView> findContentsAfter(ReviewType reviewType, long lastId, boolean includeModerated, Pageable chunk) {
+        return switch (reviewType) {
+            case PLAN -> planReviewRepository.findContentsAfter(lastId, includeModerated, chunk);
+            case VAS -> vasReviewRepository.findContentsAfter(lastId, includeModerated, chunk);
+            case COUPON -> couponReviewRepository.findContentsAfter(lastId, includeModerated, chunk);
+        };
+    }
+
+    private void screenChunk(ReviewType reviewType, List<ReviewContentView> rows, Progress current) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            List<Long> cleanIds = new ArrayList<>(rows.size());
+            Map<Long, String> violations = new LinkedHashMap<>();
+
+            for (ReviewContentView row : rows) {
+                BadWordScanResult result = badWordFilterService.inspect(row.getContent());
+                if (result.isContainsBadWord()) {
+                    violations.put(row.getId(), joinBadWords(result.getBadWords()));
+                } else {
+                    cleanIds.add(row.getId());
+                }
+            }
+
+            LocalDateTime detectedAt = LocalDateTime.now();
+            transactionTemplate.executeWithoutResult(status -> {
+                moderationJdbcRepository.saveViolations(reviewType, violations, current.dictionaryRevision, detectedAt);
+                moderationJdbcRepository.deleteViolations(reviewType, cleanIds);
+                moderationJdbcRepository.markModerated(reviewType, rows);
+            });
+
+            current.scanned.add(rows.size());
+            current.violations.add(violations.size());
+            meterRegistry.counter("review.moderation.scanned", "type", reviewType.name()).increment(rows.size());
+            meterRegistry.counter("review.moderation.violations", "type", reviewType.name()).increment(violations.size());
+        } catch (Exception e) {
+            current.failedChunks.increment();
+            log.error("리뷰 검열 청크 처리 실패: type={}, firstId={}", reviewType, rows.get(0).getId(), e);
+        } finally {
+            sample.stop(meterRegistry.timer("review.moderation.chunk", "type", reviewType.name()));
+        }
+    }
+
+    private String joinBadWords(List<String> badWords) {
+        String joined = String.join(",", badWords);
+        return joined.length() > MAX_BAD_WORDS_LENGTH ? joined.substring(0, MAX_BAD_WORDS_LENGTH) : joined;
+    }
+
+    private static final class Progress {
+        private final boolean rescreenAll;
+        private final long dictionaryRevision;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final long startNanos = System.nanoTime();
+        private final LongAdder scanned = new LongAdder();
+        private final LongAdder violations = new LongAdder();
+        private final LongAdder failedChunks = new LongAdder();
+
+        private Progress(boolean rescreenAll, long dictionaryRevision) {
+            this.rescreenAll = rescreenAll;
+            this.dictionaryRevision = dictionaryRevision;
+        }
+
+        private ModerationReportDto toReport(boolean running) {
+            long elapsedMs = (System.nanoTime() - startNanos) / 1_000_000;
+            long scannedCount = scanned.sum();
+            return ModerationReportDto.builder()
+                    .running(running)
+                    .rescreenAll(rescreenAll)
+                    .dictionaryRevision(dictionaryRevision)
+                    .startedAt(startedAt)
+                    .finishedAt(running ? null : LocalDateTime.now())
+                    .scannedCount(scannedCount)
+                    .violationCount(violations.sum())
+                    .failedChunkCount(failedChunks.sum())
+                    .elapsedMs(elapsedMs)
+                    .reviewsPerSecond(elapsedMs > 0 ? scannedCount * 1000 / elapsedMs : scannedCount)
+                    .build();
+        }
+    }
+}
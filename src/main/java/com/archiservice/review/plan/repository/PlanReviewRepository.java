@@ -2,11 +2,14 @@ package com.archiservice.review.plan.repository;
 
 import com.archiservice.product.plan.domain.Plan;
 import com.archiservice.review.coupon.domain.CouponReview;
+import com.archiservice.review.moderation.domain.ReviewContentView;
 import com.archiservice.review.plan.domain.PlanReview;
 import com.archiservice.user.domain.User;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -20,15 +23,15 @@ public interface PlanReviewRepository extends JpaRepository<PlanReview, Long> {
 
     boolean existsByUserAndPlan(User user, Plan plan);
 
-    @Query("SELECT AVG(r.score) FROM PlanReview r WHERE r.plan IS NOT NULL")
-    Double findAverageRatingByPlanIsNotNull();
-
-    @Query("SELECT pr.plan.planId, AVG(pr.score), COUNT(pr.score) FROM PlanReview pr WHERE pr.score IS NOT NULL GROUP BY pr.plan.planId")
-    List<Object[]> findAverageScoreAndCountByPlan();
-
-    @Query(value = "SELECT AVG(review_count) FROM (" +
-            "SELECT COUNT(*) as review_count FROM plan_reviews GROUP BY plan_id" +
-            ") as plan_review_counts",
-            nativeQuery = true)
-    Double findAverageReviewCountPerPlanNative();
+    // 점수 변경분을 통계에 반영하므로 동시 수정/삭제가 같은 이전 점수로 계산하지 않도록 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT pr FROM PlanReview pr WHERE pr.planReviewId = :reviewId")
+    Optional<PlanReview> findByIdForUpdate(@Param("reviewId") Long reviewId);
+
+    // 검열 배치용 키셋 페이징 (PK 오름차순, 본문만 조회)
+    @Query("SELECT pr.planReviewId AS id, pr.content AS content FROM PlanReview pr " +
+            "WHERE pr.planReviewId > :lastId AND (:includeModerated = true OR pr.isModerated = false) ORDER BY pr.planReviewId ASC")
+    List<ReviewContentView> findContentsAfter(@Param("lastId") Long lastId,
+                                              @Param("includeModerated") boolean includeModerated,
+                                              Pageable pageable);
 }
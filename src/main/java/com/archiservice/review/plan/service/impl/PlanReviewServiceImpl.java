@@ -12,6 +12,8 @@ import com.archiservice.review.plan.dto.request.PlanReviewRequestDto;
 import com.archiservice.review.plan.dto.response.PlanReviewResponseDto;
 import com.archiservice.review.plan.repository.PlanReviewRepository;
 import com.archiservice.review.plan.service.PlanReviewService;
+import com.archiservice.review.stats.domain.ReviewType;
+import com.archiservice.review.stats.service.ReviewStatsService;
 import com.archiservice.user.domain.User;
 import com.archiservice.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -20,9 +22,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 import static com.archiservice.exception.ErrorCode.*;
 
@@ -34,6 +34,7 @@ public class PlanReviewServiceImpl implements PlanReviewService {
     private final PlanReviewRepository planReviewRepository;
     private final UserRepository userRepository;
     private final PlanRepository planRepository;
+    private final ReviewStatsService reviewStatsService;
 
     @Transactional
     @Override
@@ -57,30 +58,34 @@ public class PlanReviewServiceImpl implements PlanReviewService {
                 .build();
 
         PlanReview savedReview = planReviewRepository.save(review);
+        reviewStatsService.recordCreated(ReviewType.PLAN, plan.getPlanId(), savedReview.getScore());
         return PlanReviewResponseDto.from(savedReview);
     }
 
     @Transactional
     @Override
     public PlanReviewResponseDto updateReview(Long userId, Long reviewId, PlanReviewRequestDto requestDto) {
-        PlanReview review = planReviewRepository.findById(reviewId)
+        PlanReview review = planReviewRepository.findByIdForUpdate(reviewId)
                 .orElseThrow(() -> new ReviewNotFoundException(REVIEW_NOT_FOUND.getMessage()));
 
         review.validateOwner(userId);
 
+        int oldScore = review.getScore();
         review.updateReview(requestDto.getScore(), requestDto.getContent());
+        reviewStatsService.recordUpdated(ReviewType.PLAN, review.getPlan().getPlanId(), oldScore, review.getScore());
         return PlanReviewResponseDto.from(review);
     }
 
     @Transactional
     @Override
     public void deleteReview(Long userId, Long reviewId) {
-        PlanReview review = planReviewRepository.findById(reviewId)
+        PlanReview review = planReviewRepository.findByIdForUpdate(reviewId)
                 .orElseThrow(() -> new ReviewNotFoundException(REVIEW_NOT_FOUND.getMessage()));
 
         review.validateOwner(userId);
 
         planReviewRepository.delete(review);
+        reviewStatsService.recordDeleted(ReviewType.PLAN, review.getPlan().getPlanId(), review.getScore());
     }
 
     @Override
@@ -91,20 +96,11 @@ public class PlanReviewServiceImpl implements PlanReviewService {
 
     @Override
     public Map<Long, ScoreResponseDto> getPlanScoreStatistics() {
-        List<Object[]> results = planReviewRepository.findAverageScoreAndCountByPlan();
-        return results.stream()
-                .collect(Collectors.toMap(
-                        result -> (Long) result[0], // planId
-                        result -> new ScoreResponseDto(
-                                (Double) result[1],              // avgScore
-                                ((Long) result[2]).intValue()   // reviewCount
-                        )
-                ));
+        return reviewStatsService.getScoreStatistics(ReviewType.PLAN);
     }
 
     @Override
     public Integer getAverageReviewCountPerPlanAsInteger() {
-        Double avgReviewCount = planReviewRepository.findAverageReviewCountPerPlanNative();
-        return avgReviewCount != null ? (int) Math.round(avgReviewCount) : 0;
+        return reviewStatsService.getAverageReviewCount(ReviewType.PLAN);
     }
 }
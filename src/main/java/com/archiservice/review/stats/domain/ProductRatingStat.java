@@ -0,0 +1,35 @@
+package com.archiservice.review.stats.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품별 리뷰 점수 누적 합계 / 개수
+ * 리뷰 작성/수정/삭제 시 증분 갱신되며, 애플리케이션 기동 시 인메모리 통계의 원본으로 사용
+ */
+@Entity
+@Table(name = "product_rating_stats",
+        uniqueConstraints = @UniqueConstraint(name = "uk_rating_stats_type_product", columnNames = {"review_type", "product_id"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProductRatingStat {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "stat_id")
+    private Long statId;
+
+    @Column(name = "review_type", nullable = false, length = 16)
+    private String reviewType;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "score_sum", nullable = false)
+    private Long scoreSum;
+
+    @Column(name = "review_count", nullable = false)
+    private Long reviewCount;
+}
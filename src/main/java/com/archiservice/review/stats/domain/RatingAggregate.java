@@ -0,0 +1,115 @@
+package com.archiservice.review.stats.domain;
+
+import com.archiservice.recommend.dto.response.ScoreResponseDto;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 상품 유형 하나의 리뷰 점수 통계 (인메모리)
+ * 조회는 락 없이 O(1), 갱신은 리뷰 쓰기 빈도 수준이라 synchronized 로 합계와 상품별 값을 함께 맞춤
+ */
+public class RatingAggregate {
+
+    private final Map<Long, RatingCounter> counters = new ConcurrentHashMap<>();
+
+    private volatile long totalScore;
+    private volatile long totalCount;
+    private volatile int ratedProducts;
+    private volatile long fingerprint;
+
+    public synchronized void apply(long productId, long scoreDelta, long countDelta) {
+        RatingCounter previous = counters.getOrDefault(productId, RatingCounter.EMPTY);
+        RatingCounter updated = new RatingCounter(previous.scoreSum + scoreDelta, previous.reviewCount + countDelta);
+
+        if (updated.reviewCount > 0) {
+            counters.put(productId, updated);
+        } else {
+            counters.remove(productId);
+        }
+
+        if (previous.reviewCount <= 0 && updated.reviewCount > 0) {
+            ratedProducts++;
+        } else if (previous.reviewCount > 0 && updated.reviewCount <= 0) {
+            ratedProducts--;
+        }
+
+        totalScore += scoreDelta;
+        totalCount += countDelta;
+        // 상품별 해시의 합이라 같은 통계면 인스턴스가 달라도 같은 값이 됨
+        fingerprint += updated.hash(productId) - previous.hash(productId);
+    }
+
+    public ScoreResponseDto getScore(long productId) {
+        RatingCounter counter = counters.get(productId);
+        if (counter == null) {
+            return null;
+        }
+        return new ScoreResponseDto(counter.scoreSum / (double) counter.reviewCount, (int) counter.reviewCount);
+    }
+
+    public Map<Long, ScoreResponseDto> toScoreMap() {
+        Map<Long, ScoreResponseDto> result = new HashMap<>(counters.size() * 2);
+        counters.forEach((productId, counter) ->
+                result.put(productId, new ScoreResponseDto(counter.scoreSum / (double) counter.reviewCount, (int) counter.reviewCount)));
+        return result;
+    }
+
+    public boolean hasSameCounts(RatingAggregate other) {
+        return totalScore == other.totalScore
+                && totalCount == other.totalCount
+                && counters.equals(other.counters);
+    }
+
+    public long getFingerprint() {
+        return fingerprint;
+    }
+
+    // 리뷰가 있는 전체 리뷰 점수 평균
+    public double getGlobalAverage() {
+        long count = totalCount;
+        return count > 0 ? totalScore / (double) count : 0.0;
+    }
+
+    // 리뷰가 있는 상품 기준 상품당 평균 리뷰 수
+    public int getAverageReviewCount() {
+        int products = ratedProducts;
+        return products > 0 ? (int) Math.round(totalCount / (double) products) : 0;
+    }
+
+    private static final class RatingCounter {
+        private static final RatingCounter EMPTY = new RatingCounter(0, 0);
+
+        private final long scoreSum;
+        private final long reviewCount;
+
+        private RatingCounter(long scoreSum, long reviewCount) {
+            this.scoreSum = scoreSum;
+            this.reviewCount = reviewCount;
+        }
+
+        private long hash(long productId) {
+            if (reviewCount <= 0) {
+                return 0L;
+            }
+            long h = productId * 0x9E3779B97F4A7C15L ^ scoreSum * 0xC2B2AE3D27D4EB4FL ^ reviewCount * 0x165667B19E3779F9L;
+            h ^= h >>> 33;
+            h *= 0xFF51AFD7ED558CCDL;
+            h ^= h >>> 33;
+            return h;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof RatingCounter other)) return false;
+            return scoreSum == other.scoreSum && reviewCount == other.reviewCount;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(scoreSum) * 31 + Long.hashCode(reviewCount);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.archiservice.review.stats.domain;
+
+public enum ReviewType {
+    PLAN,
+    VAS,
+    COUPON
+}
@@ -0,0 +1,47 @@
+package com.archiservice.review.stats.repository;
+
+import com.archiservice.review.stats.domain.ProductRatingStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface ProductRatingStatRepository extends JpaRepository<ProductRatingStat, Long> {
+
+    @Modifying
+    @Query(value = "INSERT INTO product_rating_stats (review_type, product_id, score_sum, review_count) " +
+            "VALUES (:reviewType, :productId, :scoreDelta, :countDelta) " +
+            "ON DUPLICATE KEY UPDATE score_sum = score_sum + :scoreDelta, review_count = review_count + :countDelta",
+            nativeQuery = true)
+    int applyDelta(@Param("reviewType") String reviewType,
+                   @Param("productId") Long productId,
+                   @Param("scoreDelta") long scoreDelta,
+                   @Param("countDelta") long countDelta);
+
+    // rebuild* 는 통계 삭제와 같은 트랜잭션에서만 실행 (부분 재구성 방지), 재실행해도 결과가 같도록 덮어쓰기
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Modifying
+    @Query(value = "INSERT INTO product_rating_stats (review_type, product_id, score_sum, review_count) " +
+            "SELECT 'PLAN', plan_id, SUM(score), COUNT(*) FROM plan_reviews GROUP BY plan_id " +
+            "ON DUPLICATE KEY UPDATE score_sum = VALUES(score_sum), review_count = VALUES(review_count)",
+            nativeQuery = true)
+    int rebuildPlanStats();
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Modifying
+    @Query(value = "INSERT INTO product_rating_stats (review_type, product_id, score_sum, review_count) " +
+            "SELECT 'VAS', vas_id, SUM(score), COUNT(*) FROM vas_reviews GROUP BY vas_id " +
+            "ON DUPLICATE KEY UPDATE score_sum = VALUES(score_sum), review_count = VALUES(review_count)",
+            nativeQuery = true)
+    int rebuildVasStats();
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Modifying
+    @Query(value = "INSERT INTO product_rating_stats (review_type, product_id, score_sum, review_count) " +
+            "SELECT 'COUPON', coupon_id, SUM(score), COUNT(*) FROM coupon_reviews GROUP BY coupon_id " +
+            "ON DUPLICATE KEY UPDATE score_sum = VALUES(score_sum), review_count = VALUES(review_count)",
+            nativeQuery = true)
+    int rebuildCouponStats();
+}
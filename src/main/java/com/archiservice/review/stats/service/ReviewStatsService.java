@@ -0,0 +1,21 @@
+package com.archiservice.review.stats.service;
+
+import com.archiservice.recommend.dto.response.ScoreResponseDto;
+import com.archiservice.review.stats.domain.ReviewType;
+
+import java.util.Map;
+
+public interface ReviewStatsService {
+    void recordCreated(ReviewType type, Long productId, int score);
+    void recordUpdated(ReviewType type, Long productId, int oldScore, int newScore);
+    void recordDeleted(ReviewType type, Long productId, int score);
+
+    ScoreResponseDto getScore(ReviewType type, Long productId);
+    Map<Long, ScoreResponseDto> getScoreStatistics(ReviewType type);
+    double getGlobalAverage(ReviewType type);
+    int getAverageReviewCount(ReviewType type);
+    long getVersion();
+
+    void reload();
+    void rebuild();
+}
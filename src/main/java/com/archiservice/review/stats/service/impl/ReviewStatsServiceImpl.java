@@ -0,0 +1,240 @@
+package com.archiservice.review.stats.service.impl;
+
+import com.archiservice.recommend.dto.response.ScoreResponseDto;
+import com.archiservice.review.stats.domain.ProductRatingStat;
+import com.archiservice.review.stats.domain.RatingAggregate;
+import com.archiservice.review.stats.domain.ReviewType;
+import com.archiservice.review.stats.repository.ProductRatingStatRepository;
+import com.archiservice.review.stats.service.ReviewStatsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 리뷰 점수 통계 서비스
+ * 리뷰 쓰기 시점에 합계/개수를 증분 갱신하여 추천 시 GROUP BY 집계 없이 O(1) 로 조회
+ * DB(product_rating_stats) 는 같은 트랜잭션에서, 인메모리 통계는 커밋 이후에 반영
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReviewStatsServiceImpl implements ReviewStatsService {
+
+    private static final String REBUILD_LOCK_KEY = "review:stats:rebuild-lock";
+
+    // 자신이 잡은 락만 해제 (TTL 만료 후 다른 인스턴스가 잡은 락을 지우지 않도록)
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final ProductRatingStatRepository productRatingStatRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${review.stats.rebuild-lock-ttl-seconds:600}")
+    private long rebuildLockTtlSeconds;
+
+    private final AtomicReference<Map<ReviewType, RatingAggregate>> aggregates = new AtomicReference<>(emptyAggregates());
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadStats() {
+        if (productRatingStatRepository.count() == 0) {
+            rebuild();
+            return;
+        }
+        reload();
+    }
+
+    // 다른 인스턴스에서 반영된 리뷰 통계를 주기적으로 동기화
+    @Scheduled(fixedDelayString = "${review.stats.reload-interval-ms:300000}",
+            initialDelayString = "${review.stats.reload-interval-ms:300000}")
+    public void scheduledReload() {
+        reload();
+    }
+
+    @Override
+    @Transactional
+    public void recordCreated(ReviewType type, Long productId, int score) {
+        record(type, productId, score, 1);
+    }
+
+    @Override
+    @Transactional
+    public void recordUpdated(ReviewType type, Long productId, int oldScore, int newScore) {
+        if (oldScore == newScore) {
+            return;
+        }
+        record(type, productId, newScore - oldScore, 0);
+    }
+
+    @Override
+    @Transactional
+    public void recordDeleted(ReviewType type, Long productId, int score) {
+        record(type, productId, -score, -1);
+    }
+
+    @Override
+    public ScoreResponseDto getScore(ReviewType type, Long productId) {
+        return productId != null ? aggregates.get().get(type).getScore(productId) : null;
+    }
+
+    @Override
+    public Map<Long, ScoreResponseDto> getScoreStatistics(ReviewType type) {
+        return aggregates.get().get(type).toScoreMap();
+    }
+
+    @Override
+    public double getGlobalAverage(ReviewType type) {
+        return aggregates.get().get(type).getGlobalAverage();
+    }
+
+    @Override
+    public int getAverageReviewCount(ReviewType type) {
+        return aggregates.get().get(type).getAverageReviewCount();
+    }
+
+    /**
+     * 통계 내용으로 계산한 버전. 같은 통계를 가진 인스턴스끼리는 같은 값을 가지므로 Redis 추천 캐시도 공유 가능
+     */
+    @Override
+    public long getVersion() {
+        Map<ReviewType, RatingAggregate> current = aggregates.get();
+        long version = 17L;
+        for (ReviewType type : ReviewType.values()) {
+            version = version * 31 + current.get(type).getFingerprint();
+        }
+        return version;
+    }
+
+    @Override
+    public void reload() {
+        try {
+            Map<ReviewType, RatingAggregate> loaded = emptyAggregates();
+            for (ProductRatingStat stat : productRatingStatRepository.findAll()) {
+                ReviewType type = toReviewType(stat.getReviewType());
+                if (type != null) {
+                    loaded.get(type).apply(stat.getProductId(), stat.getScoreSum(), stat.getReviewCount());
+                }
+            }
+
+            Map<ReviewType, RatingAggregate> previous = aggregates.get();
+            if (isSame(previous, loaded)) {
+                return;
+            }
+
+            aggregates.set(loaded);
+            log.info("리뷰 점수 통계 로드 완료: version={}", getVersion());
+        } catch (Exception e) {
+            log.error("리뷰 점수 통계 로드 실패, 기존 통계 유지", e);
+        }
+    }
+
+    /**
+     * 리뷰 테이블에서 통계 테이블을 다시 만든다. 최초 배포 시 또는 통계가 어긋났을 때 사용
+     * 여러 인스턴스가 동시에 기동해도 한 곳에서만 재구성하도록 Redis 락을 잡고,
+     * 삭제와 재적재를 한 트랜잭션으로 묶어 실패 시 기존 통계를 그대로 둔다.
+     * DELETE 가 통계 행을 잠그므로 재구성 중 리뷰 쓰기의 증분 갱신은 커밋 이후로 미뤄져 유실/중복 집계되지 않음
+     */
+    @Override
+    public void rebuild() {
+        String token = UUID.randomUUID().toString();
+        Boolean acquired;
+        try {
+            acquired = stringRedisTemplate.opsForValue()
+                    .setIfAbsent(REBUILD_LOCK_KEY, token, Duration.ofSeconds(rebuildLockTtlSeconds));
+        } catch (Exception e) {
+            log.error("리뷰 점수 통계 재구성 락 획득 실패, 재구성 생략", e);
+            reload();
+            return;
+        }
+        if (!Boolean.TRUE.equals(acquired)) {
+            log.info("다른 인스턴스에서 리뷰 점수 통계 재구성 중, 재구성 생략");
+            reload();
+            return;
+        }
+
+        try {
+            Integer rows = transactionTemplate.execute(status -> {
+                productRatingStatRepository.deleteAllInBatch();
+                return productRatingStatRepository.rebuildPlanStats()
+                        + productRatingStatRepository.rebuildVasStats()
+                        + productRatingStatRepository.rebuildCouponStats();
+            });
+            log.info("리뷰 점수 통계 재구성 완료: {} 개 상품", rows);
+        } catch (Exception e) {
+            log.error("리뷰 점수 통계 재구성 실패, 기존 통계 유지", e);
+        } finally {
+            releaseRebuildLock(token);
+        }
+        reload();
+    }
+
+    private void releaseRebuildLock(String token) {
+        try {
+            stringRedisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(REBUILD_LOCK_KEY), token);
+        } catch (Exception e) {
+            log.warn("리뷰 점수 통계 재구성 락 해제 실패, TTL 로 만료: {}", e.getMessage());
+        }
+    }
+
+    private void record(ReviewType type, Long productId, long scoreDelta, long countDelta) {
+        productRatingStatRepository.applyDelta(type.name(), productId, scoreDelta, countDelta);
+
+        Runnable applyInMemory = () -> aggregates.get().get(type).apply(productId, scoreDelta, countDelta);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    applyInMemory.run();
+                }
+            });
+            return;
+        }
+        applyInMemory.run();
+    }
+
+    private boolean isSame(Map<ReviewType, RatingAggregate> previous, Map<ReviewType, RatingAggregate> loaded) {
+        for (ReviewType type : ReviewType.values()) {
+            if (!previous.get(type).hasSameCounts(loaded.get(type))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private ReviewType toReviewType(String value) {
+        try {
+            return ReviewType.valueOf(value);
+        } catch (IllegalArgumentException e) {
+            log.warn("알 수 없는 리뷰 유형: {}", value);
+            return null;
+        }
+    }
+
+    private static Map<ReviewType, RatingAggregate> emptyAggregates() {
+        Map<ReviewType, RatingAggregate> map = new EnumMap<>(ReviewType.class);
+        for (ReviewType type : ReviewType.values()) {
+            map.put(type, new RatingAggregate());
+        }
+        return map;
+    }
+}
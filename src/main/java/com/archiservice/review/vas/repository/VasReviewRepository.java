@@ -1,15 +1,19 @@
 package com.archiservice.review.vas.repository;
 
 import com.archiservice.product.vas.domain.Vas;
+import com.archiservice.review.moderation.domain.ReviewContentView;
 import com.archiservice.review.vas.domain.VasReview;
 import com.archiservice.user.domain.User;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface VasReviewRepository extends JpaRepository<VasReview, Long> {
 
@@ -18,17 +22,15 @@ public interface VasReviewRepository extends JpaRepository<VasReview, Long> {
 
     boolean existsByUserAndVas(User user, Vas vas);
 
-    @Query("SELECT AVG(r.score) FROM VasReview r WHERE r.vas IS NOT NULL")
-    Double findAverageRatingByVasIsNotNull();
-
-    @Query("SELECT vr.vas.vasId, AVG(vr.score), COUNT(vr.score) FROM VasReview vr WHERE vr.score IS NOT NULL GROUP BY vr.vas.vasId")
-    List<Object[]> findAverageScoreAndCountByVas();
-
-    @Query(value = "SELECT AVG(review_count) FROM (" +
-            "SELECT COUNT(*) as review_count FROM vas_reviews GROUP BY vas_id" +
-            ") as vas_review_counts",
-            nativeQuery = true)
-    Double findAverageReviewCountPerVasNative();
-
+    // 점수 변경분을 통계에 반영하므로 동시 수정/삭제가 같은 이전 점수로 계산하지 않도록 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT vr FROM VasReview vr WHERE vr.vasReviewId = :reviewId")
+    Optional<VasReview> findByIdForUpdate(@Param("reviewId") Long reviewId);
+
+    // 검열 배치용 키셋 페이징 (PK 오름차순, 본문만 조회)
+    @Query("SELECT vr.vasReviewId AS id, vr.content AS content FROM VasReview vr " +
+            "WHERE vr.vasReviewId > :lastId AND (:includeModerated = true OR vr.isModerated = false) ORDER BY vr.vasReviewId ASC")
+    List<ReviewContentView> findContentsAfter(@Param("lastId") Long lastId,
+                                              @Param("includeModerated") boolean includeModerated,
+                                              Pageable pageable);
 }
-
@@ -8,6 +8,8 @@ import com.archiservice.exception.business.UserNotFoundException;
 import com.archiservice.product.vas.domain.Vas;
 import com.archiservice.product.vas.repository.VasRepository;
 import com.archiservice.recommend.dto.response.ScoreResponseDto;
+import com.archiservice.review.stats.domain.ReviewType;
+import com.archiservice.review.stats.service.ReviewStatsService;
 import com.archiservice.review.vas.domain.VasReview;
 import com.archiservice.review.vas.dto.request.VasReviewRequestDto;
 import com.archiservice.review.vas.dto.response.VasReviewResponseDto;
@@ -21,9 +23,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -33,6 +33,7 @@ public class VasReviewServiceImpl implements VasReviewService {
     private final VasReviewRepository vasReviewRepository;
     private final UserRepository userRepository;
     private final VasRepository vasRepository;
+    private final ReviewStatsService reviewStatsService;
 
     @Transactional
     public VasReviewResponseDto createReview(Long userId, Long vasId, VasReviewRequestDto requestDto) {
@@ -55,27 +56,31 @@ public class VasReviewServiceImpl implements VasReviewService {
                 .build();
 
         VasReview savedReview = vasReviewRepository.save(review);
+        reviewStatsService.recordCreated(ReviewType.VAS, vas.getVasId(), savedReview.getScore());
         return VasReviewResponseDto.from(savedReview);
     }
 
     @Transactional
     public VasReviewResponseDto updateReview(Long userId, Long reviewId, VasReviewRequestDto requestDto) {
-        VasReview review = vasReviewRepository.findById(reviewId)
+        VasReview review = vasReviewRepository.findByIdForUpdate(reviewId)
                 .orElseThrow(() -> new ReviewNotFoundException(ErrorCode.REVIEW_NOT_FOUND.getMessage()));
 
         review.validateOwner(userId);
+        int oldScore = review.getScore();
         review.updateReview(requestDto.getScore(), requestDto.getContent());
+        reviewStatsService.recordUpdated(ReviewType.VAS, review.getVas().getVasId(), oldScore, review.getScore());
 
         return VasReviewResponseDto.from(review);
     }
 
     @Transactional
     public void deleteReview(Long userId, Long reviewId) {
-        VasReview review = vasReviewRepository.findById(reviewId)
+        VasReview review = vasReviewRepository.findByIdForUpdate(reviewId)
                 .orElseThrow(() -> new ReviewNotFoundException(ErrorCode.REVIEW_NOT_FOUND.getMessage()));
 
         review.validateOwner(userId);
         vasReviewRepository.delete(review);
+        reviewStatsService.recordDeleted(ReviewType.VAS, review.getVas().getVasId(), review.getScore());
     }
 
     public Page<VasReviewResponseDto> getReviewsByVasId(Long vasId, Pageable pageable) {
@@ -85,21 +90,12 @@ public class VasReviewServiceImpl implements VasReviewService {
 
     @Override
     public Map<Long, ScoreResponseDto> getVasScoreStatistics() {
-        List<Object[]> results = vasReviewRepository.findAverageScoreAndCountByVas();
-        return results.stream()
-                .collect(Collectors.toMap(
-                        result -> (Long) result[0], // planId
-                        result -> new ScoreResponseDto(
-                                (Double) result[1],              // avgScore
-                                ((Long) result[2]).intValue()   // reviewCount
-                        )
-                ));
+        return reviewStatsService.getScoreStatistics(ReviewType.VAS);
     }
 
     @Override
     public Integer getAverageReviewCountPerVasAsInteger() {
-        Double avgReviewCount = vasReviewRepository.findAverageReviewCountPerVasNative();
-        return avgReviewCount != null ? (int) Math.round(avgReviewCount) : 0;
+        return reviewStatsService.getAverageReviewCount(ReviewType.VAS);
     }
 
 }
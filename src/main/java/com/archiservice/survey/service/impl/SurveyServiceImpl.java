@@ -12,8 +12,10 @@ import com.archiservice.common.jwt.JwtUtil;
 import com.archiservice.common.jwt.RefreshTokenService;
 import com.archiservice.common.response.ApiResponse;
 import com.archiservice.common.security.CustomUser;
+import com.archiservice.common.security.UserCache;
 import com.archiservice.exception.BusinessException;
 import com.archiservice.exception.ErrorCode;
+import com.archiservice.recommend.component.RecommendationCache;
 import com.archiservice.survey.domain.Question;
 import com.archiservice.survey.dto.QuestionHistoryDto;
 import com.archiservice.survey.dto.response.QuestionResponseDto;
@@ -36,6 +38,8 @@ public class SurveyServiceImpl implements SurveyService{
 	private final TagMetaService metaService;
 	private final RefreshTokenService refreshTokenService;
 	private final JwtUtil jwtUtil;
+	private final RecommendationCache recommendationCache;
+	private final UserCache userCache;
 	
 	@Override
 	public ApiResponse<QuestionResponseDto> getQuestion(Long nextQuestionId, Long tagCode, boolean fromPrevious, HttpSession session) {
@@ -87,6 +91,8 @@ public class SurveyServiceImpl implements SurveyService{
 
 		user.setTagCode(tagCode);
 		userRepository.save(user);
+		recommendationCache.evict(userId);
+		userCache.evict(userId);
 		
 		// JWT
 		CustomUser customUser = new CustomUser(user);
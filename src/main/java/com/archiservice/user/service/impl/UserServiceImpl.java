@@ -14,8 +14,10 @@ import com.archiservice.code.tagmeta.domain.TagMeta;
 import com.archiservice.code.tagmeta.service.TagMetaService;
 import com.archiservice.common.jwt.JwtUtil;
 import com.archiservice.common.security.CustomUser;
+import com.archiservice.common.security.UserCache;
 import com.archiservice.exception.business.InvalidPasswordException;
 import com.archiservice.exception.business.UserNotFoundException;
+import com.archiservice.recommend.component.RecommendationCache;
 import com.archiservice.user.domain.User;
 import com.archiservice.user.dto.request.PasswordUpdateRequestDto;
 import com.archiservice.user.dto.request.TendencyUpdateRequestDto;
@@ -35,6 +37,8 @@ public class UserServiceImpl implements UserService {
     private final TagMetaService tagMetaService;
     private final JwtUtil jwtUtil;
     private final TagMetaService metaService;
+    private final RecommendationCache recommendationCache;
+    private final UserCache userCache;
 
 
     @Override
@@ -58,6 +62,7 @@ public class UserServiceImpl implements UserService {
 
         user.setPassword(passwordEncoder.encode(request.getNewPassword()));
         userRepository.save(user);
+        userCache.evict(user.getUserId());
     }
 
     @Override
@@ -131,8 +136,11 @@ public class UserServiceImpl implements UserService {
 
 		user.setTagCode(tagCode);
 		userRepository.save(user);
+		recommendationCache.evict(user.getUserId());
+		userCache.evict(user.getUserId());
 
-		String accessToken = jwtUtil.generateAccessToken(customUser);
+		// 인증 주체는 변경 전 사용자이므로 변경된 사용자로 새 토큰 발급
+		String accessToken = jwtUtil.generateAccessToken(new CustomUser(user));
 		return accessToken;
 	}
 
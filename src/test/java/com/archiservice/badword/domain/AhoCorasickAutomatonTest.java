@@ -0,0 +1,118 @@
+package com.archiservice.badword.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AhoCorasickAutomatonTest {
+
+    @Test
+    @DisplayName("겹치는 패턴과 실패 링크로 상속된 패턴을 모두 검출")
+    void search_ShouldFindOverlappingPatterns() {
+        // given
+        AhoCorasickAutomaton automaton = build("he", "she", "his", "hers");
+
+        // when
+        List<AhoCorasickAutomaton.MatchResult> result = automaton.search("ushers");
+
+        // then
+        assertThat(result).extracting(AhoCorasickAutomaton.MatchResult::getPattern)
+                .containsExactlyInAnyOrder("she", "he", "hers");
+        assertThat(result).filteredOn(match -> match.getPattern().equals("hers"))
+                .singleElement()
+                .satisfies(match -> {
+                    assertThat(match.getStartIndex()).isEqualTo(2);
+                    assertThat(match.getEndIndex()).isEqualTo(5);
+                });
+    }
+
+    @Test
+    @DisplayName("한글 패턴 검출 및 패턴에 없는 문자에서 루트로 복귀")
+    void search_ShouldHandleHangulAndUnknownCharacters() {
+        // given
+        AhoCorasickAutomaton automaton = build("바보", "바보야");
+
+        // when
+        List<AhoCorasickAutomaton.MatchResult> result = automaton.search("너바x보 바보야");
+
+        // then
+        assertThat(result).extracting(AhoCorasickAutomaton.MatchResult::getPattern)
+                .containsExactly("바보", "바보야");
+        assertThat(result.get(0).getStartIndex()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("리스너가 false 를 반환하면 검색 중단")
+    void search_ShouldStopWhenListenerReturnsFalse() {
+        // given
+        AhoCorasickAutomaton automaton = build("ab", "cd");
+        List<Integer> found = new ArrayList<>();
+
+        // when
+        boolean completed = automaton.search("abcdab", (start, end, patternIndex) -> {
+            found.add(patternIndex);
+            return false;
+        });
+
+        // then
+        assertThat(completed).isFalse();
+        assertThat(found).containsExactly(0);
+    }
+
+    @Test
+    @DisplayName("컴파일 이후 패턴 추가 시 예외 발생")
+    void addPattern_ShouldFailAfterBuild() {
+        // given
+        AhoCorasickAutomaton automaton = build("ab");
+
+        // when & then
+        assertThatThrownBy(() -> automaton.addPattern("cd", 1))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(automaton.getStateCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("테이블 범위를 벗어난 패턴 번호나 길이 값이 있으면 복원 거부")
+    void readFrom_ShouldRejectOutOfRangeTables() throws IOException {
+        // given
+        byte[] valid = toBytes(build("ab"));
+        ByteBuffer badOutput = ByteBuffer.wrap(valid.clone());
+        badOutput.putInt(valid.length - Integer.BYTES, 99);
+        ByteBuffer badPatternLength = ByteBuffer.wrap(valid.clone());
+        badPatternLength.putInt(Integer.BYTES, Integer.MAX_VALUE);
+
+        // when & then
+        assertThat(AhoCorasickAutomaton.readFrom(ByteBuffer.wrap(valid)).search("cab")).hasSize(1);
+        assertThatThrownBy(() -> AhoCorasickAutomaton.readFrom(badOutput))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> AhoCorasickAutomaton.readFrom(badPatternLength))
+                .isInstanceOf(BufferUnderflowException.class);
+    }
+
+    private byte[] toBytes(AhoCorasickAutomaton automaton) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            automaton.writeTo(out);
+        }
+        return buffer.toByteArray();
+    }
+
+    private AhoCorasickAutomaton build(String... patterns) {
+        AhoCorasickAutomaton automaton = new AhoCorasickAutomaton();
+        for (int i = 0; i < patterns.length; i++) {
+            automaton.addPattern(patterns[i], i);
+        }
+        automaton.buildFailureLinks();
+        return automaton;
+    }
+}
@@ -0,0 +1,44 @@
+package com.archiservice.badword.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BadWordDictionaryTest {
+
+    @Test
+    @DisplayName("바이너리 스냅샷으로 복원한 사전은 원본과 같은 결과를 반환")
+    void fromBytes_ShouldRestoreCompiledAutomaton() {
+        // given
+        BadWordDictionary original = BadWordDictionary.of(Set.of("he", "she", "hers", "바보"), Set.of("바보상자"), 42L);
+
+        // when
+        BadWordDictionary restored = BadWordDictionary.fromBytes(original.toBytes());
+
+        // then
+        assertThat(restored.getRevision()).isEqualTo(42L);
+        assertThat(restored.hasSameWords(original.getBadWords(), original.getAllowedWords())).isTrue();
+        assertThat(restored.getAutomaton().getStateCount()).isEqualTo(original.getAutomaton().getStateCount());
+        assertThat(restored.getAutomaton().search("ushers 바보야"))
+                .containsExactlyElementsOf(original.getAutomaton().search("ushers 바보야"));
+    }
+
+    @Test
+    @DisplayName("포맷이 다르거나 잘린 스냅샷은 예외 발생")
+    void fromBytes_ShouldRejectInvalidSnapshot() {
+        // given
+        byte[] snapshot = BadWordDictionary.of(Set.of("바보"), Set.of(), 1L).toBytes();
+        byte[] truncated = Arrays.copyOf(snapshot, snapshot.length / 2);
+
+        // when & then
+        assertThatThrownBy(() -> BadWordDictionary.fromBytes(new byte[]{1, 2, 3, 4, 5, 6, 7, 8}))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BadWordDictionary.fromBytes(truncated))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,37 @@
+package com.archiservice.badword.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JamoNormalizerTest {
+
+    @Test
+    @DisplayName("음절 분해, 된소리 접기, 반복 자모 합치기")
+    void normalizeWord_ShouldDecomposeAndFold() {
+        // when & then
+        assertThat(JamoNormalizer.normalizeWord("시발")).isEqualTo("ㅅㅣㅂㅏㄹ");
+        assertThat(JamoNormalizer.normalizeWord("씨발")).isEqualTo("ㅅㅣㅂㅏㄹ");
+        assertThat(JamoNormalizer.normalizeWord("ㅅㅣㅂㅏㄹ")).isEqualTo("ㅅㅣㅂㅏㄹ");
+        assertThat(JamoNormalizer.normalizeWord("씨ㅣㅣ발")).isEqualTo("ㅅㅣㅂㅏㄹ");
+        assertThat(JamoNormalizer.normalizeWord("ㅋㅋㅋ")).isEqualTo("ㅋ");
+    }
+
+    @Test
+    @DisplayName("한글 사이 숫자는 제거하고 모양이 비슷한 문자는 자모로 접음")
+    void normalizeWord_ShouldFoldConfusablesInKoreanContext() {
+        // when & then
+        assertThat(JamoNormalizer.normalizeWord("시1발")).isEqualTo("ㅅㅣㅂㅏㄹ");
+        assertThat(JamoNormalizer.normalizeWord("바.보")).isEqualTo("ㅂㅏㅂㅗ");
+        assertThat(JamoNormalizer.normalizeWord("IDIOT")).isEqualTo("idiot");
+    }
+
+    @Test
+    @DisplayName("숫자가 제거되어 뜻이 바뀌는 패턴은 null")
+    void normalizeWord_ShouldReturnNullForLossyPattern() {
+        // when & then
+        assertThat(JamoNormalizer.normalizeWord("시2발")).isNull();
+        assertThat(JamoNormalizer.normalizeWord("씨8")).isNull();
+    }
+}
@@ -0,0 +1,202 @@
+package com.archiservice.badword.service;
+
+import com.archiservice.badword.domain.BadWord;
+import com.archiservice.badword.domain.BadWordDictionary;
+import com.archiservice.badword.domain.BadWordMatchMode;
+import com.archiservice.badword.domain.BadWordScanResult;
+import com.archiservice.badword.redis.BadWordSnapshotStore;
+import com.archiservice.badword.repository.AllowedWordRepository;
+import com.archiservice.badword.repository.BadWordRepository;
+import com.archiservice.exception.business.BadWordDictionaryUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class BadWordFilterServiceTest {
+
+    @Mock private BadWordRepository badWordRepository;
+    @Mock private AllowedWordRepository allowedWordRepository;
+    @Mock private BadWordSnapshotStore badWordSnapshotStore;
+
+    private BadWordFilterService badWordFilterService;
+
+    @BeforeEach
+    void setUp() {
+        when(badWordRepository.findMaxRevision()).thenReturn(5L);
+        when(allowedWordRepository.findMaxRevision()).thenReturn(3L);
+        when(badWordRepository.findAllWords()).thenReturn(List.of("바보", "IDIOT"));
+        when(allowedWordRepository.findAllWords()).thenReturn(List.of("바보상자"));
+
+        // 구축 작업을 호출 스레드에서 바로 실행
+        badWordFilterService = new BadWordFilterService(badWordRepository, allowedWordRepository, badWordSnapshotStore, Runnable::run, new SimpleMeterRegistry());
+        badWordFilterService.initializeService();
+    }
+
+    @Test
+    @DisplayName("리비전과 단어 목록이 같은 스냅샷이 있으면 트라이 구축 생략")
+    void initializeService_ShouldRestoreFromSnapshot() {
+        // given
+        byte[] snapshot = BadWordDictionary.of(Set.of("바보", "idiot"), Set.of("바보상자"), 5L).toBytes();
+        when(badWordSnapshotStore.load()).thenReturn(BadWordDictionary.fromBytes(snapshot));
+        BadWordFilterService restored = new BadWordFilterService(badWordRepository, allowedWordRepository, badWordSnapshotStore, Runnable::run, new SimpleMeterRegistry());
+        clearInvocations(badWordRepository, badWordSnapshotStore);
+
+        // when
+        restored.initializeService();
+
+        // then
+        assertThat(restored.getRevision()).isEqualTo(5L);
+        assertThat(restored.containsBadWord("이 바보야")).isTrue();
+        verify(badWordSnapshotStore, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("리비전이 같아도 단어 목록이 다른 스냅샷은 사용하지 않고 DB 로 다시 구축")
+    void initializeService_ShouldRebuildWhenSnapshotWordsDiffer() {
+        // given
+        byte[] snapshot = BadWordDictionary.of(Set.of("해삼"), Set.of(), 5L).toBytes();
+        when(badWordSnapshotStore.load()).thenReturn(BadWordDictionary.fromBytes(snapshot));
+        BadWordFilterService restored = new BadWordFilterService(badWordRepository, allowedWordRepository, badWordSnapshotStore, Runnable::run, new SimpleMeterRegistry());
+        clearInvocations(badWordRepository, badWordSnapshotStore);
+
+        // when
+        restored.initializeService();
+
+        // then
+        assertThat(restored.containsBadWord("이 해삼아")).isFalse();
+        assertThat(restored.containsBadWord("이 바보야")).isTrue();
+        verify(badWordSnapshotStore).save(any(BadWordDictionary.class));
+    }
+
+    @Test
+    @DisplayName("공백과 특수문자로 끊어 쓴 불용어도 검출")
+    void containsBadWord_ShouldDetectAcrossSkippedCharacters() {
+        // when & then
+        assertThat(badWordFilterService.containsBadWord("너 진짜 바.보 같다")).isTrue();
+        assertThat(badWordFilterService.containsBadWord("You I-D-I-O-T")).isTrue();
+        assertThat(badWordFilterService.containsBadWord("좋은 리뷰입니다")).isFalse();
+    }
+
+    @Test
+    @DisplayName("허용단어에 포함된 매칭은 제외 (원문 위치 기준 단어 경계)")
+    void containsBadWord_ShouldIgnoreAllowedWords() {
+        // when & then
+        assertThat(badWordFilterService.containsBadWord("주말엔 바보상자가 최고")).isFalse();
+        assertThat(badWordFilterService.containsBadWord("주말엔 바보상자를 봤어요")).isFalse();
+    }
+
+    @Test
+    @DisplayName("한 번의 검사로 포함 여부와 중복 제거된 불용어 목록 반환")
+    void inspect_ShouldReturnDistinctBadWords() {
+        // when
+        BadWordScanResult result = badWordFilterService.inspect("바보 idiot 바보");
+
+        // then
+        assertThat(result.isContainsBadWord()).isTrue();
+        assertThat(result.getBadWords()).containsExactly("바보", "idiot");
+        verify(badWordRepository, times(1)).findAllWords();
+        verify(badWordSnapshotStore).save(any(BadWordDictionary.class));
+    }
+
+    @Test
+    @DisplayName("빈 문자열은 검사하지 않음")
+    void inspect_ShouldReturnCleanForBlank() {
+        // when
+        BadWordScanResult result = badWordFilterService.inspect("   ");
+
+        // then
+        assertThat(result.isContainsBadWord()).isFalse();
+        assertThat(result.getBadWords()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("변경분만 읽어 새 사전으로 교체")
+    void requestRefresh_ShouldApplyRevisionDelta() {
+        // given
+        BadWord added = BadWord.builder().word("멍청이").build();
+        added.markChanged(6L, false);
+        BadWord removed = BadWord.builder().word("바보").build();
+        removed.markChanged(7L, true);
+        when(badWordRepository.findByRevisionGreaterThan(0L)).thenReturn(List.of(added, removed));
+        when(allowedWordRepository.findByRevisionGreaterThan(0L)).thenReturn(List.of());
+
+        // when
+        badWordFilterService.requestRefresh();
+
+        // then
+        assertThat(badWordFilterService.getRevision()).isEqualTo(7L);
+        assertThat(badWordFilterService.containsBadWord("이 멍청이야")).isTrue();
+        assertThat(badWordFilterService.containsBadWord("바보")).isFalse();
+        verify(badWordRepository, times(1)).findAllWords();
+    }
+
+    @Test
+    @DisplayName("JAMO 모드에서는 자모 분해/된소리/숫자 삽입 변형도 원래 불용어로 검출")
+    void containsBadWord_ShouldDetectJamoVariantsInJamoMode() {
+        // given
+        BadWordFilterService jamoFilter = new BadWordFilterService(badWordRepository, allowedWordRepository, badWordSnapshotStore, Runnable::run, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(jamoFilter, "matchMode", BadWordMatchMode.JAMO);
+        jamoFilter.initializeService();
+
+        // when
+        BadWordScanResult result = jamoFilter.inspect("ㅂㅏ보 빠보 바2보 I.D.I.O.T");
+
+        // then
+        assertThat(result.getBadWords()).containsExactly("바보", "idiot");
+        assertThat(jamoFilter.containsBadWord("주말엔 바보상자가 최고")).isFalse();
+        assertThat(badWordFilterService.containsBadWord("ㅂㅏ보")).isFalse();
+    }
+
+    @Test
+    @DisplayName("사전 구축 전에는 fail-open 이면 검사 없이 통과시키며 집계, 아니면 거절")
+    void containsBadWord_ShouldApplyFailOpenPolicyBeforeLoad() {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        BadWordFilterService notLoaded = new BadWordFilterService(badWordRepository, allowedWordRepository, badWordSnapshotStore,
+                task -> { }, meterRegistry);
+        ReflectionTestUtils.setField(notLoaded, "initialLoadWaitMs", 0L);
+        notLoaded.initializeService();
+
+        // when & then
+        assertThat(notLoaded.containsBadWord("바보")).isFalse();
+        assertThat(meterRegistry.counter("badword.scan.unchecked").count()).isEqualTo(1.0);
+
+        ReflectionTestUtils.setField(notLoaded, "failOpen", false);
+        assertThatThrownBy(() -> notLoaded.containsBadWord("바보"))
+                .isInstanceOf(BadWordDictionaryUnavailableException.class);
+    }
+
+    @Test
+    @DisplayName("전체 구축 작업이 거부되어도 예외 없이 기동하고 첫 검사는 기다리지 않고 fail-open 정책 적용")
+    void initializeService_ShouldSurviveRejectedExecution() {
+        // given
+        BadWordFilterService rejecting = new BadWordFilterService(badWordRepository, allowedWordRepository, badWordSnapshotStore,
+                task -> { throw new RejectedExecutionException("full"); }, new SimpleMeterRegistry());
+        clearInvocations(badWordRepository);
+
+        // when
+        rejecting.initializeService();
+        rejecting.refreshAutomaton();
+
+        // then
+        assertThat(rejecting.containsBadWord("바보")).isFalse();
+        verify(badWordRepository, never()).findAllWords();
+    }
+}
@@ -0,0 +1,102 @@
+package com.archiservice.chatbot.component;
+
+import com.archiservice.chatbot.dto.ChatMessageDto;
+import com.archiservice.chatbot.dto.request.AiPromptMessage;
+import com.archiservice.chatbot.dto.request.AuthMetadata;
+import com.archiservice.chatbot.redis.AiRequestProducer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class AiPromptCoalescerTest {
+
+    @Mock private AiRequestProducer aiRequestProducer;
+
+    private AiPromptCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        coalescer = new AiPromptCoalescer(aiRequestProducer);
+        // 예약 발행이 테스트 중에 끼어들지 않도록 대기 시간을 길게
+        ReflectionTestUtils.setField(coalescer, "windowMs", 60000L);
+        ReflectionTestUtils.setField(coalescer, "maxMessages", 3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        coalescer.flushAll();
+    }
+
+    @Test
+    @DisplayName("묶음의 첫 메시지는 바로 발행하고, 후속 메시지는 최대 개수에 이르면 하나의 프롬프트로 발행")
+    void submit_ShouldSendFirstAndMergeFollowUps() {
+        // when
+        coalescer.submit(1L, prompt(1L, "10", "안녕"));
+        verify(aiRequestProducer, times(1)).sendToAI(any());
+        coalescer.submit(1L, prompt(1L, "11", "요금제"));
+        coalescer.submit(1L, prompt(1L, "12", "추천해줘"));
+        verify(aiRequestProducer, times(1)).sendToAI(any());
+        coalescer.submit(1L, prompt(1L, "13", "데이터 많이"));
+
+        // then
+        ArgumentCaptor<AiPromptMessage> sent = ArgumentCaptor.forClass(AiPromptMessage.class);
+        verify(aiRequestProducer, times(2)).sendToAI(sent.capture());
+        assertThat(sent.getAllValues().get(0).getPayload().getContent()).isEqualTo("안녕");
+        assertThat(sent.getAllValues().get(1).getPayload().getContent()).isEqualTo("요금제\n추천해줘\n데이터 많이");
+        assertThat(sent.getAllValues().get(1).getPayload().getMessageId()).isEqualTo("13");
+    }
+
+    @Test
+    @DisplayName("대기 시간이 끝나면 모인 후속 메시지를 발행")
+    void submit_ShouldFlushFollowUpsWhenWindowEnds() {
+        // given
+        ReflectionTestUtils.setField(coalescer, "windowMs", 50L);
+
+        // when
+        coalescer.submit(1L, prompt(1L, "10", "안녕"));
+        coalescer.submit(1L, prompt(1L, "11", "요금제 추천"));
+
+        // then
+        ArgumentCaptor<AiPromptMessage> sent = ArgumentCaptor.forClass(AiPromptMessage.class);
+        verify(aiRequestProducer, timeout(1000).times(2)).sendToAI(sent.capture());
+        assertThat(sent.getAllValues()).extracting(message -> message.getPayload().getContent())
+                .containsExactly("안녕", "요금제 추천");
+    }
+
+    @Test
+    @DisplayName("대기 시간이 0 이면 합치지 않고 즉시 발행")
+    void submit_ShouldSendImmediatelyWhenDisabled() {
+        // given
+        ReflectionTestUtils.setField(coalescer, "windowMs", 0L);
+
+        // when
+        coalescer.submit(1L, prompt(1L, "10", "안녕"));
+        coalescer.submit(2L, prompt(2L, "11", "반가워"));
+
+        // then
+        verify(aiRequestProducer, times(2)).sendToAI(any());
+    }
+
+    private AiPromptMessage prompt(Long userId, String messageId, String content) {
+        ChatMessageDto payload = ChatMessageDto.builder()
+                .messageId(messageId)
+                .userId(userId)
+                .content(content)
+                .build();
+        return new AiPromptMessage(new AuthMetadata(1L, "20"), payload);
+    }
+}
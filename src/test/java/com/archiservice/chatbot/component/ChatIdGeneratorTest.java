@@ -0,0 +1,80 @@
+package com.archiservice.chatbot.component;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ChatIdGeneratorTest {
+
+    @Test
+    @DisplayName("발급한 id 는 중복 없이 증가")
+    void nextId_ShouldBeUniqueAndIncreasing() {
+        // given
+        ChatIdGenerator generator = new ChatIdGenerator(3);
+        Set<Long> ids = new HashSet<>();
+        long previous = 0;
+
+        // when & then
+        for (int i = 0; i < 10000; i++) {
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(previous);
+            assertThat(ids.add(id)).isTrue();
+            previous = id;
+        }
+    }
+
+    @Test
+    @DisplayName("노드 번호가 다르면 같은 시각에도 다른 id")
+    void nextId_ShouldEncodeNodeId() {
+        // given
+        long first = new ChatIdGenerator(1).nextId();
+        long second = new ChatIdGenerator(2).nextId();
+
+        // then
+        assertThat((first >> 12) & ChatIdGenerator.MAX_NODE_ID).isEqualTo(1);
+        assertThat((second >> 12) & ChatIdGenerator.MAX_NODE_ID).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 노드 번호는 거부")
+    void constructor_ShouldRejectOutOfRangeNodeId() {
+        assertThatThrownBy(() -> new ChatIdGenerator(ChatIdGenerator.MAX_NODE_ID + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ChatIdGenerator(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("노드 번호 미지정 시 Redis INCR 로 발급받고, 발급 실패하면 기동 중단")
+    @SuppressWarnings("unchecked")
+    void constructor_ShouldLeaseNodeIdFromRedis() {
+        // given
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.increment(ChatIdGenerator.NODE_SEQUENCE_KEY))
+                .thenReturn(5L, (long) ChatIdGenerator.MAX_NODE_ID + 2)
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        // when
+        long leased = new ChatIdGenerator(-1, redisTemplate).nextId();
+        long wrapped = new ChatIdGenerator(-1, redisTemplate).nextId();
+
+        // then
+        assertThat((leased >> 12) & ChatIdGenerator.MAX_NODE_ID).isEqualTo(4);
+        assertThat((wrapped >> 12) & ChatIdGenerator.MAX_NODE_ID).isEqualTo(1);
+        assertThatThrownBy(() -> new ChatIdGenerator(-1, redisTemplate))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat((new ChatIdGenerator(7, redisTemplate).nextId() >> 12) & ChatIdGenerator.MAX_NODE_ID).isEqualTo(7);
+    }
+}
@@ -0,0 +1,185 @@
+package com.archiservice.chatbot.component;
+
+import com.archiservice.chatbot.domain.Chat;
+import com.archiservice.chatbot.dto.type.MessageType;
+import com.archiservice.chatbot.dto.type.Sender;
+import com.archiservice.chatbot.repository.ChatJdbcRepository;
+import com.archiservice.user.domain.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ChatLogWriterTest {
+
+    @Mock private ChatJdbcRepository chatJdbcRepository;
+    @Mock private StringRedisTemplate stringRedisTemplate;
+    @Mock private StreamOperations<String, Object, Object> streamOperations;
+    @Mock private ValueOperations<String, String> valueOperations;
+
+    private ChatLogWriter chatLogWriter;
+
+    @BeforeEach
+    void setUp() {
+        when(stringRedisTemplate.opsForStream()).thenReturn(streamOperations);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (chatLogWriter != null) {
+            chatLogWriter.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("WAL 에 기록한 뒤 바로 반환하고, 플러시 때 배치 저장 후 WAL 에서 삭제")
+    @SuppressWarnings("unchecked")
+    void append_ShouldPersistOnFlush() {
+        // given
+        chatLogWriter = writer(10);
+        RecordId recordId = RecordId.of("1-0");
+        when(stringRedisTemplate.executePipelined(any(SessionCallback.class))).thenReturn(List.of(recordId));
+
+        // when
+        Chat chat = chatLogWriter.append(chat("안녕"));
+
+        // then
+        assertThat(chat.getChatId()).isNotNull();
+        assertThat(chat.getCreatedAt()).isNotNull();
+        verify(chatJdbcRepository, never()).insertAll(anyList());
+
+        chatLogWriter.flush();
+        ArgumentCaptor<List<Chat>> saved = ArgumentCaptor.forClass(List.class);
+        verify(chatJdbcRepository, times(1)).insertAll(saved.capture());
+        assertThat(saved.getValue()).containsExactly(chat);
+        verify(streamOperations).delete(ChatLogWriter.WAL_STREAM_KEY, recordId);
+    }
+
+    @Test
+    @DisplayName("WAL 기록에 실패하면 호출 스레드에서 바로 저장")
+    @SuppressWarnings("unchecked")
+    void append_ShouldPersistSynchronouslyWhenWalFails() {
+        // given
+        chatLogWriter = writer(10);
+        when(stringRedisTemplate.executePipelined(any(SessionCallback.class)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        // when
+        chatLogWriter.append(chat("안녕"));
+
+        // then
+        verify(chatJdbcRepository, times(1)).insertAll(anyList());
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 넘친 채팅만 바로 저장")
+    @SuppressWarnings("unchecked")
+    void appendAll_ShouldPersistOverflowSynchronously() {
+        // given
+        chatLogWriter = writer(1);
+        when(stringRedisTemplate.executePipelined(any(SessionCallback.class)))
+                .thenReturn(List.of(RecordId.of("1-0"), RecordId.of("1-1")));
+        Chat first = chat("첫 번째");
+        Chat second = chat("두 번째");
+
+        // when
+        chatLogWriter.appendAll(List.of(first, second));
+
+        // then
+        ArgumentCaptor<List<Chat>> saved = ArgumentCaptor.forClass(List.class);
+        verify(chatJdbcRepository, times(1)).insertAll(saved.capture());
+        assertThat(saved.getValue()).containsExactly(second);
+        verify(streamOperations).delete(ChatLogWriter.WAL_STREAM_KEY, RecordId.of("1-1"));
+    }
+
+    @Test
+    @DisplayName("무결성 오류가 난 채팅만 DLQ 로 옮기고 나머지는 건별 저장 후 WAL 에서 삭제")
+    @SuppressWarnings("unchecked")
+    void flush_ShouldMoveIntegrityViolationsToDeadLetter() {
+        // given
+        chatLogWriter = writer(10);
+        when(stringRedisTemplate.executePipelined(any(SessionCallback.class)))
+                .thenReturn(List.of(RecordId.of("1-0"), RecordId.of("1-1")));
+        Chat valid = chat("정상");
+        Chat orphan = chat("탈퇴 사용자");
+        doThrow(new DataIntegrityViolationException("fk")).when(chatJdbcRepository).insertAll(List.of(valid, orphan));
+        doThrow(new DataIntegrityViolationException("fk")).when(chatJdbcRepository).insertAll(List.of(orphan));
+        chatLogWriter.appendAll(List.of(valid, orphan));
+
+        // when
+        chatLogWriter.flush();
+
+        // then
+        verify(chatJdbcRepository).insertAll(List.of(valid));
+        verify(streamOperations).add(argThat((MapRecord<String, ?, ?> record) ->
+                record.getStream().equals(ChatLogWriter.DEAD_LETTER_STREAM_KEY)
+                        && "탈퇴 사용자".equals(record.getValue().get("message"))));
+        verify(streamOperations).delete(ChatLogWriter.WAL_STREAM_KEY, RecordId.of("1-0"), RecordId.of("1-1"));
+    }
+
+    @Test
+    @DisplayName("대화 삭제 기준 id 이하의 미저장 채팅은 저장하지 않고 WAL 에서만 삭제")
+    @SuppressWarnings("unchecked")
+    void flush_ShouldSkipChatsCreatedBeforeDeletion() {
+        // given
+        chatLogWriter = writer(10);
+        when(stringRedisTemplate.executePipelined(any(SessionCallback.class)))
+                .thenReturn(List.of(RecordId.of("1-0")), List.of(RecordId.of("2-0")));
+        Chat before = chatLogWriter.append(chat("삭제 전"));
+
+        ArgumentCaptor<String> watermark = ArgumentCaptor.forClass(String.class);
+        chatLogWriter.markDeleted(1L);
+        verify(valueOperations).set(eq("chat:deleted-before:1"), watermark.capture(), any());
+        when(valueOperations.multiGet(List.of("chat:deleted-before:1"))).thenReturn(List.of(watermark.getValue()));
+        Chat after = chatLogWriter.append(chat("삭제 후"));
+
+        // when
+        chatLogWriter.flush();
+
+        // then
+        assertThat(before.getChatId()).isLessThan(Long.parseLong(watermark.getValue()));
+        ArgumentCaptor<List<Chat>> saved = ArgumentCaptor.forClass(List.class);
+        verify(chatJdbcRepository, times(1)).insertAll(saved.capture());
+        assertThat(saved.getValue()).containsExactly(after);
+        verify(streamOperations).delete(ChatLogWriter.WAL_STREAM_KEY, RecordId.of("1-0"));
+        verify(streamOperations).delete(ChatLogWriter.WAL_STREAM_KEY, RecordId.of("2-0"));
+    }
+
+    private ChatLogWriter writer(int queueCapacity) {
+        return new ChatLogWriter(chatJdbcRepository, new ChatIdGenerator(0), stringRedisTemplate,
+                new SimpleMeterRegistry(), queueCapacity);
+    }
+
+    private Chat chat(String message) {
+        return Chat.builder()
+                .user(User.builder().userId(1L).build())
+                .message(message)
+                .sender(Sender.USER)
+                .messageType(MessageType.USER_MESSAGE)
+                .build();
+    }
+}
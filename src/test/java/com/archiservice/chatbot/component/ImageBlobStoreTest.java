@@ -0,0 +1,79 @@
+package com.archiservice.chatbot.component;
+
+import com.archiservice.chatbot.domain.ImageBlobRef;
+import com.archiservice.chatbot.domain.ImageHandoffMode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ImageBlobStoreTest {
+
+    // sha256("abc")
+    private static final String ABC_SHA256 = "ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad";
+
+    @Mock private RedisTemplate<String, byte[]> binaryRedisTemplate;
+    @Mock private ValueOperations<String, byte[]> valueOperations;
+
+    private ImageBlobStore imageBlobStore;
+
+    @BeforeEach
+    void setUp() {
+        when(binaryRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        imageBlobStore = new ImageBlobStore(binaryRedisTemplate);
+        ReflectionTestUtils.setField(imageBlobStore, "blobTtlSeconds", 600L);
+    }
+
+    @Test
+    @DisplayName("REDIS 모드는 내용 해시를 키로 TTL 과 함께 저장하고 참조를 반환")
+    void store_ShouldSaveBlobByContentHash() throws Exception {
+        // given
+        ReflectionTestUtils.setField(imageBlobStore, "mode", ImageHandoffMode.REDIS);
+        byte[] content = "abc".getBytes(StandardCharsets.UTF_8);
+        MockMultipartFile image = new MockMultipartFile("image", "a.png", "image/png", content);
+
+        // when
+        ImageBlobRef ref = imageBlobStore.store(image, "png");
+
+        // then
+        assertThat(ref.getSha256()).isEqualTo(ABC_SHA256);
+        assertThat(ref.getKey()).isEqualTo(ImageBlobStore.REDIS_KEY_PREFIX + ABC_SHA256);
+        assertThat(ref.getSize()).isEqualTo(3);
+        verify(valueOperations).set(ref.getKey(), content, Duration.ofSeconds(600));
+    }
+
+    @Test
+    @DisplayName("INLINE 인코딩 결과는 표준 Base64 와 같음")
+    void encodeBase64_ShouldMatchStandardEncoding() throws Exception {
+        // given
+        byte[] content = new byte[1000];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+        MockMultipartFile image = new MockMultipartFile("image", "a.jpg", "image/jpeg", content);
+
+        // when
+        String encoded = imageBlobStore.encodeBase64(image);
+
+        // then
+        assertThat(encoded).isEqualTo(Base64.getEncoder().encodeToString(content));
+        verifyNoInteractions(valueOperations);
+    }
+}
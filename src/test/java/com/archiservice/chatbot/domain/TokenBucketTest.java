@@ -0,0 +1,39 @@
+package com.archiservice.chatbot.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    @DisplayName("허용량만큼 연속 요청 후 거절, 시간이 지나면 충전된 만큼 다시 허용")
+    void tryAcquire_ShouldRefillOverTime() {
+        // given
+        TokenBucket bucket = new TokenBucket(2, 1.0, 0L);
+
+        // when & then
+        assertThat(bucket.tryAcquire(0L)).isTrue();
+        assertThat(bucket.tryAcquire(0L)).isTrue();
+        assertThat(bucket.tryAcquire(0L)).isFalse();
+        assertThat(bucket.tryAcquire(SECOND / 2)).isFalse();
+        assertThat(bucket.tryAcquire(SECOND)).isTrue();
+    }
+
+    @Test
+    @DisplayName("요청 없이 가득 찬 상태로 오래 지난 버킷만 유휴로 판단")
+    void isIdle_ShouldRequireFullBucketAndIdleTime() {
+        // given
+        TokenBucket bucket = new TokenBucket(2, 1.0, 0L);
+        bucket.tryAcquire(0L);
+
+        // when & then
+        assertThat(bucket.isIdle(SECOND / 2, SECOND)).isFalse();
+        assertThat(bucket.isIdle(10 * SECOND, SECOND)).isTrue();
+    }
+}
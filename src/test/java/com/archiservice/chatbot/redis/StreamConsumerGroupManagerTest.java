@@ -0,0 +1,104 @@
+package com.archiservice.chatbot.redis;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class StreamConsumerGroupManagerTest {
+
+    private static final String STREAM = "ai-response-stream";
+    private static final String GROUP = "response-handler";
+
+    @Mock private StringRedisTemplate stringRedisTemplate;
+    @Mock private StreamOperations<String, Object, Object> streamOperations;
+
+    private StreamConsumerGroupManager manager;
+
+    @BeforeEach
+    void setUp() {
+        when(stringRedisTemplate.opsForStream()).thenReturn(streamOperations);
+        manager = new StreamConsumerGroupManager(stringRedisTemplate, Runnable::run, "node-a");
+        ReflectionTestUtils.setField(manager, "reclaimMinIdleMs", 60000L);
+        ReflectionTestUtils.setField(manager, "reclaimBatchSize", 100);
+        ReflectionTestUtils.setField(manager, "maxDeliveries", 5L);
+    }
+
+    @Test
+    @DisplayName("컨슈머 이름은 인스턴스 id 와 워커 번호를 포함")
+    void consumerName_ShouldBeUniquePerInstanceAndWorker() {
+        // when & then
+        assertThat(manager.consumerName("consumer", 0)).isEqualTo("consumer-node-a-0");
+        assertThat(manager.consumerName("consumer", 1)).isEqualTo("consumer-node-a-1");
+    }
+
+    @Test
+    @DisplayName("유휴 보류 메시지는 회수해 재처리하고, 전달 횟수 초과 메시지는 DLQ 로 옮긴 뒤 확인")
+    @SuppressWarnings("unchecked")
+    void reclaim_ShouldRetryIdleEntriesAndDeadLetterExhaustedOnes() {
+        // given
+        RecordId retryId = RecordId.of("1-0");
+        RecordId deadId = RecordId.of("2-0");
+        RecordId freshId = RecordId.of("3-0");
+        Consumer owner = Consumer.from(GROUP, "consumer-node-b-0");
+        PendingMessages pending = new PendingMessages(GROUP, List.of(
+                new PendingMessage(retryId, owner, Duration.ofMinutes(5), 2),
+                new PendingMessage(deadId, owner, Duration.ofMinutes(5), 5),
+                new PendingMessage(freshId, owner, Duration.ofSeconds(1), 1)));
+        when(streamOperations.pending(eq(STREAM), eq(GROUP), any(Range.class), eq(100L))).thenReturn(pending);
+
+        MapRecord<String, Object, Object> retryRecord = MapRecord.create(STREAM, Map.<Object, Object>of("content", "재시도"))
+                .withId(retryId);
+        MapRecord<String, Object, Object> deadRecord = MapRecord.create(STREAM, Map.<Object, Object>of("content", "실패"))
+                .withId(deadId);
+        when(streamOperations.claim(eq(STREAM), eq(GROUP), eq("consumer-node-a-0"), any(Duration.class), any(RecordId[].class)))
+                .thenReturn(List.of(retryRecord));
+        when(streamOperations.range(eq(STREAM), any(Range.class))).thenReturn(List.of(deadRecord));
+
+        List<RecordId> handled = new ArrayList<>();
+        StreamConsumerGroupManager.Subscription subscription = new StreamConsumerGroupManager.Subscription(
+                STREAM, GROUP, "consumer", records -> {
+                    records.forEach(record -> handled.add(record.getId()));
+                    return List.of(records.get(0).getId());
+                });
+
+        // when
+        int count = manager.reclaim(subscription);
+
+        // then
+        assertThat(count).isEqualTo(2);
+        assertThat(handled).containsExactly(retryId);
+        ArgumentCaptor<MapRecord<String, Object, Object>> deadLetter = ArgumentCaptor.forClass(MapRecord.class);
+        verify(streamOperations).add(deadLetter.capture());
+        assertThat(deadLetter.getValue().getStream()).isEqualTo(STREAM + ":dlq");
+        assertThat(deadLetter.getValue().getValue()).containsEntry("content", "실패").containsEntry("dlq-source-id", "2-0");
+        verify(streamOperations).acknowledge(STREAM, GROUP, deadId);
+        verify(streamOperations).acknowledge(STREAM, GROUP, retryId);
+        verify(streamOperations, never()).acknowledge(eq(STREAM), eq(GROUP), eq(freshId));
+    }
+}
@@ -0,0 +1,119 @@
+package com.archiservice.chatbot.redis;
+
+import com.archiservice.chatbot.dto.ChatMessageDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpUser;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class UserMessageRelayTest {
+
+    @Mock private MessageChannel clientOutboundChannel;
+    @Mock private SimpUserRegistry simpUserRegistry;
+    @Mock private StringRedisTemplate stringRedisTemplate;
+    @Mock private RedisMessageListenerContainer redisMessageListenerContainer;
+    @Mock private SimpUser connectedUser;
+
+    private UserMessageRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        when(clientOutboundChannel.send(any())).thenReturn(true);
+        SimpMessagingTemplate messagingTemplate = new SimpMessagingTemplate(clientOutboundChannel);
+        relay = new UserMessageRelay(messagingTemplate, simpUserRegistry, stringRedisTemplate,
+                redisMessageListenerContainer, new ObjectMapper().findAndRegisterModules());
+        ReflectionTestUtils.setField(relay, "relayEnabled", true);
+    }
+
+    @Test
+    @DisplayName("자기 노드 세션에는 JSON content-type 메시지로 바로 보내고 다른 노드를 위해 채널에도 발행")
+    void sendToUser_ShouldDeliverLocallyAndPublish() {
+        // given
+        when(simpUserRegistry.getUser("1")).thenReturn(connectedUser);
+
+        // when
+        relay.sendToUser(1L, "/queue/chat", ChatMessageDto.builder().content("안녕").build());
+
+        // then
+        Message<?> sent = sentMessages().get(0);
+        assertThat(sent.getHeaders().get(MessageHeaders.CONTENT_TYPE)).isEqualTo(MimeTypeUtils.APPLICATION_JSON);
+        assertThat(SimpMessageHeaderAccessor.getDestination(sent.getHeaders())).isEqualTo("/user/1/queue/chat");
+        assertThat(new String((byte[]) sent.getPayload(), StandardCharsets.UTF_8)).contains("\"content\":\"안녕\"");
+
+        ArgumentCaptor<String> envelope = ArgumentCaptor.forClass(String.class);
+        verify(stringRedisTemplate).convertAndSend(eq(UserMessageRelay.CHANNEL), envelope.capture());
+        assertThat(envelope.getValue()).contains("\n1\n/queue/chat\n").contains("\"content\":\"안녕\"");
+    }
+
+    @Test
+    @DisplayName("다른 노드가 발행한 메시지는 해당 사용자 세션이 있을 때만 본문 그대로 전달")
+    void onMessage_ShouldDeliverOnlyToLocalSessions() {
+        // given
+        when(simpUserRegistry.getUser("1")).thenReturn(connectedUser);
+        byte[] toConnected = "other-node\n1\n/queue/chat\n{\"content\":\"안녕\"}".getBytes(StandardCharsets.UTF_8);
+        byte[] toOther = "other-node\n2\n/queue/chat\n{}".getBytes(StandardCharsets.UTF_8);
+
+        // when
+        relay.onMessage(new DefaultMessage(UserMessageRelay.CHANNEL.getBytes(StandardCharsets.UTF_8), toConnected), null);
+        relay.onMessage(new DefaultMessage(UserMessageRelay.CHANNEL.getBytes(StandardCharsets.UTF_8), toOther), null);
+
+        // then
+        List<Message<?>> sent = sentMessages();
+        assertThat(sent).hasSize(1);
+        assertThat(SimpMessageHeaderAccessor.getDestination(sent.get(0).getHeaders())).isEqualTo("/user/1/queue/chat");
+        assertThat(sent.get(0).getHeaders().get(MessageHeaders.CONTENT_TYPE)).isEqualTo(MimeTypeUtils.APPLICATION_JSON);
+        assertThat(new String((byte[]) sent.get(0).getPayload(), StandardCharsets.UTF_8)).isEqualTo("{\"content\":\"안녕\"}");
+    }
+
+    @Test
+    @DisplayName("자기 노드가 발행한 메시지는 이미 전달했으므로 무시")
+    void onMessage_ShouldIgnoreOwnMessages() {
+        // given
+        when(simpUserRegistry.getUser("1")).thenReturn(connectedUser);
+        ArgumentCaptor<String> envelope = ArgumentCaptor.forClass(String.class);
+        relay.sendToUser(1L, "/queue/chat", ChatMessageDto.builder().content("안녕").build());
+        verify(stringRedisTemplate).convertAndSend(eq(UserMessageRelay.CHANNEL), envelope.capture());
+        clearInvocations(clientOutboundChannel);
+
+        // when
+        relay.onMessage(new DefaultMessage(UserMessageRelay.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                envelope.getValue().getBytes(StandardCharsets.UTF_8)), null);
+
+        // then
+        verify(clientOutboundChannel, never()).send(any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Message<?>> sentMessages() {
+        ArgumentCaptor<Message<?>> captor = ArgumentCaptor.forClass((Class) Message.class);
+        verify(clientOutboundChannel, atLeastOnce()).send(captor.capture());
+        return captor.getAllValues();
+    }
+}
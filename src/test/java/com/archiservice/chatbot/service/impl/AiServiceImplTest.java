@@ -0,0 +1,197 @@
+package com.archiservice.chatbot.service.impl;
+
+import com.archiservice.chatbot.component.ChatIdGenerator;
+import com.archiservice.chatbot.component.ChatLogWriter;
+import com.archiservice.chatbot.domain.Chat;
+import com.archiservice.chatbot.dto.response.ChatResponseDto;
+import com.archiservice.chatbot.dto.type.MessageType;
+import com.archiservice.chatbot.dto.type.Sender;
+import com.archiservice.chatbot.redis.AiResponseLedger;
+import com.archiservice.chatbot.redis.ChatHistoryCache;
+import com.archiservice.chatbot.redis.UserMessageRelay;
+import com.archiservice.user.domain.User;
+import com.archiservice.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class AiServiceImplTest {
+
+    @Mock private ChatLogWriter chatLogWriter;
+    @Mock private ChatIdGenerator chatIdGenerator;
+    @Mock private UserRepository userRepository;
+    @Mock private UserMessageRelay userMessageRelay;
+    @Mock private ChatHistoryCache chatHistoryCache;
+    @Mock private AiResponseLedger aiResponseLedger;
+
+    @InjectMocks
+    private AiServiceImpl aiService;
+
+    @Test
+    @DisplayName("응답 묶음은 사용자 일괄 조회, 채팅 배치 저장, 캐시 일괄 기록 한 번씩으로 처리")
+    @SuppressWarnings("unchecked")
+    void handleAIResponses_ShouldProcessInBulk() {
+        // given
+        User first = User.builder().userId(1L).build();
+        User second = User.builder().userId(2L).build();
+        when(userRepository.findAllById(any())).thenReturn(List.of(first, second));
+
+        List<ChatResponseDto> responses = List.of(
+                response(1L, "첫 번째"), response(2L, "두 번째"), response(1L, "세 번째"));
+
+        // when
+        aiService.handleAIResponses(responses);
+
+        // then
+        verify(userRepository, times(1)).findAllById(any());
+        verify(userRepository, never()).findById(anyLong());
+
+        ArgumentCaptor<List<Chat>> chats = ArgumentCaptor.forClass(List.class);
+        verify(chatLogWriter, times(1)).appendAll(chats.capture());
+        assertThat(chats.getValue()).extracting(Chat::getMessage).containsExactly("첫 번째", "두 번째", "세 번째");
+        assertThat(chats.getValue()).allMatch(chat -> chat.getSender() == Sender.BOT);
+
+        ArgumentCaptor<Map<Long, List<ChatResponseDto>>> cached = ArgumentCaptor.forClass(Map.class);
+        verify(chatHistoryCache, times(1)).appendAll(cached.capture());
+        assertThat(cached.getValue().get(1L)).hasSize(2);
+        assertThat(cached.getValue().get(2L)).hasSize(1);
+
+        verify(userMessageRelay, times(3)).sendToUser(anyLong(), eq("/queue/chat"), any(ChatResponseDto.class));
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 사용자의 응답은 저장/전송에서 제외")
+    @SuppressWarnings("unchecked")
+    void handleAIResponses_ShouldSkipUnknownUsers() {
+        // given
+        User known = User.builder().userId(1L).build();
+        when(userRepository.findAllById(any())).thenReturn(List.of(known));
+
+        // when
+        aiService.handleAIResponses(List.of(response(1L, "안녕하세요"), response(99L, "사라진 사용자")));
+
+        // then
+        ArgumentCaptor<List<Chat>> chats = ArgumentCaptor.forClass(List.class);
+        verify(chatLogWriter).appendAll(chats.capture());
+        assertThat(chats.getValue()).hasSize(1);
+        verify(userMessageRelay, times(1)).sendToUser(eq(1L), eq("/queue/chat"), any(ChatResponseDto.class));
+        verify(userMessageRelay, never()).sendToUser(eq(99L), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("배치 저장 실패 시 캐시/전송 없이 예외, 건별 재처리는 같은 채팅 id 로 저장하고 한 번만 전송")
+    @SuppressWarnings("unchecked")
+    void handleAIResponses_ShouldKeepChatIdsForFallback() {
+        // given
+        User user = User.builder().userId(1L).build();
+        when(userRepository.findAllById(any())).thenReturn(List.of(user));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(chatIdGenerator.nextId()).thenReturn(101L, 102L);
+        doThrow(new RuntimeException("db down")).when(chatLogWriter).appendAll(anyList());
+
+        ChatResponseDto first = response(1L, "첫 번째");
+        ChatResponseDto second = response(1L, "두 번째");
+
+        // when
+        assertThatThrownBy(() -> aiService.handleAIResponses(List.of(first, second)))
+                .isInstanceOf(RuntimeException.class);
+        aiService.handleAIResponse(first);
+        aiService.handleAIResponse(second);
+
+        // then
+        verify(chatHistoryCache, times(2)).appendAll(any());
+        ArgumentCaptor<Chat> retried = ArgumentCaptor.forClass(Chat.class);
+        verify(chatLogWriter, times(2)).append(retried.capture());
+        assertThat(retried.getAllValues()).extracting(Chat::getChatId).containsExactly(101L, 102L);
+        verify(userMessageRelay, times(2)).sendToUser(eq(1L), eq("/queue/chat"), any());
+    }
+
+    @Test
+    @DisplayName("타입별 머리말은 전송용 복사본에만 붙이고, 캐시 실패는 예외 없이 캐시를 비움")
+    void handleAIResponse_ShouldPrefixCopyAndContainCacheFailure() {
+        // given
+        User user = User.builder().userId(1L).build();
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        doThrow(new RuntimeException("redis down")).when(chatHistoryCache).appendAll(any());
+        ChatResponseDto response = response(1L, "요금제 추천");
+
+        // when
+        aiService.handleAIResponse(response);
+        aiService.handleAIResponse(response);
+
+        // then
+        ArgumentCaptor<ChatResponseDto> sent = ArgumentCaptor.forClass(ChatResponseDto.class);
+        verify(userMessageRelay, times(2)).sendToUser(eq(1L), eq("/queue/chat"), sent.capture());
+        assertThat(sent.getAllValues()).extracting(ChatResponseDto::getContent).containsOnly("[추천] 요금제 추천");
+        assertThat(response.getContent()).isEqualTo("요금제 추천");
+        verify(chatHistoryCache, times(2)).evict(1L);
+    }
+
+    @Test
+    @DisplayName("회수로 다시 전달된 레코드는 기록된 채팅 id 로 저장하고 캐시는 추가 대신 비운 뒤 전송 완료를 기록")
+    void handleAIResponse_ShouldReuseChatIdForRedeliveredRecord() {
+        // given
+        User user = User.builder().userId(1L).build();
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(chatIdGenerator.nextId()).thenReturn(900L);
+        when(aiResponseLedger.claim(Map.of("1-0", 900L))).thenReturn(Map.of("1-0", AiResponseLedger.Entry.parse("501")));
+        ChatResponseDto response = response(1L, "요금제 추천");
+        response.setStreamRecordId("1-0");
+
+        // when
+        aiService.handleAIResponse(response);
+
+        // then
+        ArgumentCaptor<Chat> saved = ArgumentCaptor.forClass(Chat.class);
+        verify(chatLogWriter).append(saved.capture());
+        assertThat(saved.getValue().getChatId()).isEqualTo(501L);
+        verify(chatHistoryCache).appendAll(Map.of());
+        verify(chatHistoryCache).evict(1L);
+        verify(userMessageRelay, times(1)).sendToUser(eq(1L), eq("/queue/chat"), any());
+        verify(aiResponseLedger).markDelivered(Map.of("1-0", 501L));
+    }
+
+    @Test
+    @DisplayName("전송까지 끝난 레코드가 다시 전달되면 저장/캐시/전송 없이 넘어감")
+    void handleAIResponses_ShouldSkipDeliveredRecord() {
+        // given
+        when(chatIdGenerator.nextId()).thenReturn(900L);
+        when(aiResponseLedger.claim(anyMap())).thenReturn(Map.of("1-0", AiResponseLedger.Entry.parse("501:delivered")));
+        ChatResponseDto response = response(1L, "요금제 추천");
+        response.setStreamRecordId("1-0");
+
+        // when
+        aiService.handleAIResponses(List.of(response));
+
+        // then
+        verify(chatLogWriter, never()).appendAll(anyList());
+        verify(chatHistoryCache, never()).appendAll(any());
+        verify(userMessageRelay, never()).sendToUser(anyLong(), anyString(), any());
+        verify(aiResponseLedger, never()).markDelivered(any());
+    }
+
+    private ChatResponseDto response(Long userId, String content) {
+        ChatResponseDto response = new ChatResponseDto();
+        response.setUserId(userId);
+        response.setContent(content);
+        response.setType(MessageType.SUGGESTION);
+        return response;
+    }
+}
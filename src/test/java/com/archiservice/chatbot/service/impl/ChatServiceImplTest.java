@@ -0,0 +1,119 @@
+package com.archiservice.chatbot.service.impl;
+
+import com.archiservice.chatbot.component.AiRequestAdmission;
+import com.archiservice.chatbot.component.ChatLogWriter;
+import com.archiservice.chatbot.domain.Chat;
+import com.archiservice.chatbot.dto.ChatMessageDto;
+import com.archiservice.chatbot.dto.type.MessageType;
+import com.archiservice.chatbot.dto.type.Sender;
+import com.archiservice.chatbot.redis.ChatHistoryCache;
+import com.archiservice.chatbot.redis.UserMessageRelay;
+import com.archiservice.chatbot.repository.ChatRepository;
+import com.archiservice.chatbot.service.AiService;
+import com.archiservice.user.domain.User;
+import com.archiservice.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ChatServiceImplTest {
+
+    @Mock private ChatRepository chatRepository;
+    @Mock private UserRepository userRepository;
+    @Mock private UserMessageRelay userMessageRelay;
+    @Mock private ChatHistoryCache chatHistoryCache;
+    @Mock private AiService aiService;
+    @Mock private AiRequestAdmission aiRequestAdmission;
+    @Mock private ChatLogWriter chatLogWriter;
+
+    @InjectMocks
+    private ChatServiceImpl chatService;
+
+    @Test
+    @DisplayName("요청 구간이 캐시에 있으면 DB 를 조회하지 않음")
+    void loadChatHistory_ShouldUseCachedWindow() {
+        // given
+        List<ChatMessageDto> cached = List.of(ChatMessageDto.builder().messageId("9").content("안녕").build());
+        when(chatHistoryCache.findPage(1L, 0, 20)).thenReturn(cached);
+
+        // when
+        List<ChatMessageDto> result = chatService.loadChatHistory(1L, 0, 20);
+
+        // then
+        assertThat(result).isSameAs(cached);
+        verifyNoInteractions(chatRepository);
+    }
+
+    @Test
+    @DisplayName("캐시 미스면 chat_id 역순으로 조회해 오래된 순으로 반환")
+    void loadChatHistory_ShouldFallBackToKeysetQuery() {
+        // given
+        when(chatHistoryCache.findPage(anyLong(), anyInt(), anyInt())).thenReturn(null);
+        when(chatRepository.findByUser_UserIdOrderByChatIdDesc(1L, PageRequest.of(0, 2)))
+                .thenReturn(List.of(chat(12L), chat(11L)));
+
+        // when
+        List<ChatMessageDto> result = chatService.loadChatHistory(1L, 0, 2);
+
+        // then
+        assertThat(result).extracting(ChatMessageDto::getMessageId).containsExactly("11", "12");
+    }
+
+    @Test
+    @DisplayName("첫 페이지가 다 차지 않으면 전체 대화로 캐시를 채우고, 다 차면 채우지 않음")
+    void loadChatHistory_ShouldFillCacheWithShortHistory() {
+        // given
+        when(chatHistoryCache.findPage(anyLong(), anyInt(), anyInt())).thenReturn(null);
+        when(chatRepository.findByUser_UserIdOrderByChatIdDesc(1L, PageRequest.of(0, 20)))
+                .thenReturn(List.of(chat(12L), chat(11L)));
+        when(chatRepository.findByUser_UserIdOrderByChatIdDesc(2L, PageRequest.of(0, 2)))
+                .thenReturn(List.of(chat(22L), chat(21L)));
+
+        // when
+        List<ChatMessageDto> result = chatService.loadChatHistory(1L, 0, 20);
+        chatService.loadChatHistory(2L, 0, 2);
+
+        // then
+        verify(chatHistoryCache).fillComplete(1L, result);
+        verify(chatHistoryCache, never()).fillComplete(eq(2L), anyList());
+    }
+
+    @Test
+    @DisplayName("before 커서는 캐시를 거치지 않고 커서보다 작은 chat_id 만 조회")
+    void loadChatHistoryBefore_ShouldQueryBelowCursor() {
+        // given
+        when(chatRepository.findByUser_UserIdAndChatIdLessThanOrderByChatIdDesc(1L, 11L, PageRequest.of(0, 2)))
+                .thenReturn(List.of(chat(10L), chat(8L)));
+
+        // when
+        List<ChatMessageDto> result = chatService.loadChatHistoryBefore(1L, 11L, 2);
+
+        // then
+        assertThat(result).extracting(ChatMessageDto::getMessageId).containsExactly("8", "10");
+        verifyNoInteractions(chatHistoryCache);
+    }
+
+    private Chat chat(Long chatId) {
+        return Chat.builder()
+                .chatId(chatId)
+                .user(User.builder().userId(1L).build())
+                .message("메시지 " + chatId)
+                .sender(Sender.USER)
+                .messageType(MessageType.USER_MESSAGE)
+                .build();
+    }
+}
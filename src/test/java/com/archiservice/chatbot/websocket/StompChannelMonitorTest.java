@@ -0,0 +1,92 @@
+package com.archiservice.chatbot.websocket;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StompChannelMonitorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private StompChannelMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        monitor = new StompChannelMonitor(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("채널 실행기는 큐 대기 시간과 큐 길이 게이지를 채널별로 기록")
+    void createExecutor_ShouldRecordQueueMetrics() throws Exception {
+        // given
+        ThreadPoolTaskExecutor executor = monitor.createExecutor(StompChannelMonitor.INBOUND);
+        executor.setCorePoolSize(1);
+        executor.initialize();
+        CountDownLatch done = new CountDownLatch(1);
+
+        // when
+        executor.execute(done::countDown);
+        assertThat(done.await(1, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        // then
+        assertThat(meterRegistry.get("websocket.channel.queue.wait").tag("channel", "inbound").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("websocket.channel.queue.size").tag("channel", "inbound").gauge().value())
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("outbound 처리 시간이 기준을 넘으면 느린 소비자로 집계")
+    void latencyInterceptor_ShouldCountSlowSends() {
+        // given
+        ReflectionTestUtils.setField(monitor, "slowSendThresholdMs", 0L);
+        ExecutorChannelInterceptor outbound = monitor.latencyInterceptor(StompChannelMonitor.OUTBOUND);
+        ExecutorChannelInterceptor inbound = monitor.latencyInterceptor(StompChannelMonitor.INBOUND);
+        Message<String> message = MessageBuilder.withPayload("안녕").build();
+
+        // when
+        outbound.beforeHandle(message, null, null);
+        outbound.afterMessageHandled(message, null, null, null);
+        inbound.beforeHandle(message, null, null);
+        inbound.afterMessageHandled(message, null, null, null);
+
+        // then
+        assertThat(meterRegistry.get("websocket.slow.consumer").tag("reason", "slow-send").counter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("websocket.channel.handle").tag("channel", "inbound").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 스레드에서 inbound 처리 중 outbound 처리가 끼어들어도 채널별 처리 시간을 각각 기록")
+    void latencyInterceptor_ShouldKeepStartPerChannelWhenNested() {
+        // given
+        ExecutorChannelInterceptor inbound = monitor.latencyInterceptor(StompChannelMonitor.INBOUND);
+        ExecutorChannelInterceptor outbound = monitor.latencyInterceptor(StompChannelMonitor.OUTBOUND);
+        Message<String> message = MessageBuilder.withPayload("안녕").build();
+
+        // when
+        inbound.beforeHandle(message, null, null);
+        outbound.beforeHandle(message, null, null);
+        outbound.afterMessageHandled(message, null, null, null);
+        inbound.afterMessageHandled(message, null, null, null);
+
+        // then
+        assertThat(meterRegistry.get("websocket.channel.handle").tag("channel", "outbound").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("websocket.channel.handle").tag("channel", "inbound").timer().count())
+                .isEqualTo(1);
+    }
+}
@@ -0,0 +1,79 @@
+package com.archiservice.chatbot.websocket;
+
+import com.archiservice.chatbot.domain.AuthInfo;
+import com.archiservice.common.jwt.JwtUtil;
+import com.archiservice.common.jwt.VerifiedToken;
+import io.jsonwebtoken.MalformedJwtException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class WebSocketAuthResolverTest {
+
+    @Mock private JwtUtil jwtUtil;
+
+    @InjectMocks
+    private WebSocketAuthResolver resolver;
+
+    @Test
+    @DisplayName("같은 토큰은 만료 전까지 한 번만 검증")
+    void resolve_ShouldParseTokenOnce() {
+        // given
+        when(jwtUtil.verify("token")).thenReturn(token(System.currentTimeMillis() + 60000));
+
+        // when
+        AuthInfo first = resolver.resolve("token");
+        AuthInfo second = resolver.resolve("token");
+
+        // then
+        assertThat(first.getUserId()).isEqualTo(7L);
+        assertThat(first.getTagCode()).isEqualTo(3L);
+        assertThat(first.getAgeCode()).isEqualTo("20");
+        assertThat(second).isSameAs(first);
+        verify(jwtUtil, times(1)).verify("token");
+    }
+
+    @Test
+    @DisplayName("만료 시각이 지난 캐시 항목은 다시 검증")
+    void resolve_ShouldReparseAfterExpiration() {
+        // given
+        when(jwtUtil.verify("token")).thenReturn(token(System.currentTimeMillis() - 1));
+
+        // when
+        resolver.resolve("token");
+        resolver.resolve("token");
+
+        // then
+        verify(jwtUtil, times(2)).verify("token");
+    }
+
+    @Test
+    @DisplayName("유효하지 않은 토큰은 null 이며 캐시하지 않음")
+    void resolve_ShouldReturnNullForInvalidToken() {
+        // given
+        when(jwtUtil.verify(anyString())).thenThrow(new MalformedJwtException("malformed"));
+
+        // when & then
+        assertThat(resolver.resolve("broken")).isNull();
+        assertThat(resolver.resolve("broken")).isNull();
+        assertThat(resolver.resolve(null)).isNull();
+        verify(jwtUtil, times(2)).verify("broken");
+    }
+
+    private VerifiedToken token(long expiresAtMillis) {
+        return VerifiedToken.of(7L, 3L, "20", new Date(), new Date(expiresAtMillis));
+    }
+}
@@ -13,7 +13,7 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -63,6 +63,22 @@ class CommonCodeServiceImplTest {
         assertThat(result).isEqualTo("관리자");
     }
 
+    @Test
+    @DisplayName("그룹 단위 코드명 맵 조회")
+    void getCodeNames_ShouldReturnGroupMap() {
+        // given
+        setupCache();
+
+        // when
+        Map<String, String> result = commonCodeService.getCodeNames("USER_TYPE");
+        Map<String, String> missing = commonCodeService.getCodeNames("NONEXISTENT_GROUP");
+
+        // then
+        assertThat(result).containsEntry("ADMIN", "관리자").containsEntry("USER", "일반사용자").hasSize(2);
+        assertThat(missing).isEmpty();
+        assertThat(missing.get(null)).isNull();
+    }
+
     @Test
     @DisplayName("캐시에 없는 그룹코드로 조회 시 원본 코드 반환")
     void getCodeName_ShouldReturnOriginalCodeWhenGroupNotFound() {
@@ -90,28 +106,25 @@ class CommonCodeServiceImplTest {
     }
 
     @Test
-    @DisplayName("캐시에 없으면 DB에서 조회")
-    void getCode_ShouldFallbackToDatabase() {
+    @DisplayName("역방향 사전에서 코드 조회 - DB 조회 없음")
+    void getCode_ShouldResolveFromReverseIndex() {
         // given
-        setupCache();
-        when(commonCodeRepository.findCommonCodeByGroupCodeAndCommonName("STATUS", "비활성"))
-                .thenReturn(Optional.of("INACTIVE"));
+        setupReverseCache();
 
         // when
         String result = commonCodeService.getCode("STATUS", "비활성");
 
         // then
         assertThat(result).isEqualTo("INACTIVE");
-        verify(commonCodeRepository).findCommonCodeByGroupCodeAndCommonName("STATUS", "비활성");
+        verify(commonCodeRepository, times(1)).findAll();
+        verifyNoMoreInteractions(commonCodeRepository);
     }
 
     @Test
-    @DisplayName("캐시와 DB 모두에 없으면 null 반환")
-    void getCode_ShouldReturnNullWhenNotFoundAnywhere() {
+    @DisplayName("사전에 없는 코드명이면 null 반환")
+    void getCode_ShouldReturnNullWhenNotFound() {
         // given
         setupCache();
-        when(commonCodeRepository.findCommonCodeByGroupCodeAndCommonName("STATUS", "존재하지않음"))
-                .thenReturn(Optional.empty());
 
         // when
         String result = commonCodeService.getCode("STATUS", "존재하지않음");
@@ -121,17 +134,54 @@ class CommonCodeServiceImplTest {
     }
 
     @Test
-    @DisplayName("빈 캐시 상태에서 DB 조회")
-    void getCode_ShouldQueryDatabaseWhenCacheEmpty() {
+    @DisplayName("빈 사전 상태에서도 DB를 조회하지 않음")
+    void getCode_ShouldNotQueryDatabaseWhenCacheEmpty() {
+        // when
+        String result = commonCodeService.getCode("GROUP1", "이름1");
+
+        // then
+        assertThat(result).isNull();
+        verifyNoInteractions(commonCodeRepository);
+    }
+
+    @Test
+    @DisplayName("재로딩 시 내용이 바뀌면 사전 교체")
+    void reload_ShouldSwapDictionaryWhenChanged() {
         // given
-        when(commonCodeRepository.findCommonCodeByGroupCodeAndCommonName("GROUP1", "이름1"))
-                .thenReturn(Optional.of("CODE1"));
+        setupReverseCache();
+        long before = commonCodeService.getVersion();
+        when(commonCodeRepository.findAll()).thenReturn(List.of(
+                createCommonCode("STATUS", "ACTIVE", "활성"),
+                createCommonCode("STATUS", "INACTIVE", "휴면")
+        ));
 
         // when
-        String result = commonCodeService.getCode("GROUP1", "이름1");
+        boolean changed = commonCodeService.reload();
+
+        // then
+        assertThat(changed).isTrue();
+        assertThat(commonCodeService.getVersion()).isNotEqualTo(before);
+        assertThat(commonCodeService.getCodeName("STATUS", "INACTIVE")).isEqualTo("휴면");
+        assertThat(commonCodeService.getCode("STATUS", "비활성")).isNull();
+    }
+
+    @Test
+    @DisplayName("재로딩 시 내용이 같으면 사전 유지")
+    void reload_ShouldKeepDictionaryWhenUnchanged() {
+        // given
+        setupReverseCache();
+        long before = commonCodeService.getVersion();
+        when(commonCodeRepository.findAll()).thenReturn(List.of(
+                createCommonCode("STATUS", "INACTIVE", "비활성"),
+                createCommonCode("STATUS", "ACTIVE", "활성")
+        ));
+
+        // when
+        boolean changed = commonCodeService.reload();
 
         // then
-        assertThat(result).isEqualTo("CODE1");
+        assertThat(changed).isFalse();
+        assertThat(commonCodeService.getVersion()).isEqualTo(before);
     }
 
     private void setupCache() {
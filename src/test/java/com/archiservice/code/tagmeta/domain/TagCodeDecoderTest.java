@@ -0,0 +1,83 @@
+package com.archiservice.code.tagmeta.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TagCodeDecoderTest {
+
+    @Test
+    @DisplayName("켜진 비트의 태그 설명을 비트 오름차순으로 반환")
+    void decode_ShouldReturnDescriptionsInBitOrder() {
+        // given
+        TagCodeDecoder decoder = TagCodeDecoder.ofDescriptions(descriptions(0, 7, 8, 40, 63));
+        long tagCode = (1L << 63) | (1L << 40) | (1L << 8) | (1L << 7) | 1L;
+
+        // when
+        List<String> result = decoder.decode(tagCode);
+
+        // then
+        assertThat(result).containsExactly("tag0", "tag7", "tag8", "tag40", "tag63");
+    }
+
+    @Test
+    @DisplayName("설명이 없는 비트는 건너뜀")
+    void decode_ShouldSkipUnknownBits() {
+        // given
+        TagCodeDecoder decoder = TagCodeDecoder.ofDescriptions(descriptions(1));
+
+        // when & then
+        assertThat(decoder.decode(0b111L)).containsExactly("tag1");
+        assertThat(decoder.decode(1L << 30)).isEmpty();
+        assertThat(decoder.decode(0L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 태그 코드는 캐시된 불변 리스트를 공유")
+    void decode_ShouldReturnSharedImmutableList() {
+        // given
+        TagCodeDecoder decoder = TagCodeDecoder.ofDescriptions(descriptions(0, 2));
+
+        // when
+        List<String> first = decoder.decode(5L);
+        List<String> second = decoder.decode(5L);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThatThrownBy(() -> first.add("x")).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("모든 비트 조합에서 단순 반복 방식과 같은 결과")
+    void decodeUncached_ShouldMatchBitLoop() {
+        // given
+        String[] descriptions = descriptions(0, 3, 9, 15, 20, 31, 32, 47, 53, 62);
+        TagCodeDecoder decoder = TagCodeDecoder.ofDescriptions(descriptions);
+        long[] samples = {1L, 0xFFL, 0xFF00FF00FF00FF00L, -1L, 0x8000000000000001L, 0x0020_0001_8000_8208L};
+
+        for (long tagCode : samples) {
+            List<String> expected = new ArrayList<>();
+            for (int position = 0; position < Long.SIZE; position++) {
+                if ((tagCode & (1L << position)) != 0 && descriptions[position] != null) {
+                    expected.add(descriptions[position]);
+                }
+            }
+
+            // when & then
+            assertThat(decoder.decodeUncached(tagCode)).containsExactlyElementsOf(expected);
+        }
+    }
+
+    private String[] descriptions(int... positions) {
+        String[] descriptions = new String[Long.SIZE];
+        for (int position : positions) {
+            descriptions[position] = "tag" + position;
+        }
+        return descriptions;
+    }
+}
@@ -13,7 +13,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -85,6 +87,22 @@ class TagMetaServiceImplTest {
         assertThat(result).isEmpty();
     }
 
+    @Test
+    @DisplayName("여러 태그 코드를 한 번에 해석하고 같은 코드는 같은 리스트 공유")
+    void extractTagsFromCodes_ShouldResolveDistinctCodes() {
+        // given
+        setupCache();
+
+        // when
+        Map<Long, List<String>> result = tagMetaService.extractTagsFromCodes(Arrays.asList(5L, 2L, 5L, null));
+
+        // then
+        assertThat(result).hasSize(2);
+        assertThat(result.get(5L)).containsExactly("음식", "스포츠");
+        assertThat(result.get(2L)).containsExactly("여행");
+        assertThat(tagMetaService.extractTagsFromCode(5L)).isSameAs(result.get(5L));
+    }
+
     @Test
     @DisplayName("캐시에 없는 비트 포지션은 필터링")
     void extractTagsFromCode_ShouldFilterNonExistentBitPositions() {
@@ -0,0 +1,47 @@
+package com.archiservice.common.config;
+
+import com.archiservice.common.jwt.JwtAuthenticationFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Parameter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class SecurityConfigTest {
+
+    @Test
+    @DisplayName("JWT 필터 빈은 서블릿 필터로 따로 등록되지 않고 보안 체인에서만 실행")
+    void jwtAuthenticationFilterRegistration_ShouldBeDisabled() {
+        // given
+        JwtAuthenticationFilter filter = mock(JwtAuthenticationFilter.class);
+        SecurityConfig securityConfig = new SecurityConfig(filter);
+
+        // when
+        FilterRegistrationBean<JwtAuthenticationFilter> registration = securityConfig.jwtAuthenticationFilterRegistration();
+
+        // then
+        assertThat(registration.isEnabled()).isFalse();
+        assertThat(registration.getFilter()).isSameAs(filter);
+    }
+
+    @Test
+    @DisplayName("캐시 인증 주체 설정은 생성자로 주입되고 기본값은 true")
+    void jwtAuthenticationFilter_ShouldReceiveCacheFlagThroughConstructor() {
+        // given
+        Constructor<?>[] constructors = JwtAuthenticationFilter.class.getConstructors();
+
+        // when
+        Parameter flag = constructors[0].getParameters()[3];
+
+        // then
+        assertThat(constructors).hasSize(1);
+        assertThat(constructors[0].getParameterCount()).isEqualTo(5);
+        assertThat(flag.getType()).isEqualTo(boolean.class);
+        assertThat(flag.getAnnotation(Value.class).value()).isEqualTo("${security.principal.cache-enabled:true}");
+    }
+}
@@ -0,0 +1,126 @@
+package com.archiservice.common.jwt;
+
+import com.archiservice.common.security.CustomUser;
+import com.archiservice.common.security.CustomUserDetailsService;
+import com.archiservice.common.security.UserCache;
+import com.archiservice.user.domain.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Date;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class JwtAuthenticationFilterTest {
+
+    @Mock private JwtUtil jwtUtil;
+    @Mock private CustomUserDetailsService userDetailsService;
+    @Mock private UserCache userCache;
+
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new JwtAuthenticationFilter(jwtUtil, userDetailsService, userCache, true, Set.of(1L));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("성향은 토큰 클레임이 아닌 사용자 캐시 값으로 채우고 DB 사용자 조회를 하지 않음")
+    void doFilter_ShouldBuildPrincipalFromUserCache() throws Exception {
+        // given
+        when(jwtUtil.verify("token")).thenReturn(verifiedToken(7L, 3L, "20"));
+        when(userCache.findById(7L)).thenReturn(Optional.of(User.builder().userId(7L).tagCode(5L).ageCode("20").build()));
+
+        // when
+        filter.doFilter(bearerRequest("/api/recommend"), new MockHttpServletResponse(), new MockFilterChain());
+
+        // then
+        CustomUser principal = (CustomUser) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        assertThat(principal.getId()).isEqualTo(7L);
+        assertThat(principal.getTagCode()).isEqualTo(5L);
+        assertThat(principal.getAgeCode()).isEqualTo("20");
+        verify(userDetailsService, never()).loadUserByUserId(any());
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getAuthorities()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("관리자로 지정된 사용자에게만 ROLE_ADMIN 부여")
+    void doFilter_ShouldGrantAdminRoleToConfiguredUsers() throws Exception {
+        // given
+        when(jwtUtil.verify("token")).thenReturn(verifiedToken(1L, 3L, "20"));
+        when(userCache.findById(1L)).thenReturn(Optional.of(User.builder().userId(1L).tagCode(3L).ageCode("20").build()));
+
+        // when
+        filter.doFilter(bearerRequest("/admin/bad-words"), new MockHttpServletResponse(), new MockFilterChain());
+
+        // then
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getAuthorities())
+                .extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_ADMIN");
+    }
+
+    @Test
+    @DisplayName("사용자 캐시에 없는(삭제된) 사용자는 인증하지 않음")
+    void doFilter_ShouldNotAuthenticateUnknownUser() throws Exception {
+        // given
+        when(jwtUtil.verify("token")).thenReturn(verifiedToken(7L, 3L, "20"));
+        when(userCache.findById(7L)).thenReturn(Optional.empty());
+
+        // when
+        filter.doFilter(bearerRequest("/api/recommend"), new MockHttpServletResponse(), new MockFilterChain());
+
+        // then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    @DisplayName("캐시 인증 주체를 끄면 매 요청 사용자 조회로 인증")
+    void doFilter_ShouldLoadUserWhenCachedPrincipalDisabled() throws Exception {
+        // given
+        filter = new JwtAuthenticationFilter(jwtUtil, userDetailsService, userCache, false, Set.of());
+        CustomUser loaded = new CustomUser(User.builder().userId(7L).tagCode(3L).ageCode("20").build());
+        when(jwtUtil.verify("token")).thenReturn(verifiedToken(7L, 3L, "20"));
+        when(userDetailsService.loadUserByUserId(7L)).thenReturn(loaded);
+
+        // when
+        filter.doFilter(bearerRequest("/api/recommend"), new MockHttpServletResponse(), new MockFilterChain());
+
+        // then
+        verify(userDetailsService).loadUserByUserId(7L);
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getPrincipal()).isSameAs(loaded);
+    }
+
+    private MockHttpServletRequest bearerRequest(String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.addHeader("Authorization", "Bearer token");
+        return request;
+    }
+
+    private VerifiedToken verifiedToken(Long userId, Long tagCode, String ageCode) {
+        return VerifiedToken.of(userId, tagCode, ageCode, new Date(),
+                new Date(System.currentTimeMillis() + 60000));
+    }
+}
@@ -0,0 +1,63 @@
+package com.archiservice.common.jwt;
+
+import com.archiservice.common.security.CustomUser;
+import com.archiservice.user.domain.User;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtUtilTest {
+
+    private static final String SECRET = "test-secret-key-test-secret-key-test-secret-key";
+
+    private JwtUtil jwtUtil;
+    private CustomUser customUser;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "accessTokenExpiration", 60000L);
+        ReflectionTestUtils.setField(jwtUtil, "refreshTokenExpiration", 120000L);
+        jwtUtil.init();
+
+        customUser = new CustomUser(User.builder().userId(7L).tagCode(3L).ageCode("20").build());
+    }
+
+    @Test
+    @DisplayName("한 번의 검증으로 사용자 id, 태그 코드, 연령 코드, 만료 시각을 모두 꺼냄")
+    void verify_ShouldExtractAllClaims() {
+        // given
+        String token = jwtUtil.generateAccessToken(customUser);
+
+        // when
+        VerifiedToken verified = jwtUtil.verify(token);
+
+        // then
+        assertThat(verified.getUserId()).isEqualTo(7L);
+        assertThat(verified.getTagCode()).isEqualTo(3L);
+        assertThat(verified.getAgeCode()).isEqualTo("20");
+        assertThat(verified.isExpired(System.currentTimeMillis())).isFalse();
+        assertThat(jwtUtil.validateToken(token, customUser)).isTrue();
+    }
+
+    @Test
+    @DisplayName("서명이 변조되거나 만료된 토큰은 거부")
+    void verify_ShouldRejectTamperedOrExpiredToken() {
+        // given
+        String token = jwtUtil.generateAccessToken(customUser);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+        ReflectionTestUtils.setField(jwtUtil, "accessTokenExpiration", -1000L);
+        String expired = jwtUtil.generateAccessToken(customUser);
+
+        // when & then
+        assertThatThrownBy(() -> jwtUtil.verify(tampered)).isInstanceOf(JwtException.class);
+        assertThat(jwtUtil.validateToken(tampered)).isFalse();
+        assertThat(jwtUtil.validateToken(expired)).isFalse();
+    }
+}
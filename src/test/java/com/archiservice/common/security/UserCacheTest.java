@@ -0,0 +1,68 @@
+package com.archiservice.common.security;
+
+import com.archiservice.user.domain.User;
+import com.archiservice.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class UserCacheTest {
+
+    @Mock private UserRepository userRepository;
+    @Mock private StringRedisTemplate stringRedisTemplate;
+
+    private UserCache userCache;
+
+    @BeforeEach
+    void setUp() {
+        userCache = new UserCache(userRepository, stringRedisTemplate);
+        ReflectionTestUtils.setField(userCache, "ttlSeconds", 30L);
+        ReflectionTestUtils.setField(userCache, "maxSize", 100);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(
+                User.builder().userId(1L).email("a@b.c").password("secret").tagCode(3L).ageCode("20").build()));
+    }
+
+    @Test
+    @DisplayName("조회마다 비밀번호 없는 새 사본을 반환하고 DB 는 한 번만 조회")
+    void findById_ShouldReturnDetachedCopies() {
+        // when
+        User first = userCache.findById(1L).orElseThrow();
+        first.setTagCode(99L);
+        User second = userCache.findById(1L).orElseThrow();
+
+        // then
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getTagCode()).isEqualTo(3L);
+        assertThat(second.getPassword()).isNull();
+        verify(userRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("evict 는 로컬 항목을 지우고 다른 노드에 무효화 알림 전송")
+    void evict_ShouldClearLocalAndPublish() {
+        // given
+        userCache.findById(1L);
+
+        // when
+        userCache.evict(1L);
+        userCache.findById(1L);
+
+        // then
+        verify(stringRedisTemplate).convertAndSend(UserCache.EVICT_CHANNEL, "1");
+        verify(userRepository, times(2)).findById(1L);
+    }
+}
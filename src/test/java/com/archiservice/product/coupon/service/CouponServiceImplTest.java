@@ -25,6 +25,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -57,10 +58,9 @@ class CouponServiceImplTest {
         Page<Coupon> mockPage = new PageImpl<>(couponList, pageable, 2);
         
         when(couponRepository.findAll(pageable)).thenReturn(mockPage);
-        when(tagMetaService.extractTagsFromCode(5L)).thenReturn(List.of("음식", "여행"));
-        when(tagMetaService.extractTagsFromCode(3L)).thenReturn(List.of("스포츠"));
-        when(commonCodeService.getCodeName("G04", "CAT001")).thenReturn("기본카테고리");
-        when(commonCodeService.getCodeName("G04", "CAT002")).thenReturn("프리미엄카테고리");
+        when(tagMetaService.extractTagsFromCodes(List.of(5L, 3L)))
+                .thenReturn(Map.of(5L, List.of("음식", "여행"), 3L, List.of("스포츠")));
+        when(commonCodeService.getCodeNames("G04")).thenReturn(Map.of("CAT001", "기본카테고리", "CAT002", "프리미엄카테고리"));
         
         // when
         Page<CouponResponseDto> result = couponService.getAllCoupons(pageable);
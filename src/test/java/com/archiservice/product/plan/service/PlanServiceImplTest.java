@@ -25,6 +25,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -55,12 +56,10 @@ class PlanServiceImplTest {
         Page<Plan> mockPage = new PageImpl<>(planList, pageable, 2);
 
         when(planRepository.findAll(pageable)).thenReturn(mockPage);
-        when(tagMetaService.extractTagsFromCode(5L)).thenReturn(List.of("음식", "여행"));
-        when(tagMetaService.extractTagsFromCode(3L)).thenReturn(List.of("스포츠"));
-        when(commonCodeService.getCodeName("G02", "PLAN001")).thenReturn("기본플랜");
-        when(commonCodeService.getCodeName("G02", "PLAN002")).thenReturn("프리미엄플랜");
-        when(commonCodeService.getCodeName("G01", "AGE20")).thenReturn("20대");
-        when(commonCodeService.getCodeName("G01", "AGE30")).thenReturn("30대");
+        when(tagMetaService.extractTagsFromCodes(List.of(5L, 3L)))
+                .thenReturn(Map.of(5L, List.of("음식", "여행"), 3L, List.of("스포츠")));
+        when(commonCodeService.getCodeNames("G02")).thenReturn(Map.of("PLAN001", "기본플랜", "PLAN002", "프리미엄플랜"));
+        when(commonCodeService.getCodeNames("G01")).thenReturn(Map.of("AGE20", "20대", "AGE30", "30대"));
 
         // when
         Page<PlanResponseDto> result = planService.getAllPlans(pageable);
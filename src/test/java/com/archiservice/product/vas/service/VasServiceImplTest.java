@@ -25,6 +25,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -57,10 +58,9 @@ class VasServiceImplTest {
         Page<Vas> mockPage = new PageImpl<>(vasList, pageable, 2);
         
         when(vasRepository.findAll(pageable)).thenReturn(mockPage);
-        when(tagMetaService.extractTagsFromCode(5L)).thenReturn(List.of("음식", "여행"));
-        when(tagMetaService.extractTagsFromCode(3L)).thenReturn(List.of("스포츠"));
-        when(commonCodeService.getCodeName("G03", "VAS001")).thenReturn("기본부가서비스");
-        when(commonCodeService.getCodeName("G03", "VAS002")).thenReturn("프리미엄부가서비스");
+        when(tagMetaService.extractTagsFromCodes(List.of(5L, 3L)))
+                .thenReturn(Map.of(5L, List.of("음식", "여행"), 3L, List.of("스포츠")));
+        when(commonCodeService.getCodeNames("G03")).thenReturn(Map.of("VAS001", "기본부가서비스", "VAS002", "프리미엄부가서비스"));
         
         // when
         Page<VasResponseDto> result = vasService.getAllVas(pageable);
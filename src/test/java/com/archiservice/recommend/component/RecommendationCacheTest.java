@@ -0,0 +1,116 @@
+package com.archiservice.recommend.component;
+
+import com.archiservice.recommend.domain.CatalogSnapshot;
+import com.archiservice.recommend.dto.response.RecommendResponseDto;
+import com.archiservice.review.stats.service.ReviewStatsService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class RecommendationCacheTest {
+
+    @Mock private ProductCatalog productCatalog;
+    @Mock private ReviewStatsService reviewStatsService;
+    @Mock private StringRedisTemplate stringRedisTemplate;
+
+    private RecommendationCache recommendationCache;
+    private AtomicInteger loadCount;
+
+    @BeforeEach
+    void setUp() {
+        recommendationCache = new RecommendationCache(productCatalog, reviewStatsService, stringRedisTemplate, new ObjectMapper());
+        ReflectionTestUtils.setField(recommendationCache, "ttlSeconds", 600L);
+        ReflectionTestUtils.setField(recommendationCache, "maxSize", 100);
+        ReflectionTestUtils.setField(recommendationCache, "redisEnabled", false);
+        when(productCatalog.getSnapshot()).thenReturn(CatalogSnapshot.EMPTY);
+        when(reviewStatsService.getVersion()).thenReturn(1L);
+        loadCount = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("같은 사용자, 같은 태그 코드 재요청 시 캐시된 결과 반환")
+    void getOrCompute_ShouldReturnCachedResult() {
+        // when
+        RecommendResponseDto first = recommendationCache.getOrCompute(1L, 7L, loader());
+        RecommendResponseDto second = recommendationCache.getOrCompute(1L, 7L, loader());
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(loadCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("태그 코드가 바뀌면 다시 계산")
+    void getOrCompute_ShouldRecomputeWhenTagCodeChanged() {
+        // when
+        recommendationCache.getOrCompute(1L, 7L, loader());
+        recommendationCache.getOrCompute(1L, 8L, loader());
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("리뷰 통계 변경 후에는 다시 계산")
+    void getOrCompute_ShouldRecomputeWhenReviewStatsChanged() {
+        // given
+        recommendationCache.getOrCompute(1L, 7L, loader());
+
+        // when
+        when(reviewStatsService.getVersion()).thenReturn(2L);
+        recommendationCache.getOrCompute(1L, 7L, loader());
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("캐시 불가로 표시된 결과는 저장하지 않음")
+    void getOrCompute_ShouldNotStoreUncacheableResult() {
+        // when
+        recommendationCache.getOrCompute(1L, 7L, loader(), response -> false);
+        recommendationCache.getOrCompute(1L, 7L, loader());
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("evict 후에는 다시 계산")
+    void evict_ShouldRemoveCachedResult() {
+        // given
+        recommendationCache.getOrCompute(1L, 7L, loader());
+
+        // when
+        recommendationCache.evict(1L);
+        recommendationCache.getOrCompute(1L, 7L, loader());
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+        verifyNoInteractions(stringRedisTemplate);
+    }
+
+    private Supplier<RecommendResponseDto> loader() {
+        return () -> {
+            loadCount.incrementAndGet();
+            return new RecommendResponseDto(List.of(), List.of(), List.of());
+        };
+    }
+}
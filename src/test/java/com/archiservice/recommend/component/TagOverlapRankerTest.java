@@ -0,0 +1,117 @@
+package com.archiservice.recommend.component;
+
+import com.archiservice.product.plan.domain.Plan;
+import com.archiservice.recommend.domain.ProductIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TagOverlapRankerTest {
+
+    private final TagOverlapRanker ranker = new TagOverlapRanker();
+
+    @Test
+    @DisplayName("태그 일치 개수 내림차순으로 상위 K 개 선택")
+    void rank_ShouldOrderByBitCountDescending() {
+        // given
+        ProductIndex<Plan> index = createIndex(
+                createPlan(1L, 0b0001L),
+                createPlan(2L, 0b0111L),
+                createPlan(3L, 0b0011L),
+                createPlan(4L, 0b1111L)
+        );
+
+        // when
+        int[] result = ranker.rank(0b1111L, index, 3, id -> 0.0);
+
+        // then
+        assertThat(idsOf(index, result)).containsExactly(4L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("태그 일치 개수가 같으면 베이지안 평점이 높은 상품 우선")
+    void rank_ShouldBreakTiesByScore() {
+        // given
+        ProductIndex<Plan> index = createIndex(
+                createPlan(1L, 0b0011L),
+                createPlan(2L, 0b0110L),
+                createPlan(3L, 0b1100L)
+        );
+        Map<Long, Double> scores = Map.of(1L, 3.0, 2L, 4.5, 3L, 4.0);
+
+        // when
+        int[] result = ranker.rank(0b1111L, index, 2, scores::get);
+
+        // then
+        assertThat(idsOf(index, result)).containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("태그 일치 개수와 평점이 같으면 카탈로그 순서 유지")
+    void rank_ShouldKeepCatalogOrderOnFullTie() {
+        // given
+        ProductIndex<Plan> index = createIndex(
+                createPlan(10L, 0b01L),
+                createPlan(20L, 0b01L),
+                createPlan(30L, 0b01L)
+        );
+
+        // when
+        int[] result = ranker.rank(0b01L, index, 2, id -> 1.0);
+
+        // then
+        assertThat(idsOf(index, result)).containsExactly(10L, 20L);
+    }
+
+    @Test
+    @DisplayName("일치하는 태그가 없는 상품은 제외")
+    void rank_ShouldExcludeProductsWithoutOverlap() {
+        // given
+        ProductIndex<Plan> index = createIndex(
+                createPlan(1L, 0b1000L),
+                createPlan(2L, 0b0001L),
+                createPlan(3L, null)
+        );
+
+        // when
+        int[] result = ranker.rank(0b0001L, index, 5, id -> 0.0);
+
+        // then
+        assertThat(idsOf(index, result)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("사용자 태그 코드가 0이면 빈 결과 반환")
+    void rank_ShouldReturnEmptyWhenUserTagCodeIsZero() {
+        // given
+        ProductIndex<Plan> index = createIndex(createPlan(1L, 0b1L));
+
+        // when
+        int[] result = ranker.rank(0L, index, 5, id -> 0.0);
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    private ProductIndex<Plan> createIndex(Plan... plans) {
+        return ProductIndex.of(List.of(plans), Plan::getPlanId, Plan::getTagCode);
+    }
+
+    private Plan createPlan(Long planId, Long tagCode) {
+        return Plan.builder()
+                .planId(planId)
+                .tagCode(tagCode)
+                .build();
+    }
+
+    private List<Long> idsOf(ProductIndex<Plan> index, int[] positions) {
+        return Arrays.stream(positions)
+                .mapToObj(index::idAt)
+                .toList();
+    }
+}
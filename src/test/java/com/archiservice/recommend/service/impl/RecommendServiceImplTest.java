@@ -0,0 +1,167 @@
+package com.archiservice.recommend.service.impl;
+
+import com.archiservice.code.commoncode.service.CommonCodeService;
+import com.archiservice.code.tagmeta.service.TagMetaService;
+import com.archiservice.common.security.CustomUser;
+import com.archiservice.product.coupon.dto.response.CouponDetailResponseDto;
+import com.archiservice.product.plan.dto.response.PlanDetailResponseDto;
+import com.archiservice.product.vas.dto.response.VasDetailResponseDto;
+import com.archiservice.recommend.component.ProductCatalog;
+import com.archiservice.recommend.component.RecommendationCache;
+import com.archiservice.recommend.component.TagOverlapRanker;
+import com.archiservice.recommend.domain.CatalogSnapshot;
+import com.archiservice.recommend.dto.response.RecommendCouponResponseDto;
+import com.archiservice.recommend.dto.response.RecommendPlanResponseDto;
+import com.archiservice.recommend.dto.response.RecommendResponseDto;
+import com.archiservice.recommend.dto.response.RecommendVasResponseDto;
+import com.archiservice.review.stats.service.ReviewStatsService;
+import com.archiservice.user.domain.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class RecommendServiceImplTest {
+
+    @Mock private ChatClient recommendChatClient;
+    @Mock private TagMetaService tagMetaService;
+    @Mock private ProductCatalog productCatalog;
+    @Mock private TagOverlapRanker tagOverlapRanker;
+    @Mock private CommonCodeService commonCodeService;
+    @Mock private ReviewStatsService reviewStatsService;
+    @Mock private StringRedisTemplate stringRedisTemplate;
+
+    private ExecutorService executor;
+    private RecommendationCache recommendationCache;
+    private CustomUser user;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(3);
+        when(productCatalog.getSnapshot()).thenReturn(CatalogSnapshot.EMPTY);
+        when(reviewStatsService.getVersion()).thenReturn(1L);
+
+        recommendationCache = new RecommendationCache(productCatalog, reviewStatsService, stringRedisTemplate, new ObjectMapper());
+        ReflectionTestUtils.setField(recommendationCache, "ttlSeconds", 600L);
+        ReflectionTestUtils.setField(recommendationCache, "maxSize", 100);
+        ReflectionTestUtils.setField(recommendationCache, "redisEnabled", false);
+
+        user = new CustomUser(User.builder().userId(1L).tagCode(7L).ageCode("20").build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("세 분기를 추천 스레드 풀에서 동시에 실행하고 결과를 캐시")
+    void recommend_ShouldRunBranchesInParallelAndCache() {
+        // given
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        RecommendServiceImpl service = serviceWith(executor);
+        doAnswer(invocation -> {
+            threads.add(Thread.currentThread().getName());
+            return new RecommendPlanResponseDto(List.of(PlanDetailResponseDto.builder().build()));
+        }).when(service).recommendPlan(any());
+        doAnswer(invocation -> {
+            threads.add(Thread.currentThread().getName());
+            return new RecommendVasResponseDto(List.of(VasDetailResponseDto.builder().build()));
+        }).when(service).recommendVas(any());
+        doAnswer(invocation -> {
+            threads.add(Thread.currentThread().getName());
+            return new RecommendCouponResponseDto(List.of(CouponDetailResponseDto.builder().build()));
+        }).when(service).recommendCoupon(any());
+
+        // when
+        RecommendResponseDto first = service.recommend(user);
+        RecommendResponseDto second = service.recommend(user);
+
+        // then
+        assertThat(first.getPlans()).hasSize(1);
+        assertThat(first.getVass()).hasSize(1);
+        assertThat(first.getCoupons()).hasSize(1);
+        assertThat(threads).doesNotContain(Thread.currentThread().getName());
+        assertThat(second).isSameAs(first);
+        verify(service, times(1)).recommendPlan(any());
+    }
+
+    @Test
+    @DisplayName("제한 시간을 넘긴 분기는 빈 결과로 대체하고 작업을 인터럽트하며 캐시하지 않음")
+    void recommend_ShouldCancelTimedOutBranchAndSkipCache() throws Exception {
+        // given
+        CountDownLatch interrupted = new CountDownLatch(1);
+        RecommendServiceImpl service = serviceWith(executor);
+        ReflectionTestUtils.setField(service, "branchTimeoutMs", 100L);
+        doReturn(new RecommendPlanResponseDto(List.of(PlanDetailResponseDto.builder().build())))
+                .when(service).recommendPlan(any());
+        doAnswer(invocation -> {
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+            return new RecommendVasResponseDto(List.of(VasDetailResponseDto.builder().build()));
+        }).when(service).recommendVas(any());
+        doReturn(new RecommendCouponResponseDto(List.of())).when(service).recommendCoupon(any());
+
+        // when
+        RecommendResponseDto response = service.recommend(user);
+
+        // then
+        assertThat(response.getPlans()).hasSize(1);
+        assertThat(response.getVass()).isEmpty();
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+
+        service.recommend(user);
+        verify(service, times(2)).recommendPlan(any());
+    }
+
+    @Test
+    @DisplayName("스레드 풀이 작업을 거절하면 요청 스레드에서 실행하지 않고 빈 결과로 대체")
+    void recommend_ShouldFallBackWhenExecutorRejects() {
+        // given
+        RecommendServiceImpl service = serviceWith(task -> {
+            throw new RejectedExecutionException("full");
+        });
+
+        // when
+        RecommendResponseDto response = service.recommend(user);
+
+        // then
+        assertThat(response.getPlans()).isEmpty();
+        assertThat(response.getVass()).isEmpty();
+        assertThat(response.getCoupons()).isEmpty();
+        verify(service, never()).recommendPlan(any());
+        verify(service, never()).recommendVas(any());
+        verify(service, never()).recommendCoupon(any());
+    }
+
+    private RecommendServiceImpl serviceWith(Executor recommendExecutor) {
+        RecommendServiceImpl service = spy(new RecommendServiceImpl(recommendChatClient, tagMetaService, productCatalog,
+                tagOverlapRanker, recommendationCache, commonCodeService, reviewStatsService, recommendExecutor));
+        ReflectionTestUtils.setField(service, "parallelEnabled", true);
+        ReflectionTestUtils.setField(service, "branchTimeoutMs", 1000L);
+        return service;
+    }
+}
@@ -0,0 +1,134 @@
+package com.archiservice.review.moderation.service;
+
+import com.archiservice.badword.domain.BadWordScanResult;
+import com.archiservice.badword.service.BadWordFilterService;
+import com.archiservice.review.coupon.repository.CouponReviewRepository;
+import com.archiservice.review.moderation.domain.ReviewContentView;
+import com.archiservice.review.moderation.dto.response.ModerationReportDto;
+import com.archiservice.review.moderation.repository.ReviewModerationJdbcRepository;
+import com.archiservice.review.moderation.service.impl.ReviewModerationServiceImpl;
+import com.archiservice.review.plan.repository.PlanReviewRepository;
+import com.archiservice.review.stats.domain.ReviewType;
+import com.archiservice.review.vas.repository.VasReviewRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ReviewModerationServiceImplTest {
+
+    @Mock private PlanReviewRepository planReviewRepository;
+    @Mock private VasReviewRepository vasReviewRepository;
+    @Mock private CouponReviewRepository couponReviewRepository;
+    @Mock private ReviewModerationJdbcRepository moderationJdbcRepository;
+    @Mock private BadWordFilterService badWordFilterService;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    private ReviewModerationServiceImpl reviewModerationService;
+
+    @BeforeEach
+    void setUp() {
+        reviewModerationService = new ReviewModerationServiceImpl(planReviewRepository, vasReviewRepository,
+                couponReviewRepository, moderationJdbcRepository, badWordFilterService,
+                new TransactionTemplate(transactionManager), Runnable::run, Runnable::run, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(reviewModerationService, "chunkSize", 2);
+        ReflectionTestUtils.setField(reviewModerationService, "maxInFlight", 2);
+
+        when(badWordFilterService.getRevision()).thenReturn(7L);
+        when(badWordFilterService.inspect(anyString())).thenReturn(BadWordScanResult.CLEAN);
+        when(vasReviewRepository.findContentsAfter(anyLong(), anyBoolean(), any(Pageable.class))).thenReturn(List.of());
+        when(couponReviewRepository.findContentsAfter(anyLong(), anyBoolean(), any(Pageable.class))).thenReturn(List.of());
+    }
+
+    @Test
+    @DisplayName("키셋 청크 단위로 읽어 위반 기록과 검열 완료를 배치 반영")
+    void moderate_ShouldScanChunksAndWriteBack() {
+        // given
+        when(planReviewRepository.findContentsAfter(eq(0L), eq(false), any(Pageable.class)))
+                .thenReturn(List.of(view(1L, "좋아요"), view(2L, "바보")));
+        when(planReviewRepository.findContentsAfter(eq(2L), eq(false), any(Pageable.class)))
+                .thenReturn(List.of(view(5L, "만족")));
+        when(badWordFilterService.inspect("바보")).thenReturn(new BadWordScanResult(true, List.of("바보")));
+
+        // when
+        ModerationReportDto report = reviewModerationService.moderate(false);
+
+        // then
+        assertThat(report.isRunning()).isFalse();
+        assertThat(report.getScannedCount()).isEqualTo(3);
+        assertThat(report.getViolationCount()).isEqualTo(1);
+        assertThat(report.getDictionaryRevision()).isEqualTo(7L);
+        verify(moderationJdbcRepository).saveViolations(eq(ReviewType.PLAN), eq(Map.of(2L, "바보")), eq(7L), any());
+        verify(moderationJdbcRepository).markModerated(eq(ReviewType.PLAN), argThat(rows -> idsOf(rows).equals(List.of(1L, 2L))));
+        verify(moderationJdbcRepository).markModerated(eq(ReviewType.PLAN), argThat(rows -> idsOf(rows).equals(List.of(5L))));
+        verify(moderationJdbcRepository).deleteViolations(ReviewType.PLAN, List.of(1L));
+        verify(planReviewRepository, never()).findContentsAfter(eq(5L), anyBoolean(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("청크 처리 실패는 집계 후 다음 청크 계속 진행")
+    void moderate_ShouldCountFailedChunks() {
+        // given
+        when(planReviewRepository.findContentsAfter(eq(0L), eq(true), any(Pageable.class)))
+                .thenReturn(List.of(view(1L, "좋아요")));
+        when(vasReviewRepository.findContentsAfter(eq(0L), eq(true), any(Pageable.class)))
+                .thenReturn(List.of(view(3L, "괜찮아요")));
+        doThrow(new RuntimeException("db down")).when(moderationJdbcRepository).markModerated(eq(ReviewType.PLAN), anyList());
+
+        // when
+        ModerationReportDto report = reviewModerationService.moderate(true);
+
+        // then
+        assertThat(report.getFailedChunkCount()).isEqualTo(1);
+        assertThat(report.getScannedCount()).isEqualTo(1);
+        assertThat(report.isRescreenAll()).isTrue();
+        verify(moderationJdbcRepository).markModerated(eq(ReviewType.VAS), argThat(rows -> idsOf(rows).equals(List.of(3L))));
+    }
+
+    @Test
+    @DisplayName("조정 스레드가 거부하면 시작 실패로 반환하고 다음 실행은 가능")
+    void startModeration_ShouldRunOnCoordinatorExecutor() {
+        // given
+        ReviewModerationServiceImpl rejecting = new ReviewModerationServiceImpl(planReviewRepository, vasReviewRepository,
+                couponReviewRepository, moderationJdbcRepository, badWordFilterService,
+                new TransactionTemplate(transactionManager), Runnable::run,
+                task -> { throw new RejectedExecutionException("busy"); }, new SimpleMeterRegistry());
+        when(planReviewRepository.findContentsAfter(anyLong(), anyBoolean(), any(Pageable.class))).thenReturn(List.of());
+
+        // when & then
+        assertThat(rejecting.startModeration(false)).isFalse();
+        assertThat(rejecting.moderate(false).getScannedCount()).isZero();
+        assertThat(reviewModerationService.startModeration(true)).isTrue();
+        assertThat(reviewModerationService.getReport().isRescreenAll()).isTrue();
+    }
+
+    private List<Long> idsOf(List<ReviewContentView> rows) {
+        return rows.stream().map(ReviewContentView::getId).toList();
+    }
+
+    private ReviewContentView view(Long id, String content) {
+        ReviewContentView view = mock(ReviewContentView.class);
+        when(view.getId()).thenReturn(id);
+        when(view.getContent()).thenReturn(content);
+        return view;
+    }
+}
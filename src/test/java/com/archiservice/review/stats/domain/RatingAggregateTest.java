@@ -0,0 +1,74 @@
+package com.archiservice.review.stats.domain;
+
+import com.archiservice.recommend.dto.response.ScoreResponseDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RatingAggregateTest {
+
+    @Test
+    @DisplayName("리뷰 추가 시 상품별 평균과 전체 평균 갱신")
+    void apply_ShouldUpdateAverages() {
+        // given
+        RatingAggregate aggregate = new RatingAggregate();
+
+        // when
+        aggregate.apply(1L, 5, 1);
+        aggregate.apply(1L, 3, 1);
+        aggregate.apply(2L, 4, 1);
+
+        // then
+        ScoreResponseDto score = aggregate.getScore(1L);
+        assertThat(score.getAverageScore()).isEqualTo(4.0);
+        assertThat(score.getReviewCount()).isEqualTo(2);
+        assertThat(aggregate.getGlobalAverage()).isEqualTo(4.0);
+        assertThat(aggregate.getAverageReviewCount()).isEqualTo(2); // 3 / 2 = 1.5 -> 반올림
+    }
+
+    @Test
+    @DisplayName("마지막 리뷰 삭제 시 상품 통계 제거")
+    void apply_ShouldRemoveProductWhenNoReviewsLeft() {
+        // given
+        RatingAggregate aggregate = new RatingAggregate();
+        aggregate.apply(1L, 5, 1);
+        aggregate.apply(2L, 3, 1);
+
+        // when
+        aggregate.apply(1L, -5, -1);
+
+        // then
+        assertThat(aggregate.getScore(1L)).isNull();
+        assertThat(aggregate.getGlobalAverage()).isEqualTo(3.0);
+        assertThat(aggregate.getAverageReviewCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("적용 순서가 달라도 같은 통계면 fingerprint 동일")
+    void getFingerprint_ShouldDependOnlyOnContent() {
+        // given
+        RatingAggregate first = new RatingAggregate();
+        first.apply(1L, 5, 1);
+        first.apply(2L, 4, 1);
+        first.apply(1L, -1, 0);
+
+        RatingAggregate second = new RatingAggregate();
+        second.apply(2L, 4, 1);
+        second.apply(1L, 4, 1);
+
+        // when & then
+        assertThat(first.getFingerprint()).isEqualTo(second.getFingerprint());
+        assertThat(first.hasSameCounts(second)).isTrue();
+    }
+
+    @Test
+    @DisplayName("리뷰가 없으면 평균 0")
+    void emptyAggregate_ShouldReturnZero() {
+        RatingAggregate aggregate = new RatingAggregate();
+
+        assertThat(aggregate.getGlobalAverage()).isEqualTo(0.0);
+        assertThat(aggregate.getAverageReviewCount()).isZero();
+        assertThat(aggregate.getFingerprint()).isZero();
+    }
+}
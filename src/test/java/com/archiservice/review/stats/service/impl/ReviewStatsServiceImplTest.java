@@ -0,0 +1,92 @@
+package com.archiservice.review.stats.service.impl;
+
+import com.archiservice.review.stats.repository.ProductRatingStatRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ReviewStatsServiceImplTest {
+
+    @Mock private ProductRatingStatRepository productRatingStatRepository;
+    @Mock private StringRedisTemplate stringRedisTemplate;
+    @Mock private ValueOperations<String, String> valueOperations;
+    @Mock private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private ReviewStatsServiceImpl reviewStatsService;
+
+    @BeforeEach
+    void setUp() {
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(productRatingStatRepository.findAll()).thenReturn(List.of());
+    }
+
+    @Test
+    @DisplayName("락을 잡으면 삭제와 재적재를 한 트랜잭션에서 실행하고 락 해제")
+    void rebuild_ShouldRunInSingleTransactionUnderLock() {
+        // given
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+
+        // when
+        reviewStatsService.rebuild();
+
+        // then
+        verify(transactionTemplate, times(1)).execute(any());
+        verify(productRatingStatRepository).deleteAllInBatch();
+        verify(productRatingStatRepository).rebuildPlanStats();
+        verify(productRatingStatRepository).rebuildVasStats();
+        verify(productRatingStatRepository).rebuildCouponStats();
+        verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of("review:stats:rebuild-lock")), anyString());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 재구성 중이면 재구성하지 않고 통계만 다시 읽음")
+    void rebuild_ShouldSkipWhenLockHeldElsewhere() {
+        // given
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+
+        // when
+        reviewStatsService.rebuild();
+
+        // then
+        verify(transactionTemplate, never()).execute(any());
+        verify(productRatingStatRepository, never()).deleteAllInBatch();
+        verify(productRatingStatRepository).findAll();
+    }
+
+    @Test
+    @DisplayName("재적재 도중 실패해도 락을 해제")
+    void rebuild_ShouldReleaseLockOnFailure() {
+        // given
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        when(productRatingStatRepository.rebuildVasStats()).thenThrow(new IllegalStateException("boom"));
+
+        // when
+        reviewStatsService.rebuild();
+
+        // then
+        verify(productRatingStatRepository, never()).rebuildCouponStats();
+        verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of("review:stats:rebuild-lock")), anyString());
+    }
+}
@@ -5,8 +5,10 @@ import com.archiservice.common.jwt.JwtUtil;
 import com.archiservice.common.jwt.RefreshTokenService;
 import com.archiservice.common.response.ApiResponse;
 import com.archiservice.common.security.CustomUser;
+import com.archiservice.common.security.UserCache;
 import com.archiservice.exception.BusinessException;
 import com.archiservice.exception.ErrorCode;
+import com.archiservice.recommend.component.RecommendationCache;
 import com.archiservice.survey.domain.Option;
 import com.archiservice.survey.domain.Question;
 import com.archiservice.survey.dto.QuestionHistoryDto;
@@ -48,6 +50,8 @@ class SurveyServiceImplTest {
     @Mock private TagMetaService metaService;
     @Mock private RefreshTokenService refreshTokenService;
     @Mock private JwtUtil jwtUtil;
+    @Mock private RecommendationCache recommendationCache;
+    @Mock private UserCache userCache;
 
     @InjectMocks
     private SurveyServiceImpl surveyService;
@@ -179,6 +183,7 @@ class SurveyServiceImplTest {
         
         verify(mockUser).setTagCode(25L);
         verify(userRepository).save(mockUser);
+        verify(recommendationCache).evict(userId);
         
         // 세션 정리 확인
         assertThat(session.getAttribute("tagCodeSum")).isNull();
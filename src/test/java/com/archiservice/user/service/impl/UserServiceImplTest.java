@@ -4,8 +4,10 @@ import com.archiservice.code.tagmeta.domain.TagMeta;
 import com.archiservice.code.tagmeta.service.TagMetaService;
 import com.archiservice.common.jwt.JwtUtil;
 import com.archiservice.common.security.CustomUser;
+import com.archiservice.common.security.UserCache;
 import com.archiservice.exception.business.InvalidPasswordException;
 import com.archiservice.exception.business.UserNotFoundException;
+import com.archiservice.recommend.component.RecommendationCache;
 import com.archiservice.user.domain.User;
 import com.archiservice.user.dto.request.PasswordUpdateRequestDto;
 import com.archiservice.user.dto.request.TendencyUpdateRequestDto;
@@ -38,6 +40,8 @@ class UserServiceImplTest {
     @Mock private PasswordEncoder passwordEncoder;
     @Mock private TagMetaService tagMetaService;
     @Mock private JwtUtil jwtUtil;
+    @Mock private RecommendationCache recommendationCache;
+    @Mock private UserCache userCache;
 
     @InjectMocks
     private UserServiceImpl userService;
@@ -143,7 +147,7 @@ class UserServiceImplTest {
         User mockUser = createMockUser(1L, "test@test.com", "홍길동");
         
         when(userRepository.findById(1L)).thenReturn(Optional.of(mockUser));
-        when(jwtUtil.generateAccessToken(customUser)).thenReturn("new-access-token");
+        when(jwtUtil.generateAccessToken(any(CustomUser.class))).thenReturn("new-access-token");
 
         // when
         String result = userService.updateTendency(request, customUser);
@@ -151,6 +155,9 @@ class UserServiceImplTest {
         // then
         verify(mockUser).setTagCode(15L);
         verify(userRepository).save(mockUser);
+        verify(recommendationCache).evict(1L);
+        verify(userCache).evict(1L);
+        verify(jwtUtil).generateAccessToken(argThat(issued -> issued.getUser() == mockUser));
         assertThat(result).isEqualTo("new-access-token");
     }
 
@@ -169,7 +176,7 @@ class UserServiceImplTest {
         when(userRepository.findById(1L)).thenReturn(Optional.of(mockUser));
         when(tagMetaService.findTagMetaByKey("FOOD")).thenReturn(foodMeta);
         when(tagMetaService.findTagMetaByKey("TRAVEL")).thenReturn(travelMeta);
-        when(jwtUtil.generateAccessToken(customUser)).thenReturn("new-access-token");
+        when(jwtUtil.generateAccessToken(any(CustomUser.class))).thenReturn("new-access-token");
 
         // when
         String result = userService.updateTendency(request, customUser);
@@ -226,7 +233,7 @@ class UserServiceImplTest {
         when(userRepository.findById(1L)).thenReturn(Optional.of(mockUser));
         when(tagMetaService.findTagMetaByKey("NONEXISTENT")).thenReturn(null);
         when(tagMetaService.findTagMetaByKey("FOOD")).thenReturn(foodMeta);
-        when(jwtUtil.generateAccessToken(customUser)).thenReturn("new-access-token");
+        when(jwtUtil.generateAccessToken(any(CustomUser.class))).thenReturn("new-access-token");
 
         // when
         String result = userService.updateTendency(request, customUser);